@@ -0,0 +1,142 @@
+package com.quantiphi.orderservice.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and outcome statistics per operation, recorded in microseconds.
+ * <p>
+ * Two histograms are kept per operation. <em>Response time</em> is measured from the
+ * moment the request was scheduled to start, so time a request spent waiting because
+ * the generator or the connection pool fell behind is counted; this is the
+ * coordinated-omission-corrected figure to quote. <em>Service time</em> is measured
+ * from the moment the request was actually sent and is shown for comparison only.
+ */
+final class LatencyStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<Operation, Recorder> responseTimes = new EnumMap<>(Operation.class);
+    private final Map<Operation, Recorder> serviceTimes = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    LatencyStats() {
+        for (Operation operation : Operation.values()) {
+            responseTimes.put(operation, new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+            serviceTimes.put(operation, new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * Records one completed request.
+     *
+     * @param operation the operation
+     * @param intendedStartNanos when the request was scheduled to start
+     * @param sentNanos when it was actually sent
+     * @param endNanos when the response (or failure) arrived
+     * @param outcome the HTTP status code, or an exception name
+     * @param success whether the outcome counts as a success
+     */
+    void record(Operation operation, long intendedStartNanos, long sentNanos, long endNanos,
+                String outcome, boolean success) {
+        responseTimes.get(operation).recordValue(toMicros(endNanos - intendedStartNanos));
+        serviceTimes.get(operation).recordValue(toMicros(endNanos - sentNanos));
+        if (!success) {
+            errors.get(operation).increment();
+        }
+        outcomes.computeIfAbsent(operation.getKey() + " " + outcome, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Prints the summary table and, if a directory is given, writes one percentile
+     * distribution file ({@code <operation>.hgrm}, in milliseconds) per operation.
+     *
+     * @param out where to print
+     * @param measuredSeconds the length of the measurement window
+     * @param targetRate the configured arrival rate
+     * @param histogramDir the directory for .hgrm files, or null
+     */
+    void report(PrintStream out, double measuredSeconds, double targetRate, Path histogramDir) throws IOException {
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        out.printf("%n%-8s %9s %9s %9s %9s %9s %9s %9s %9s %8s%n", "op", "count", "req/s",
+            "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "svc p99", "errors");
+        for (Operation operation : Operation.values()) {
+            Histogram response = responseTimes.get(operation).getIntervalHistogram();
+            Histogram service = serviceTimes.get(operation).getIntervalHistogram();
+            if (response.getTotalCount() == 0) {
+                continue;
+            }
+            total.add(response);
+            printRow(out, operation.getKey(), response, service, errors.get(operation).sum(), measuredSeconds);
+            if (histogramDir != null) {
+                writeDistribution(histogramDir.resolve(operation.getKey() + ".hgrm"), response);
+            }
+        }
+        long totalErrors = errors.values().stream().mapToLong(LongAdder::sum).sum();
+        printRow(out, "total", total, null, totalErrors, measuredSeconds);
+        if (histogramDir != null) {
+            writeDistribution(histogramDir.resolve("total.hgrm"), total);
+        }
+
+        out.printf("%nTarget rate %.1f req/s, achieved %.1f req/s over %.1f s%n",
+            targetRate, total.getTotalCount() / measuredSeconds, measuredSeconds);
+        out.println("Latencies are response times from the scheduled start (coordinated omission corrected);");
+        out.println("'svc p99' is measured from the actual send and is shown for comparison only.");
+        out.println();
+        out.println("Outcomes:");
+        new TreeMap<>(outcomes).forEach((outcome, count) -> out.printf("  %-28s %d%n", outcome, count.sum()));
+    }
+
+    /**
+     * Discards everything recorded so far, for example during warm-up.
+     */
+    void reset() {
+        responseTimes.values().forEach(Recorder::reset);
+        serviceTimes.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+        outcomes.clear();
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram response, Histogram service,
+                                 long errors, double seconds) {
+        out.printf("%-8s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %9s %8d%n", name,
+            response.getTotalCount(),
+            response.getTotalCount() / seconds,
+            millis(response.getValueAtPercentile(50)),
+            millis(response.getValueAtPercentile(90)),
+            millis(response.getValueAtPercentile(99)),
+            millis(response.getValueAtPercentile(99.9)),
+            millis(response.getMaxValue()),
+            service == null ? "" : String.format("%.2f", millis(service.getValueAtPercentile(99))),
+            errors);
+    }
+
+    private static void writeDistribution(Path file, Histogram histogram) throws IOException {
+        Files.createDirectories(file.getParent());
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(Math.max(nanos / 1000, 0), HIGHEST_TRACKABLE_MICROS);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,161 @@
+package com.quantiphi.orderservice.loadtest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * A traffic profile: target, arrival process, operation mix and payload shape.
+ * Read from a properties file and overridden by {@code --key=value} arguments,
+ * using the same keys.
+ */
+public final class LoadProfile {
+
+    /** How request start times are spaced. */
+    public enum Arrival {
+        /** Evenly spaced at 1/rate. */
+        CONSTANT,
+        /** Exponentially distributed gaps with mean 1/rate, as from many independent clients. */
+        POISSON
+    }
+
+    private final URI baseUrl;
+    private final double rate;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Arrival arrival;
+    private final WeightedChoice<Operation> mix;
+    private final OrderSizeDistribution orderSize;
+    private final int customers;
+    private final int products;
+    private final int preload;
+    private final long seed;
+    private final Duration requestTimeout;
+    private final Path histogramDir;
+
+    private LoadProfile(Properties properties) {
+        this.baseUrl = URI.create(properties.getProperty("base-url", "http://localhost:8080"));
+        this.rate = Double.parseDouble(properties.getProperty("rate", "100"));
+        this.warmup = parseDuration(properties.getProperty("warmup", "10s"));
+        this.duration = parseDuration(properties.getProperty("duration", "60s"));
+        this.arrival = Arrival.valueOf(properties.getProperty("arrival", "poisson").toUpperCase(Locale.ROOT));
+        this.mix = WeightedChoice.parse(properties.getProperty("mix", "create=20,get=70,update=10"), '=',
+            Operation::fromKey);
+        this.orderSize = OrderSizeDistribution.parse(properties.getProperty("order-size", "1-3:70,4-10:25,11-50:5"));
+        this.customers = Integer.parseInt(properties.getProperty("customers", "10000"));
+        this.products = Integer.parseInt(properties.getProperty("products", "1000"));
+        this.preload = Integer.parseInt(properties.getProperty("preload", "500"));
+        this.seed = Long.parseLong(properties.getProperty("seed", "42"));
+        this.requestTimeout = parseDuration(properties.getProperty("request-timeout", "10s"));
+        String histograms = properties.getProperty("histogram-dir", "");
+        this.histogramDir = histograms.isBlank() ? null : Path.of(histograms);
+        if (rate <= 0) {
+            throw new IllegalArgumentException("rate must be positive");
+        }
+    }
+
+    /**
+     * Builds a profile from command-line arguments. {@code --profile=<file>} names the
+     * properties file to start from; every other {@code --key=value} overrides it.
+     *
+     * @param args the command-line arguments
+     * @return the profile
+     */
+    public static LoadProfile fromArgs(String[] args) throws IOException {
+        Properties properties = new Properties();
+        Properties overrides = new Properties();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value but got '" + arg + "'");
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (key.equals("profile")) {
+                try (Reader reader = Files.newBufferedReader(Path.of(value))) {
+                    properties.load(reader);
+                }
+            } else {
+                overrides.setProperty(key, value);
+            }
+        }
+        properties.putAll(overrides);
+        return new LoadProfile(properties);
+    }
+
+    /**
+     * Parses durations such as {@code 500ms}, {@code 30s}, {@code 5m}, {@code 1h} or ISO-8601.
+     */
+    static Duration parseDuration(String value) {
+        String text = value.trim().toLowerCase(Locale.ROOT);
+        if (text.startsWith("p")) {
+            return Duration.parse(text.toUpperCase(Locale.ROOT));
+        }
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        long amount = Long.parseLong(text.substring(0, text.length() - 1));
+        return switch (text.charAt(text.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> throw new IllegalArgumentException("Unknown duration '" + value + "'");
+        };
+    }
+
+    public URI getBaseUrl() {
+        return baseUrl;
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Arrival getArrival() {
+        return arrival;
+    }
+
+    public WeightedChoice<Operation> getMix() {
+        return mix;
+    }
+
+    public OrderSizeDistribution getOrderSize() {
+        return orderSize;
+    }
+
+    public int getCustomers() {
+        return customers;
+    }
+
+    public int getProducts() {
+        return products;
+    }
+
+    public int getPreload() {
+        return preload;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    public Path getHistogramDir() {
+        return histogramDir;
+    }
+}
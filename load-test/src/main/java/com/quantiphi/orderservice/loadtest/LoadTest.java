@@ -0,0 +1,219 @@
+package com.quantiphi.orderservice.loadtest;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Open-loop load generator for the order API.
+ * <p>
+ * Request start times are fixed in advance by the arrival process (constant or
+ * Poisson at the configured rate) and do not wait for earlier responses, the way
+ * independent clients behave. A single dispatcher thread draws every random choice
+ * from one seeded {@link Random}, so a profile replays the same sequence of
+ * operations, payloads and gaps on every run. Latency is measured from each
+ * request's scheduled start, which corrects for coordinated omission.
+ * <p>
+ * Usage: {@code java -jar order-load-test.jar --profile=profiles/baseline.properties [--key=value ...]}
+ */
+public final class LoadTest {
+
+    private static final Pattern ORDER_ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final int PRELOAD_CONCURRENCY = 32;
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadProfile profile;
+    private final HttpClient client;
+    private final ExecutorService callbacks;
+    private final LatencyStats stats = new LatencyStats();
+    private final OrderPool orders = new OrderPool();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Random random;
+
+    private volatile boolean measuring;
+
+    private LoadTest(LoadProfile profile) {
+        this.profile = profile;
+        this.callbacks = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        this.client = HttpClient.newBuilder()
+            .executor(callbacks)
+            .connectTimeout(profile.getRequestTimeout())
+            .build();
+        this.random = new Random(profile.getSeed());
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadProfile profile = LoadProfile.fromArgs(args);
+        new LoadTest(profile).run();
+    }
+
+    private void run() throws IOException, InterruptedException {
+        System.out.printf("Target %s, %.1f req/s (%s arrivals), warm-up %s, measure %s, seed %d%n",
+            profile.getBaseUrl(), profile.getRate(), profile.getArrival().name().toLowerCase(),
+            profile.getWarmup(), profile.getDuration(), profile.getSeed());
+        try {
+            preload();
+            long start = System.nanoTime();
+            long measureFrom = start + profile.getWarmup().toNanos();
+            long end = measureFrom + profile.getDuration().toNanos();
+            dispatch(start, measureFrom, end);
+            awaitInFlight();
+            double measuredSeconds = (System.nanoTime() - measureFrom) / 1e9;
+            stats.report(System.out, Math.min(measuredSeconds, profile.getDuration().toNanos() / 1e9),
+                profile.getRate(), profile.getHistogramDir());
+        } finally {
+            callbacks.shutdownNow();
+        }
+    }
+
+    /**
+     * Creates the configured number of orders, unmeasured, so reads and updates have targets.
+     */
+    private void preload() throws InterruptedException {
+        if (profile.getPreload() == 0) {
+            return;
+        }
+        Semaphore permits = new Semaphore(PRELOAD_CONCURRENCY);
+        for (int i = 0; i < profile.getPreload(); i++) {
+            permits.acquire();
+            send(Operation.CREATE, createRequest(), System.nanoTime())
+                .whenComplete((response, error) -> permits.release());
+        }
+        permits.acquire(PRELOAD_CONCURRENCY);
+        System.out.printf("Preloaded %d orders%n", profile.getPreload());
+    }
+
+    private void dispatch(long start, long measureFrom, long end) {
+        double meanGapNanos = 1e9 / profile.getRate();
+        double intended = start;
+        while (intended < end) {
+            long startAt = (long) intended;
+            long wait;
+            while ((wait = startAt - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!measuring && startAt >= measureFrom) {
+                stats.reset();
+                measuring = true;
+            }
+            issue(profile.getMix().next(random), startAt);
+            intended += profile.getArrival() == LoadProfile.Arrival.CONSTANT
+                ? meanGapNanos
+                : -Math.log(1 - random.nextDouble()) * meanGapNanos;
+        }
+    }
+
+    private void issue(Operation operation, long intendedStart) {
+        if (operation == Operation.GET) {
+            long orderId = orders.randomOrder(random);
+            if (orderId > 0) {
+                send(operation, HttpRequest.newBuilder(orderUri("/" + orderId)).GET(), intendedStart);
+                return;
+            }
+        } else if (operation == Operation.UPDATE_STATUS) {
+            Long orderId = orders.pollCreated();
+            String status = "PROCESSING";
+            if (orderId == null) {
+                orderId = orders.pollProcessing();
+                status = "COMPLETED";
+            }
+            if (orderId != null) {
+                HttpRequest.Builder request = HttpRequest.newBuilder(orderUri("/" + orderId + "/status"))
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"status\":\"" + status + "\"}"));
+                long updated = orderId;
+                boolean toProcessing = status.equals("PROCESSING");
+                send(operation, request, intendedStart).thenAccept(response -> {
+                    if (toProcessing && response.statusCode() == 200) {
+                        orders.processing(updated);
+                    }
+                });
+                return;
+            }
+        }
+        // Nothing to read or update yet: create instead
+        send(Operation.CREATE, createRequest(), intendedStart);
+    }
+
+    private HttpRequest.Builder createRequest() {
+        StringBuilder body = new StringBuilder(256)
+            .append("{\"customerId\":\"customer-").append(random.nextInt(profile.getCustomers()))
+            .append("\",\"items\":[");
+        int items = profile.getOrderSize().next(random);
+        for (int i = 0; i < items; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"productId\":\"PROD-").append(random.nextInt(profile.getProducts()))
+                .append("\",\"quantity\":").append(1 + random.nextInt(5))
+                .append(",\"price\":").append(BigDecimal.valueOf(100 + random.nextInt(20_000), 2))
+                .append('}');
+        }
+        body.append("]}");
+        return HttpRequest.newBuilder(orderUri(""))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body.toString()));
+    }
+
+    private CompletableFuture<HttpResponse<String>> send(Operation operation, HttpRequest.Builder request,
+                                                         long intendedStart) {
+        boolean measured = measuring;
+        inFlight.incrementAndGet();
+        long sent = System.nanoTime();
+        return client.sendAsync(request.timeout(profile.getRequestTimeout()).build(),
+                HttpResponse.BodyHandlers.ofString())
+            .whenComplete((response, error) -> {
+                long now = System.nanoTime();
+                inFlight.decrementAndGet();
+                if (response != null && operation == Operation.CREATE && response.statusCode() == 201) {
+                    Matcher id = ORDER_ID.matcher(response.body());
+                    if (id.find()) {
+                        orders.added(Long.parseLong(id.group(1)));
+                    }
+                }
+                if (measured) {
+                    boolean success = response != null && response.statusCode() < 400;
+                    String outcome = response != null
+                        ? String.valueOf(response.statusCode())
+                        : rootCause(error).getClass().getSimpleName();
+                    stats.record(operation, intendedStart, sent, now, outcome, success);
+                }
+            });
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        if (inFlight.get() > 0) {
+            System.out.printf("%d requests still in flight after %s were not recorded%n", inFlight.get(), DRAIN_TIMEOUT);
+        }
+    }
+
+    private URI orderUri(String path) {
+        return profile.getBaseUrl().resolve("/api/v1/orders" + path);
+    }
+
+    private static Throwable rootCause(Throwable error) {
+        Throwable cause = error;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -0,0 +1,34 @@
+package com.quantiphi.orderservice.loadtest;
+
+/**
+ * The API calls the load generator issues.
+ */
+public enum Operation {
+    /** POST /api/v1/orders */
+    CREATE("create"),
+
+    /** GET /api/v1/orders/{id} */
+    GET("get"),
+
+    /** PATCH /api/v1/orders/{id}/status, moving an order one step along CREATED → PROCESSING → COMPLETED */
+    UPDATE_STATUS("update");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation '" + key + "', expected create, get or update");
+    }
+}
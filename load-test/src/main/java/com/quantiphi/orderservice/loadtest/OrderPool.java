@@ -0,0 +1,56 @@
+package com.quantiphi.orderservice.loadtest;
+
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Orders created during the run, used as targets for reads and status updates.
+ * Reads pick from the most recent {@value #CAPACITY} orders; status updates take
+ * orders in creation order so each transition is valid.
+ */
+final class OrderPool {
+
+    private static final int CAPACITY = 1 << 16;
+
+    private final AtomicLongArray recent = new AtomicLongArray(CAPACITY);
+    private final AtomicLong added = new AtomicLong();
+    private final ConcurrentLinkedQueue<Long> created = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Long> processing = new ConcurrentLinkedQueue<>();
+
+    void added(long orderId) {
+        recent.set((int) (added.getAndIncrement() & (CAPACITY - 1)), orderId);
+        created.offer(orderId);
+    }
+
+    void processing(long orderId) {
+        processing.offer(orderId);
+    }
+
+    /**
+     * @return a recently created order ID, or -1 if there is none yet
+     */
+    long randomOrder(Random random) {
+        long count = Math.min(added.get(), CAPACITY);
+        if (count == 0) {
+            return -1;
+        }
+        long orderId = recent.get(random.nextInt((int) count));
+        return orderId == 0 ? -1 : orderId;
+    }
+
+    /**
+     * @return an order to move from CREATED to PROCESSING, or null
+     */
+    Long pollCreated() {
+        return created.poll();
+    }
+
+    /**
+     * @return an order to move from PROCESSING to COMPLETED, or null
+     */
+    Long pollProcessing() {
+        return processing.poll();
+    }
+}
@@ -0,0 +1,36 @@
+package com.quantiphi.orderservice.loadtest;
+
+import java.util.Random;
+
+/**
+ * Distribution of the number of items per created order.
+ * Parsed from weighted ranges such as {@code 1-3:70,4-10:25,11-50:5}: 70% of orders
+ * have 1 to 3 items, uniformly, and so on. A single number stands for itself.
+ */
+public final class OrderSizeDistribution {
+
+    private final WeightedChoice<int[]> ranges;
+
+    private OrderSizeDistribution(WeightedChoice<int[]> ranges) {
+        this.ranges = ranges;
+    }
+
+    public static OrderSizeDistribution parse(String spec) {
+        return new OrderSizeDistribution(WeightedChoice.parse(spec, ':', OrderSizeDistribution::parseRange));
+    }
+
+    public int next(Random random) {
+        int[] range = ranges.next(random);
+        return range[0] + random.nextInt(range[1] - range[0] + 1);
+    }
+
+    private static int[] parseRange(String range) {
+        int dash = range.indexOf('-');
+        int min = Integer.parseInt((dash < 0 ? range : range.substring(0, dash)).trim());
+        int max = dash < 0 ? min : Integer.parseInt(range.substring(dash + 1).trim());
+        if (min < 1 || max < min) {
+            throw new IllegalArgumentException("Invalid item count range '" + range + "'");
+        }
+        return new int[] {min, max};
+    }
+}
@@ -0,0 +1,83 @@
+package com.quantiphi.orderservice.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Picks values at random in proportion to their weights.
+ * Parsed from a spec such as {@code create=20,get=70,update=10}; an entry without a
+ * weight counts as weight 1.
+ */
+public final class WeightedChoice<T> {
+
+    private final List<T> values;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    private WeightedChoice(List<T> values, int[] cumulativeWeights) {
+        this.values = values;
+        this.cumulativeWeights = cumulativeWeights;
+        this.totalWeight = cumulativeWeights[cumulativeWeights.length - 1];
+    }
+
+    /**
+     * Parses comma-separated {@code value<separator>weight} pairs.
+     *
+     * @param spec the spec, e.g. {@code create=20,get=80}
+     * @param separator the character between value and weight
+     * @param parser converts the value part
+     * @return the weighted choice
+     */
+    public static <T> WeightedChoice<T> parse(String spec, char separator, Function<String, T> parser) {
+        List<T> values = new ArrayList<>();
+        List<Integer> cumulative = new ArrayList<>();
+        int total = 0;
+        for (String part : spec.split(",")) {
+            String entry = part.trim();
+            int at = entry.lastIndexOf(separator);
+            if (at == 0) {
+                throw new IllegalArgumentException("Expected value" + separator + "weight but got '" + entry + "'");
+            }
+            int weight = at < 0 ? 1 : Integer.parseInt(entry.substring(at + 1).trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weights must not be negative: '" + entry + "'");
+            }
+            if (weight == 0) {
+                continue;
+            }
+            total += weight;
+            values.add(parser.apply((at < 0 ? entry : entry.substring(0, at)).trim()));
+            cumulative.add(total);
+        }
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("At least one positive weight is required: '" + spec + "'");
+        }
+        return new WeightedChoice<>(values, cumulative.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    public T next(Random random) {
+        int point = random.nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return values.get(i);
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    /**
+     * Returns the share of picks a value receives, between 0 and 1.
+     */
+    public double share(T value) {
+        int previous = 0;
+        for (int i = 0; i < values.size(); i++) {
+            if (values.get(i).equals(value)) {
+                return (cumulativeWeights[i] - previous) / (double) totalWeight;
+            }
+            previous = cumulativeWeights[i];
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,68 @@
+package com.quantiphi.orderservice.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadProfileTest {
+
+    @Test
+    void fromArgs_OverridesReplaceDefaults() throws Exception {
+        // Act
+        LoadProfile profile = LoadProfile.fromArgs(new String[] {
+            "--rate=250", "--duration=5m", "--warmup=PT15S", "--arrival=constant", "--mix=create=1,get=3"});
+
+        // Assert
+        assertEquals(250.0, profile.getRate());
+        assertEquals(Duration.ofMinutes(5), profile.getDuration());
+        assertEquals(Duration.ofSeconds(15), profile.getWarmup());
+        assertEquals(LoadProfile.Arrival.CONSTANT, profile.getArrival());
+        assertEquals(0.25, profile.getMix().share(Operation.CREATE), 1e-9);
+        assertEquals(0.0, profile.getMix().share(Operation.UPDATE_STATUS), 1e-9);
+    }
+
+    @Test
+    void mix_SameSeed_ReplaysSameSequenceInProportion() {
+        // Arrange
+        WeightedChoice<Operation> mix = WeightedChoice.parse("create=20,get=70,update=10", '=', Operation::fromKey);
+        Random first = new Random(42);
+        Random second = new Random(42);
+        Map<Operation, Integer> counts = new EnumMap<>(Operation.class);
+
+        // Act
+        for (int i = 0; i < 100_000; i++) {
+            Operation operation = mix.next(first);
+            assertEquals(operation, mix.next(second));
+            counts.merge(operation, 1, Integer::sum);
+        }
+
+        // Assert
+        assertEquals(70_000, counts.get(Operation.GET), 1_000);
+        assertEquals(10_000, counts.get(Operation.UPDATE_STATUS), 1_000);
+    }
+
+    @Test
+    void orderSize_StaysWithinConfiguredRanges() {
+        // Arrange
+        OrderSizeDistribution sizes = OrderSizeDistribution.parse("1-3:70,11-50:30");
+        Random random = new Random(1);
+
+        // Act & Assert
+        for (int i = 0; i < 10_000; i++) {
+            int size = sizes.next(random);
+            assertTrue((size >= 1 && size <= 3) || (size >= 11 && size <= 50), "unexpected size " + size);
+        }
+    }
+
+    @Test
+    void parse_InvalidSpec_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> OrderSizeDistribution.parse("5-2:10"));
+        assertThrows(IllegalArgumentException.class,
+            () -> WeightedChoice.parse("delete=10", '=', Operation::fromKey));
+    }
+}
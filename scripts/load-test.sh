@@ -0,0 +1,45 @@
+#!/usr/bin/env bash
+#
+# Builds the service and the load generator, starts the service locally, runs one
+# traffic profile from load-test/profiles against it and stops it again.
+#
+# Usage: scripts/load-test.sh [profile] [extra --key=value overrides]
+#   e.g. scripts/load-test.sh baseline --rate=300
+#
+# Set BASE_URL to run against an already running instance instead.
+
+set -euo pipefail
+
+PROFILE="${1:-smoke}"
+shift || true
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+PORT="${PORT:-18080}"
+RESULTS="$ROOT/load-test/target/results/$PROFILE-$(date +%Y%m%d-%H%M%S)"
+
+mvn -q -f "$ROOT/load-test/pom.xml" package -DskipTests
+
+SERVICE_PID=""
+if [[ -z "${BASE_URL:-}" ]]; then
+    mvn -q -f "$ROOT/pom.xml" package -DskipTests
+    BASE_URL="http://localhost:$PORT"
+    # Rate limits are off so that the single load generator measures capacity, not its own quota
+    java -jar "$ROOT/target/order-processing-service-1.0.0.jar" --server.port="$PORT" \
+        --orders.rate-limit.enabled=false \
+        > "$ROOT/load-test/target/service.log" 2>&1 &
+    SERVICE_PID=$!
+    trap 'kill "$SERVICE_PID" 2>/dev/null || true' EXIT
+    until curl -fs "$BASE_URL/actuator/health" 2>/dev/null | grep -q '"UP"'; do
+        if ! kill -0 "$SERVICE_PID" 2>/dev/null; then
+            echo "service exited during startup, see load-test/target/service.log" >&2
+            exit 1
+        fi
+        sleep 0.5
+    done
+fi
+
+java -jar "$ROOT/load-test/target/order-load-test.jar" \
+    --profile="$ROOT/load-test/profiles/$PROFILE.properties" \
+    --base-url="$BASE_URL" \
+    --histogram-dir="$RESULTS" \
+    "$@"
+echo "Percentile distributions written to $RESULTS"
@@ -0,0 +1,17 @@
+#!/usr/bin/env bash
+#
+# Runs JMH benchmarks from src/test/java/com/quantiphi/orderservice/benchmark.
+#
+# Usage: scripts/run-benchmark.sh <benchmark-regex> [extra JMH options]
+#   e.g. scripts/run-benchmark.sh ShardScalingBenchmark -p shards=1,8
+
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+CLASSPATH_FILE="$ROOT/target/benchmark.classpath"
+
+mvn -q -f "$ROOT/pom.xml" test-compile dependency:build-classpath \
+    -Dmdep.includeScope=test -Dmdep.outputFile="$CLASSPATH_FILE"
+
+java -cp "$ROOT/target/test-classes:$ROOT/target/classes:$(cat "$CLASSPATH_FILE")" \
+    org.openjdk.jmh.Main "$@"
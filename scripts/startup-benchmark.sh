@@ -0,0 +1,80 @@
+#!/usr/bin/env bash
+#
+# Measures time-to-ready and resident memory of the service in each startup mode
+# that has been built:
+#
+#   jar      - fat jar                                (mvn package)
+#   cds      - plain-jar layout with an AppCDS archive (mvn package -Pcds)
+#   cds+aot  - as above with Spring AOT enabled        (mvn package -Paot,cds)
+#   native   - GraalVM native executable               (mvn -Pnative native:compile)
+#
+# Usage: scripts/startup-benchmark.sh [runs-per-mode] [port]
+
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${2:-18080}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+TARGET="$ROOT/target"
+FAT_JAR="$TARGET/order-processing-service-1.0.0.jar"
+CDS_DIR="$TARGET/cds"
+CDS_JAR="$CDS_DIR/order-processing-service-1.0.0-cds.jar"
+NATIVE_BIN="$TARGET/order-processing-service"
+HEALTH_URL="http://localhost:$PORT/actuator/health"
+
+now_ms() {
+    date +%s%3N
+}
+
+# Starts a command, waits until the health endpoint reports UP and prints "<millis> <rss-kb>"
+measure() {
+    local start pid elapsed rss
+    start=$(now_ms)
+    "$@" --server.port="$PORT" > /dev/null 2>&1 &
+    pid=$!
+    until curl -fs "$HEALTH_URL" 2>/dev/null | grep -q '"UP"'; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "process exited before becoming ready: $*" >&2
+            return 1
+        fi
+        sleep 0.05
+    done
+    elapsed=$(( $(now_ms) - start ))
+    rss=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo "$elapsed $rss"
+}
+
+median() {
+    sort -n | awk '{ values[NR] = $1 } END { print values[int((NR + 1) / 2)] }'
+}
+
+run_mode() {
+    local name="$1"
+    shift
+    local results=()
+    for _ in $(seq "$RUNS"); do
+        results+=("$(measure "$@")")
+    done
+    local ready rss
+    ready=$(printf '%s\n' "${results[@]}" | awk '{print $1}' | median)
+    rss=$(printf '%s\n' "${results[@]}" | awk '{print $2}' | median)
+    printf '%-10s %12s %12s\n' "$name" "$ready" "$(( rss / 1024 ))"
+}
+
+printf '%-10s %12s %12s\n' "mode" "ready (ms)" "RSS (MB)"
+
+if [[ -f "$FAT_JAR" ]]; then
+    run_mode jar java -jar "$FAT_JAR"
+fi
+if [[ -f "$CDS_DIR/application.jsa" ]]; then
+    run_mode cds java -XX:SharedArchiveFile="$CDS_DIR/application.jsa" -jar "$CDS_JAR"
+    if compgen -G "$ROOT/target/spring-aot/main/sources/*" > /dev/null; then
+        run_mode cds+aot java -XX:SharedArchiveFile="$CDS_DIR/application.jsa" \
+            -Dspring.aot.enabled=true -jar "$CDS_JAR"
+    fi
+fi
+if [[ -x "$NATIVE_BIN" ]]; then
+    run_mode native "$NATIVE_BIN"
+fi
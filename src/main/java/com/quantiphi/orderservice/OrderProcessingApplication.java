@@ -1,9 +1,12 @@
 package com.quantiphi.orderservice;
 
+import com.quantiphi.orderservice.config.OrderRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(OrderRuntimeHints.class)
 public class OrderProcessingApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,78 @@
+package com.quantiphi.orderservice.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quantiphi.orderservice.exception.ErrorResponse;
+import com.quantiphi.orderservice.ratelimit.ReadRateLimitFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Servlet filter that admits order requests through a {@link GradientConcurrencyLimiter}.
+ * Writes (POST, PATCH) take priority over reads; a multi-get is a read. Requests that
+ * cannot be admitted fail fast with HTTP 503 and a Retry-After header instead of queueing.
+ */
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(AdmissionControlFilter.class);
+
+    private final GradientConcurrencyLimiter limiter;
+    private final AdmissionControlProperties properties;
+    private final ObjectMapper objectMapper;
+
+    public AdmissionControlFilter(GradientConcurrencyLimiter limiter,
+                                  AdmissionControlProperties properties,
+                                  ObjectMapper objectMapper) {
+        this.limiter = limiter;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean priority = isWrite(request);
+        if (!limiter.tryAcquire(priority)) {
+            log.warn("Rejected {} {}: concurrency limit {} reached", request.getMethod(),
+                    request.getRequestURI(), limiter.getLimit());
+            reject(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release(System.nanoTime() - start);
+        }
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        return ("POST".equals(method) && !ReadRateLimitFilter.isMultiGet(request)) || "PATCH".equals(method);
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ErrorResponse error = new ErrorResponse(
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            "Service Unavailable",
+            "Server is at capacity, please retry later",
+            request.getRequestURI()
+        );
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER,
+                String.valueOf(Math.max(1, properties.getRetryAfter().toSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+}
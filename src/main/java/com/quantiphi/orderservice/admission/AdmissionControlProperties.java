@@ -0,0 +1,100 @@
+package com.quantiphi.orderservice.admission;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for adaptive admission control on the order endpoints.
+ */
+@ConfigurationProperties(prefix = "orders.admission")
+public class AdmissionControlProperties {
+
+    /** Whether the concurrency-limiting filter is installed. */
+    private boolean enabled = true;
+
+    /** Concurrency limit used until enough latency samples have been observed. */
+    private int initialLimit = 50;
+
+    /** Lower bound for the adaptive limit. */
+    private int minLimit = 10;
+
+    /** Upper bound for the adaptive limit. */
+    private int maxLimit = 400;
+
+    /** Fraction of the limit that reads may occupy; the remainder is reserved for writes. */
+    private double readShare = 0.8;
+
+    /** Weight given to each new limit estimate (0..1]. */
+    private double smoothing = 0.2;
+
+    /** Tolerated ratio between the sampled and the long-term latency before the limit shrinks. */
+    private double rttTolerance = 1.5;
+
+    /** Value of the Retry-After header sent with 503 responses. */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    public double getReadShare() {
+        return readShare;
+    }
+
+    public void setReadShare(double readShare) {
+        this.readShare = readShare;
+    }
+
+    public double getSmoothing() {
+        return smoothing;
+    }
+
+    public void setSmoothing(double smoothing) {
+        this.smoothing = smoothing;
+    }
+
+    public double getRttTolerance() {
+        return rttTolerance;
+    }
+
+    public void setRttTolerance(double rttTolerance) {
+        this.rttTolerance = rttTolerance;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    public void setRetryAfter(Duration retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+}
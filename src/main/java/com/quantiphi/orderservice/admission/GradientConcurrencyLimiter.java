@@ -0,0 +1,128 @@
+package com.quantiphi.orderservice.admission;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrency limiter whose limit adapts to observed latency.
+ * A long-term exponential average of request latency is compared with each new
+ * sample; while samples stay within the configured tolerance the limit grows by
+ * a small queue allowance, and once latency rises the limit shrinks
+ * proportionally (gradient style, similar to Netflix's Gradient2 limiter).
+ * Reads may only occupy a share of the limit so that writes keep headroom
+ * when the service is saturated.
+ */
+public class GradientConcurrencyLimiter implements MeterBinder {
+
+    private static final double LONG_RTT_WINDOW = 600;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final AdmissionControlProperties properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejectedWrites = new LongAdder();
+    private final LongAdder rejectedReads = new LongAdder();
+
+    private volatile int limit;
+
+    // Guarded by "this"
+    private double estimatedLimit;
+    private double longRttNanos;
+
+    public GradientConcurrencyLimiter(AdmissionControlProperties properties) {
+        this.properties = properties;
+        this.estimatedLimit = properties.getInitialLimit();
+        this.limit = properties.getInitialLimit();
+    }
+
+    /**
+     * Attempts to admit a request.
+     *
+     * @param priority true for writes, which may use the full limit
+     * @return true if the request was admitted and {@link #release(long)} must be called
+     */
+    public boolean tryAcquire(boolean priority) {
+        int allowed = priority ? limit : Math.max(1, (int) (limit * properties.getReadShare()));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                (priority ? rejectedWrites : rejectedReads).increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases an admitted request and feeds its latency into the limit estimate.
+     *
+     * @param rttNanos the observed request latency in nanoseconds
+     */
+    public void release(long rttNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        updateLimit(rttNanos, inFlightAtCompletion);
+    }
+
+    private synchronized void updateLimit(long rttNanos, int inFlightAtCompletion) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+        } else {
+            longRttNanos += (rttNanos - longRttNanos) * (2.0 / (LONG_RTT_WINDOW + 1));
+        }
+        // Let the baseline recover quickly after a latency spike has passed
+        if (longRttNanos / rttNanos > 2.0) {
+            longRttNanos *= 0.95;
+        }
+        // Application-limited: there is no signal about the limit when it is barely used
+        if (inFlightAtCompletion < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT,
+                Math.min(1.0, properties.getRttTolerance() * longRttNanos / rttNanos));
+        double queueSize = Math.sqrt(estimatedLimit);
+        double newLimit = estimatedLimit * gradient + queueSize;
+        newLimit = estimatedLimit * (1 - properties.getSmoothing()) + newLimit * properties.getSmoothing();
+        estimatedLimit = Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedWrites.sum() + rejectedReads.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("orders.admission.limit", this, GradientConcurrencyLimiter::getLimit)
+            .description("Current adaptive concurrency limit")
+            .register(registry);
+        Gauge.builder("orders.admission.inflight", this, GradientConcurrencyLimiter::getInFlight)
+            .description("Requests currently admitted")
+            .register(registry);
+        FunctionCounter.builder("orders.admission.rejected", rejectedWrites, LongAdder::sum)
+            .description("Requests rejected by admission control")
+            .tag("priority", "write")
+            .register(registry);
+        FunctionCounter.builder("orders.admission.rejected", rejectedReads, LongAdder::sum)
+            .description("Requests rejected by admission control")
+            .tag("priority", "read")
+            .register(registry);
+    }
+}
@@ -0,0 +1,67 @@
+package com.quantiphi.orderservice.archive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for moving terminal orders out of the hot tables into archive segments.
+ */
+@ConfigurationProperties(prefix = "orders.archive")
+public class ArchiveProperties {
+
+    /** Whether the scheduled archival job runs. Archived orders are always readable. */
+    private boolean enabled = false;
+
+    /** Directory holding the archive segment files. */
+    private String directory = "data/archive";
+
+    /** Terminal orders whose last update is older than this are archived. */
+    private Duration minAge = Duration.ofDays(30);
+
+    /** Maximum number of orders written to one segment. */
+    private int segmentSize = 5000;
+
+    /** Number of decoded segments kept in memory for lookups. */
+    private int cachedSegments = 8;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public Duration getMinAge() {
+        return minAge;
+    }
+
+    public void setMinAge(Duration minAge) {
+        this.minAge = minAge;
+    }
+
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    public void setSegmentSize(int segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    public int getCachedSegments() {
+        return cachedSegments;
+    }
+
+    public void setCachedSegments(int cachedSegments) {
+        this.cachedSegments = cachedSegments;
+    }
+}
@@ -0,0 +1,355 @@
+package com.quantiphi.orderservice.archive;
+
+import com.quantiphi.orderservice.domain.Order;
+import com.quantiphi.orderservice.domain.OrderItem;
+import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.dto.OrderItemResponse;
+import com.quantiphi.orderservice.dto.OrderResponse;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Immutable, column-oriented file holding a batch of archived orders.
+ * <p>
+ * Layout: an uncompressed header (magic, format version, order count, item count,
+ * min and max order ID) followed by a deflate-compressed body that stores each
+ * attribute as its own column. Order IDs are sorted and delta-encoded, timestamps
+ * delta-encoded, and repeating strings (customer and product IDs) dictionary-encoded,
+ * which keeps segments small and lets a lookup binary-search the ID column.
+ */
+final class ArchiveSegment {
+
+    static final String FILE_SUFFIX = ".ocs";
+
+    private static final int MAGIC = 0x4F415243; // "OARC"
+    private static final int FORMAT_VERSION = 1;
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private final long[] orderIds;
+    private final String[] customerIds;
+    private final byte[] statuses;
+    private final BigDecimal[] totalPrices;
+    private final long[] createdAt;
+    private final long[] updatedAt;
+    private final long[] versions;
+    private final int[] itemOffsets;
+    private final String[] productIds;
+    private final int[] quantities;
+    private final BigDecimal[] prices;
+
+    private ArchiveSegment(int orderCount, int itemCount) {
+        this.orderIds = new long[orderCount];
+        this.customerIds = new String[orderCount];
+        this.statuses = new byte[orderCount];
+        this.totalPrices = new BigDecimal[orderCount];
+        this.createdAt = new long[orderCount];
+        this.updatedAt = new long[orderCount];
+        this.versions = new long[orderCount];
+        this.itemOffsets = new int[orderCount + 1];
+        this.productIds = new String[itemCount];
+        this.quantities = new int[itemCount];
+        this.prices = new BigDecimal[itemCount];
+    }
+
+    /**
+     * Summary of a segment file, readable without decompressing the body.
+     */
+    record Header(Path file, int orderCount, int itemCount, long minId, long maxId) {
+
+        boolean mayContain(long orderId) {
+            return orderId >= minId && orderId <= maxId;
+        }
+    }
+
+    /**
+     * Writes the given orders, with their items, to a new segment file.
+     *
+     * @param file the file to create
+     * @param orders the orders to archive; must not be empty
+     * @return the header of the written segment
+     */
+    static Header write(Path file, List<Order> orders) throws IOException {
+        List<Order> sorted = new ArrayList<>(orders);
+        sorted.sort(Comparator.comparing(Order::getId));
+        List<OrderItem> items = new ArrayList<>();
+        for (Order order : sorted) {
+            items.addAll(order.getItems());
+        }
+        long minId = sorted.get(0).getId();
+        long maxId = sorted.get(sorted.size() - 1).getId();
+
+        try (OutputStream fileOut = new BufferedOutputStream(Files.newOutputStream(file))) {
+            DataOutputStream header = new DataOutputStream(fileOut);
+            header.writeInt(MAGIC);
+            header.writeInt(FORMAT_VERSION);
+            header.writeInt(sorted.size());
+            header.writeInt(items.size());
+            header.writeLong(minId);
+            header.writeLong(maxId);
+            header.flush();
+
+            DeflaterOutputStream deflater = new DeflaterOutputStream(fileOut, new Deflater(Deflater.BEST_COMPRESSION));
+            DataOutputStream out = new DataOutputStream(deflater);
+
+            long previous = 0;
+            for (Order order : sorted) {
+                writeVarLong(out, order.getId() - previous);
+                previous = order.getId();
+            }
+            writeDictionary(out, sorted.stream().map(Order::getCustomerId).toList());
+            for (Order order : sorted) {
+                out.writeByte(order.getStatus().ordinal());
+            }
+            for (Order order : sorted) {
+                writeDecimal(out, order.getTotalPrice());
+            }
+            writeTimestamps(out, sorted.stream().map(Order::getCreatedAt).toList());
+            writeTimestamps(out, sorted.stream().map(Order::getUpdatedAt).toList());
+            for (Order order : sorted) {
+                writeVarLong(out, order.getVersion() == null ? 0 : order.getVersion());
+            }
+            for (Order order : sorted) {
+                writeVarLong(out, order.getItems().size());
+            }
+            writeDictionary(out, items.stream().map(OrderItem::getProductId).toList());
+            for (OrderItem item : items) {
+                writeVarLong(out, item.getQuantity());
+            }
+            for (OrderItem item : items) {
+                writeDecimal(out, item.getPrice());
+            }
+            out.flush();
+            deflater.finish();
+        }
+        return new Header(file, sorted.size(), items.size(), minId, maxId);
+    }
+
+    /**
+     * Reads only the uncompressed header of a segment file.
+     */
+    static Header readHeader(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 64))) {
+            checkMagic(in, file);
+            return new Header(file, in.readInt(), in.readInt(), in.readLong(), in.readLong());
+        }
+    }
+
+    /**
+     * Reads the header and the sorted order ID column of a segment file, inflating
+     * no further than the end of that column.
+     */
+    static long[] readIds(Path file) throws IOException {
+        try (InputStream fileIn = new BufferedInputStream(Files.newInputStream(file))) {
+            DataInputStream header = new DataInputStream(fileIn);
+            checkMagic(header, file);
+            long[] ids = new long[header.readInt()];
+            header.readInt();
+            header.readLong();
+            header.readLong();
+
+            DataInputStream in = new DataInputStream(new BufferedInputStream(new InflaterInputStream(fileIn)));
+            long previous = 0;
+            for (int i = 0; i < ids.length; i++) {
+                previous += readVarLong(in);
+                ids[i] = previous;
+            }
+            return ids;
+        }
+    }
+
+    /**
+     * Reads and decodes a whole segment file.
+     */
+    static ArchiveSegment read(Path file) throws IOException {
+        try (InputStream fileIn = new BufferedInputStream(Files.newInputStream(file))) {
+            DataInputStream header = new DataInputStream(fileIn);
+            checkMagic(header, file);
+            int orderCount = header.readInt();
+            int itemCount = header.readInt();
+            header.readLong();
+            header.readLong();
+
+            ArchiveSegment segment = new ArchiveSegment(orderCount, itemCount);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(new InflaterInputStream(fileIn)));
+
+            long previous = 0;
+            for (int i = 0; i < orderCount; i++) {
+                previous += readVarLong(in);
+                segment.orderIds[i] = previous;
+            }
+            readDictionary(in, segment.customerIds);
+            in.readFully(segment.statuses);
+            for (int i = 0; i < orderCount; i++) {
+                segment.totalPrices[i] = readDecimal(in);
+            }
+            readTimestamps(in, segment.createdAt);
+            readTimestamps(in, segment.updatedAt);
+            for (int i = 0; i < orderCount; i++) {
+                segment.versions[i] = readVarLong(in);
+            }
+            for (int i = 0; i < orderCount; i++) {
+                segment.itemOffsets[i + 1] = segment.itemOffsets[i] + (int) readVarLong(in);
+            }
+            readDictionary(in, segment.productIds);
+            for (int i = 0; i < itemCount; i++) {
+                segment.quantities[i] = (int) readVarLong(in);
+            }
+            for (int i = 0; i < itemCount; i++) {
+                segment.prices[i] = readDecimal(in);
+            }
+            return segment;
+        }
+    }
+
+    /**
+     * Looks up one order by ID.
+     *
+     * @param orderId the order ID
+     * @return the archived order, if this segment holds it
+     */
+    Optional<OrderResponse> find(long orderId) {
+        int index = Arrays.binarySearch(orderIds, orderId);
+        if (index < 0) {
+            return Optional.empty();
+        }
+        OrderResponse response = new OrderResponse();
+        response.setId(orderIds[index]);
+        response.setCustomerId(customerIds[index]);
+        response.setStatus(STATUSES[statuses[index]]);
+        response.setTotalPrice(totalPrices[index]);
+        response.setCreatedAt(toDateTime(createdAt[index]));
+        response.setUpdatedAt(toDateTime(updatedAt[index]));
+        response.setVersion(versions[index]);
+
+        List<OrderItemResponse> items = new ArrayList<>(itemOffsets[index + 1] - itemOffsets[index]);
+        for (int i = itemOffsets[index]; i < itemOffsets[index + 1]; i++) {
+            OrderItemResponse item = new OrderItemResponse();
+            item.setProductId(productIds[i]);
+            item.setQuantity(quantities[i]);
+            item.setPrice(prices[i]);
+            item.setSubtotal(prices[i].multiply(BigDecimal.valueOf(quantities[i])));
+            items.add(item);
+        }
+        response.setItems(items);
+        return Optional.of(response);
+    }
+
+    private static void checkMagic(DataInputStream in, Path file) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+            throw new IOException("Not an order archive segment: " + file);
+        }
+    }
+
+    private static void writeDictionary(DataOutputStream out, List<String> values) throws IOException {
+        Map<String, Integer> codes = new HashMap<>();
+        List<String> dictionary = new ArrayList<>();
+        int[] encoded = new int[values.size()];
+        for (int i = 0; i < values.size(); i++) {
+            encoded[i] = codes.computeIfAbsent(values.get(i), value -> {
+                dictionary.add(value);
+                return dictionary.size() - 1;
+            });
+        }
+        writeVarLong(out, dictionary.size());
+        for (String value : dictionary) {
+            out.writeUTF(value);
+        }
+        for (int code : encoded) {
+            writeVarLong(out, code);
+        }
+    }
+
+    private static void readDictionary(DataInputStream in, String[] target) throws IOException {
+        String[] dictionary = new String[(int) readVarLong(in)];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = in.readUTF();
+        }
+        for (int i = 0; i < target.length; i++) {
+            target[i] = dictionary[(int) readVarLong(in)];
+        }
+    }
+
+    private static void writeTimestamps(DataOutputStream out, List<LocalDateTime> values) throws IOException {
+        long previous = 0;
+        for (LocalDateTime value : values) {
+            long nanos = toEpochNanos(value);
+            long delta = nanos - previous;
+            writeVarLong(out, (delta << 1) ^ (delta >> 63));
+            previous = nanos;
+        }
+    }
+
+    private static void readTimestamps(DataInputStream in, long[] target) throws IOException {
+        long previous = 0;
+        for (int i = 0; i < target.length; i++) {
+            long zigZag = readVarLong(in);
+            previous += (zigZag >>> 1) ^ -(zigZag & 1);
+            target[i] = previous;
+        }
+    }
+
+    private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        writeVarLong(out, value.scale());
+        writeVarLong(out, unscaled.length);
+        out.write(unscaled);
+    }
+
+    private static BigDecimal readDecimal(DataInputStream in) throws IOException {
+        int scale = (int) readVarLong(in);
+        byte[] unscaled = new byte[(int) readVarLong(in)];
+        in.readFully(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static long toEpochNanos(LocalDateTime value) {
+        return value.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + value.getNano();
+    }
+
+    private static LocalDateTime toDateTime(long epochNanos) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L),
+            (int) Math.floorMod(epochNanos, 1_000_000_000L), ZoneOffset.UTC);
+    }
+}
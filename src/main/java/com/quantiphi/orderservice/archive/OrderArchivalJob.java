@@ -0,0 +1,116 @@
+package com.quantiphi.orderservice.archive;
+
+import com.quantiphi.orderservice.domain.Order;
+import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.event.OrdersArchivedEvent;
+import com.quantiphi.orderservice.id.SnowflakeIdGenerator;
+import com.quantiphi.orderservice.repository.OrderRepository;
+import com.quantiphi.orderservice.shard.OrderShards;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Scheduled job moving terminal orders older than the configured age from the
+ * order tables into archive segments.
+ * Each batch is written to a segment before its rows are deleted in the same
+ * transaction, so an order is never absent from both places. If the delete
+ * fails the rows stay in the database and are archived again by the next run;
+ * the database copy always takes precedence on reads.
+ */
+@Component
+public class OrderArchivalJob {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderArchivalJob.class);
+
+    private static final Set<OrderStatus> TERMINAL_STATUSES = EnumSet.of(OrderStatus.COMPLETED, OrderStatus.CANCELLED);
+
+    /** Allowance for the clocks of the node that allocated an ID and the one that last updated the order. */
+    private static final Duration CLOCK_SKEW_ALLOWANCE = Duration.ofDays(1);
+
+    private final OrderRepository orderRepository;
+    private final OrderArchive orderArchive;
+    private final OrderShards orderShards;
+    private final ArchiveProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public OrderArchivalJob(OrderRepository orderRepository,
+                            OrderArchive orderArchive,
+                            OrderShards orderShards,
+                            ArchiveProperties properties,
+                            ApplicationEventPublisher eventPublisher,
+                            PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.orderArchive = orderArchive;
+        this.orderShards = orderShards;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${orders.archive.interval:PT1H}",
+               initialDelayString = "${orders.archive.interval:PT1H}")
+    public void run() {
+        if (properties.isEnabled()) {
+            archiveOrdersUpdatedBefore(LocalDateTime.now().minus(properties.getMinAge()));
+        }
+    }
+
+    /**
+     * Archives all terminal orders last updated before the cutoff, one segment per batch,
+     * shard by shard.
+     *
+     * @param cutoff the latest update time of orders to archive
+     * @return the number of orders archived
+     */
+    public int archiveOrdersUpdatedBefore(LocalDateTime cutoff) {
+        int total = 0;
+        for (int shard = 0; shard < orderShards.getShardCount(); shard++) {
+            total += orderShards.onShard(shard, () -> archiveShard(cutoff));
+        }
+        if (total > 0) {
+            log.info("Archived {} terminal orders last updated before {}", total, cutoff);
+        }
+        return total;
+    }
+
+    private int archiveShard(LocalDateTime cutoff) {
+        int total = 0;
+        int archived;
+        do {
+            archived = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            total += archived;
+        } while (archived == properties.getSegmentSize());
+        return total;
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        // An order last updated before the cutoff was created before it, so its ID is below the cutoff's
+        long maxId = SnowflakeIdGenerator.lowestIdAt(
+            cutoff.atZone(ZoneId.systemDefault()).toInstant().plus(CLOCK_SKEW_ALLOWANCE));
+        List<Long> ids = orderRepository.findIdsByStatusInAndUpdatedAtBefore(
+            TERMINAL_STATUSES, cutoff, maxId, PageRequest.of(0, properties.getSegmentSize()));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Order> orders = orderRepository.findAllWithItemsByIdIn(ids);
+        orderArchive.append(orders);
+        orderRepository.deleteItemsByOrderIdIn(ids);
+        orderRepository.deleteAllByIdIn(ids);
+        eventPublisher.publishEvent(new OrdersArchivedEvent(orders));
+        return ids.size();
+    }
+}
@@ -0,0 +1,201 @@
+package com.quantiphi.orderservice.archive;
+
+import com.quantiphi.orderservice.domain.Order;
+import com.quantiphi.orderservice.dto.OrderResponse;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Read and append access to the archive of terminal orders.
+ * Segments are indexed in memory by ID range and by their sorted order IDs (8 bytes
+ * per archived order). A lookup binary-searches the ranges for the segments that can
+ * cover the ID, checks their ID sets, and decodes only the one segment holding the
+ * order; a miss decodes nothing. Recently decoded segments are cached.
+ */
+@Component
+@EnableConfigurationProperties(ArchiveProperties.class)
+public class OrderArchive {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderArchive.class);
+
+    private final Path directory;
+    private final Map<Path, ArchiveSegment> decodedSegments;
+
+    private volatile SegmentIndex index = new SegmentIndex(List.of());
+
+    public OrderArchive(ArchiveProperties properties) {
+        this.directory = Paths.get(properties.getDirectory());
+        this.decodedSegments = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, ArchiveSegment> eldest) {
+                return size() > properties.getCachedSegments();
+            }
+        };
+    }
+
+    /**
+     * Reads the headers of all existing segment files.
+     */
+    @PostConstruct
+    public void loadIndex() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        List<IndexedSegment> segments = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + ArchiveSegment.FILE_SUFFIX)) {
+            for (Path file : files) {
+                segments.add(new IndexedSegment(ArchiveSegment.readHeader(file), ArchiveSegment.readIds(file)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read order archive in " + directory, e);
+        }
+        index = new SegmentIndex(segments);
+        log.info("Order archive loaded: {} segments in {}", segments.size(), directory);
+    }
+
+    /**
+     * Writes the given orders to a new segment. The file only becomes visible once fully written.
+     *
+     * @param orders the terminal orders to archive, with their items loaded
+     */
+    public synchronized void append(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, "segment-", ".tmp");
+            ArchiveSegment.Header written = ArchiveSegment.write(temp, orders);
+            Path target = directory.resolve(String.format("segment-%d-%d-%d%s",
+                written.minId(), written.maxId(), System.currentTimeMillis(), ArchiveSegment.FILE_SUFFIX));
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+
+            long[] ids = orders.stream().mapToLong(Order::getId).sorted().toArray();
+            index = index.with(new IndexedSegment(new ArchiveSegment.Header(target, written.orderCount(),
+                written.itemCount(), written.minId(), written.maxId()), ids));
+            log.info("Archived {} orders ({} items) to {}", written.orderCount(), written.itemCount(), target);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write order archive segment", e);
+        }
+    }
+
+    /**
+     * Looks up an archived order.
+     *
+     * @param orderId the order ID
+     * @return the archived order, if present
+     */
+    public Optional<OrderResponse> find(Long orderId) {
+        if (orderId == null) {
+            return Optional.empty();
+        }
+        Path file = index.locate(orderId);
+        return file == null ? Optional.empty() : segment(file).find(orderId);
+    }
+
+    public int getSegmentCount() {
+        return index.size();
+    }
+
+    private ArchiveSegment segment(Path file) {
+        synchronized (decodedSegments) {
+            ArchiveSegment cached = decodedSegments.get(file);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        try {
+            ArchiveSegment decoded = ArchiveSegment.read(file);
+            synchronized (decodedSegments) {
+                decodedSegments.put(file, decoded);
+            }
+            return decoded;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read order archive segment " + file, e);
+        }
+    }
+
+    private record IndexedSegment(ArchiveSegment.Header header, long[] ids) {
+
+        boolean contains(long orderId) {
+            return header.mayContain(orderId) && Arrays.binarySearch(ids, orderId) >= 0;
+        }
+    }
+
+    /**
+     * Immutable interval index over the segments: sorted by min ID, with the running
+     * maximum of their max IDs, so a lookup walks back from the last segment starting
+     * at or below the ID and stops as soon as no earlier segment can reach it.
+     */
+    private static final class SegmentIndex {
+
+        private final IndexedSegment[] segments;
+        private final long[] minIds;
+        private final long[] maxIdsSoFar;
+
+        SegmentIndex(List<IndexedSegment> segments) {
+            this.segments = segments.stream()
+                .sorted(Comparator.comparingLong(segment -> segment.header().minId()))
+                .toArray(IndexedSegment[]::new);
+            this.minIds = new long[this.segments.length];
+            this.maxIdsSoFar = new long[this.segments.length];
+            long maxId = Long.MIN_VALUE;
+            for (int i = 0; i < this.segments.length; i++) {
+                minIds[i] = this.segments[i].header().minId();
+                maxId = Math.max(maxId, this.segments[i].header().maxId());
+                maxIdsSoFar[i] = maxId;
+            }
+        }
+
+        SegmentIndex with(IndexedSegment added) {
+            List<IndexedSegment> updated = new ArrayList<>(Arrays.asList(segments));
+            updated.add(added);
+            return new SegmentIndex(updated);
+        }
+
+        Path locate(long orderId) {
+            for (int i = lastStartingAtOrBelow(orderId); i >= 0 && maxIdsSoFar[i] >= orderId; i--) {
+                if (segments[i].contains(orderId)) {
+                    return segments[i].header().file();
+                }
+            }
+            return null;
+        }
+
+        int size() {
+            return segments.length;
+        }
+
+        private int lastStartingAtOrBelow(long orderId) {
+            int low = 0;
+            int high = minIds.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (minIds[mid] <= orderId) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low - 1;
+        }
+    }
+}
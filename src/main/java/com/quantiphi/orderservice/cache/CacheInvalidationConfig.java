@@ -0,0 +1,22 @@
+package com.quantiphi.orderservice.cache;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Selects the transport that carries order cache invalidations between replicas.
+ * The transport is started and stopped by {@link OrderCacheInvalidator}.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(CacheInvalidationProperties.class)
+public class CacheInvalidationConfig {
+
+    @Bean(destroyMethod = "")
+    public InvalidationTransport invalidationTransport(CacheInvalidationProperties properties) {
+        return switch (properties.getTransport()) {
+            case LOOPBACK -> new LoopbackInvalidationTransport();
+            case MULTICAST -> new MulticastInvalidationTransport(properties.getMulticast());
+        };
+    }
+}
@@ -0,0 +1,84 @@
+package com.quantiphi.orderservice.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for broadcasting order cache invalidations between replicas.
+ */
+@ConfigurationProperties(prefix = "orders.cache.invalidation")
+public class CacheInvalidationProperties {
+
+    /** How invalidations reach the other replicas. */
+    private Transport transport = Transport.LOOPBACK;
+
+    private final Multicast multicast = new Multicast();
+
+    public enum Transport {
+        /** Only replicas in the same JVM; a single instance needs nothing more. */
+        LOOPBACK,
+        /** UDP multicast to every replica joined to the same group. */
+        MULTICAST
+    }
+
+    public Transport getTransport() {
+        return transport;
+    }
+
+    public void setTransport(Transport transport) {
+        this.transport = transport;
+    }
+
+    public Multicast getMulticast() {
+        return multicast;
+    }
+
+    public static class Multicast {
+
+        /** Multicast group invalidations are sent to; every replica of a deployment must use the same one. */
+        private String group = "239.255.27.1";
+
+        /** UDP port of the group. */
+        private int port = 45588;
+
+        /**
+         * Network interface to send and receive on. When empty, the first non-loopback interface
+         * that is up and supports multicast is used, or the loopback interface if there is none.
+         */
+        private String interfaceName;
+
+        /** How many router hops invalidations may cross; 1 keeps them on the local subnet. */
+        private int timeToLive = 1;
+
+        public String getGroup() {
+            return group;
+        }
+
+        public void setGroup(String group) {
+            this.group = group;
+        }
+
+        public int getPort() {
+            return port;
+        }
+
+        public void setPort(int port) {
+            this.port = port;
+        }
+
+        public String getInterfaceName() {
+            return interfaceName;
+        }
+
+        public void setInterfaceName(String interfaceName) {
+            this.interfaceName = interfaceName;
+        }
+
+        public int getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(int timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+    }
+}
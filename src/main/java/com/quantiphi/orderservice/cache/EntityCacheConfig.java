@@ -0,0 +1,79 @@
+package com.quantiphi.orderservice.cache;
+
+import com.quantiphi.orderservice.domain.Order;
+import com.quantiphi.orderservice.domain.OrderItem;
+import jakarta.persistence.EntityManagerFactory;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.util.Properties;
+
+/**
+ * Hibernate second-level cache for orders, order items and the items collection,
+ * held in Ehcache through JCache.
+ * Caches are created here, one per region with its own size, rather than from an
+ * XML file, so that sizing lives with the other order settings. Entries use the
+ * read-write strategy: a cached order is replaced when its transaction commits, so
+ * readers on this instance never see a stale status.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(EntityCacheProperties.class)
+public class EntityCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "orders.cache.entity", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public CacheManager entityCacheManager(EntityCacheProperties properties) {
+        // A provider per context keeps test contexts in one JVM from sharing caches
+        EhcacheCachingProvider provider = new EhcacheCachingProvider();
+        CacheManager cacheManager = provider.getCacheManager(
+            provider.getDefaultURI(), getClass().getClassLoader(), new Properties());
+        createRegion(cacheManager, Order.CACHE_REGION, properties.getOrderEntries(), properties);
+        createRegion(cacheManager, OrderItem.CACHE_REGION, properties.getItemEntries(), properties);
+        createRegion(cacheManager, Order.ITEMS_CACHE_REGION, properties.getCollectionEntries(), properties);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheHibernateProperties(ObjectProvider<CacheManager> entityCacheManager) {
+        return hibernateProperties -> {
+            CacheManager cacheManager = entityCacheManager.getIfAvailable();
+            if (cacheManager == null) {
+                // hibernate-jcache is on the classpath, so the cache must be switched off explicitly
+                hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+                return;
+            }
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "orders.cache.entity", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public EntityCacheMetrics entityCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return new EntityCacheMetrics(entityManagerFactory.unwrap(SessionFactory.class).getStatistics());
+    }
+
+    private static void createRegion(CacheManager cacheManager, String region, long entries,
+                                     EntityCacheProperties properties) {
+        cacheManager.createCache(region, Eh107Configuration.fromEhcacheCacheConfiguration(
+            CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class,
+                    ResourcePoolsBuilder.heap(entries))
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(properties.getTimeToLive()))));
+    }
+}
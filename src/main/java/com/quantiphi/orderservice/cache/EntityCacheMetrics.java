@@ -0,0 +1,49 @@
+package com.quantiphi.orderservice.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Publishes hit, miss and put counts and the hit ratio of every second-level cache region.
+ */
+public class EntityCacheMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    public EntityCacheMetrics(Statistics statistics) {
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+            FunctionCounter.builder("orders.cache.entity.hits", regionStatistics, CacheRegionStatistics::getHitCount)
+                .tag("region", region)
+                .description("Second-level cache lookups answered from the cache")
+                .register(registry);
+            FunctionCounter.builder("orders.cache.entity.misses", regionStatistics, CacheRegionStatistics::getMissCount)
+                .tag("region", region)
+                .description("Second-level cache lookups that went to the database")
+                .register(registry);
+            FunctionCounter.builder("orders.cache.entity.puts", regionStatistics, CacheRegionStatistics::getPutCount)
+                .tag("region", region)
+                .description("Entries written to the second-level cache")
+                .register(registry);
+            Gauge.builder("orders.cache.entity.hit.ratio", regionStatistics, EntityCacheMetrics::hitRatio)
+                .tag("region", region)
+                .description("Share of second-level cache lookups answered from the cache")
+                .register(registry);
+        }
+    }
+
+    private static double hitRatio(CacheRegionStatistics regionStatistics) {
+        long hits = regionStatistics.getHitCount();
+        long requests = hits + regionStatistics.getMissCount();
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,70 @@
+package com.quantiphi.orderservice.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the Hibernate second-level cache of orders and their items.
+ */
+@ConfigurationProperties(prefix = "orders.cache.entity")
+public class EntityCacheProperties {
+
+    /** Whether orders, items and the order-items collections are cached across persistence contexts. */
+    private boolean enabled = true;
+
+    /**
+     * How long a cached entry lives. Bounds staleness when other instances write to the same
+     * database, since each instance only sees its own updates.
+     */
+    private Duration timeToLive = Duration.ofMinutes(10);
+
+    /** Maximum number of cached orders. */
+    private long orderEntries = 10_000;
+
+    /** Maximum number of cached order items. */
+    private long itemEntries = 100_000;
+
+    /** Maximum number of cached order-items collections. */
+    private long collectionEntries = 10_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(Duration timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    public long getOrderEntries() {
+        return orderEntries;
+    }
+
+    public void setOrderEntries(long orderEntries) {
+        this.orderEntries = orderEntries;
+    }
+
+    public long getItemEntries() {
+        return itemEntries;
+    }
+
+    public void setItemEntries(long itemEntries) {
+        this.itemEntries = itemEntries;
+    }
+
+    public long getCollectionEntries() {
+        return collectionEntries;
+    }
+
+    public void setCollectionEntries(long collectionEntries) {
+        this.collectionEntries = collectionEntries;
+    }
+}
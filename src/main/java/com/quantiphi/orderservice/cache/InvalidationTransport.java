@@ -0,0 +1,33 @@
+package com.quantiphi.orderservice.cache;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Carries order cache invalidations between the replicas of the service.
+ * An invalidation is just the ID of an order whose cached state is no longer
+ * current. Each published ID is delivered to every other started replica; a
+ * replica never receives its own invalidations.
+ */
+public interface InvalidationTransport {
+
+    /**
+     * Starts receiving invalidations from other replicas.
+     *
+     * @param receiver called with each invalidated order ID, on a transport thread
+     *                 or on the publishing thread
+     */
+    void start(LongConsumer receiver);
+
+    /**
+     * Sends an invalidation to the other replicas. Failures are the transport's to
+     * log; callers are committing a status change and must not be failed by it.
+     *
+     * @param orderId the ID of the changed order
+     */
+    void publish(long orderId);
+
+    /**
+     * Stops receiving invalidations and releases the transport's resources.
+     */
+    void stop();
+}
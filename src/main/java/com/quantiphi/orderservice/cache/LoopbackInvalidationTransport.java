@@ -0,0 +1,37 @@
+package com.quantiphi.orderservice.cache;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.LongConsumer;
+
+/**
+ * Delivers invalidations to the other replicas started in the same JVM, such as
+ * several application contexts in one test run, directly on the publishing thread.
+ * A lone instance has nobody to deliver to, so publishing costs next to nothing.
+ */
+public class LoopbackInvalidationTransport implements InvalidationTransport {
+
+    private static final Set<LoopbackInvalidationTransport> STARTED = new CopyOnWriteArraySet<>();
+
+    private volatile LongConsumer receiver;
+
+    @Override
+    public void start(LongConsumer receiver) {
+        this.receiver = receiver;
+        STARTED.add(this);
+    }
+
+    @Override
+    public void publish(long orderId) {
+        for (LoopbackInvalidationTransport replica : STARTED) {
+            if (replica != this) {
+                replica.receiver.accept(orderId);
+            }
+        }
+    }
+
+    @Override
+    public void stop() {
+        STARTED.remove(this);
+    }
+}
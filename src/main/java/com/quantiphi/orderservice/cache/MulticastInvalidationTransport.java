@@ -0,0 +1,130 @@
+package com.quantiphi.orderservice.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.util.Collections;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongConsumer;
+
+/**
+ * Sends invalidations as UDP multicast datagrams to every replica joined to the
+ * configured group, so they arrive within a network round trip of the status change.
+ * Each datagram carries one order ID and the sender's random origin tag, by which a
+ * replica recognizes and skips its own invalidations when multicast loops them back.
+ * Delivery is best effort: a lost datagram leaves the order cached on that replica
+ * until the near cache's time-to-live expires.
+ */
+public class MulticastInvalidationTransport implements InvalidationTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(MulticastInvalidationTransport.class);
+
+    private static final int MAGIC = 0x4F524456;
+    private static final int DATAGRAM_SIZE = Integer.BYTES + Long.BYTES + Long.BYTES;
+
+    private final CacheInvalidationProperties.Multicast properties;
+    private final long origin = ThreadLocalRandom.current().nextLong();
+
+    private InetSocketAddress group;
+    private DatagramChannel channel;
+    private Thread receiverThread;
+
+    public MulticastInvalidationTransport(CacheInvalidationProperties.Multicast properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void start(LongConsumer receiver) {
+        try {
+            InetAddress groupAddress = InetAddress.getByName(properties.getGroup());
+            NetworkInterface networkInterface = networkInterface(properties.getInterfaceName());
+            group = new InetSocketAddress(groupAddress, properties.getPort());
+            channel = DatagramChannel.open(StandardProtocolFamily.INET)
+                .setOption(StandardSocketOptions.SO_REUSEADDR, true)
+                .bind(new InetSocketAddress(properties.getPort()))
+                .setOption(StandardSocketOptions.IP_MULTICAST_IF, networkInterface)
+                .setOption(StandardSocketOptions.IP_MULTICAST_TTL, properties.getTimeToLive())
+                // Replicas on the same host receive through the loopback copy
+                .setOption(StandardSocketOptions.IP_MULTICAST_LOOP, true);
+            channel.join(groupAddress, networkInterface);
+            log.info("Order cache invalidations multicast to {} on {}", group, networkInterface.getName());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to join invalidation group " + properties.getGroup(), e);
+        }
+        receiverThread = new Thread(() -> receive(receiver), "order-cache-invalidation");
+        receiverThread.setDaemon(true);
+        receiverThread.start();
+    }
+
+    @Override
+    public void publish(long orderId) {
+        ByteBuffer datagram = ByteBuffer.allocate(DATAGRAM_SIZE).putInt(MAGIC).putLong(origin).putLong(orderId).flip();
+        try {
+            channel.send(datagram, group);
+        } catch (IOException e) {
+            log.warn("Failed to multicast invalidation of order {}", orderId, e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+            receiverThread.join();
+        } catch (IOException e) {
+            log.warn("Failed to close invalidation channel", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void receive(LongConsumer receiver) {
+        ByteBuffer datagram = ByteBuffer.allocate(DATAGRAM_SIZE);
+        while (channel.isOpen()) {
+            try {
+                datagram.clear();
+                channel.receive(datagram);
+                datagram.flip();
+                if (datagram.remaining() != DATAGRAM_SIZE || datagram.getInt() != MAGIC
+                        || datagram.getLong() == origin) {
+                    continue;
+                }
+                receiver.accept(datagram.getLong());
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to receive order cache invalidation", e);
+            }
+        }
+    }
+
+    private static NetworkInterface networkInterface(String name) throws SocketException {
+        if (name != null && !name.isBlank()) {
+            NetworkInterface named = NetworkInterface.getByName(name);
+            if (named == null) {
+                throw new IllegalStateException("No network interface named " + name);
+            }
+            return named;
+        }
+        for (NetworkInterface candidate : Collections.list(NetworkInterface.getNetworkInterfaces())) {
+            if (candidate.isUp() && !candidate.isLoopback() && candidate.supportsMulticast()) {
+                return candidate;
+            }
+        }
+        return NetworkInterface.getByInetAddress(InetAddress.getLoopbackAddress());
+    }
+}
@@ -0,0 +1,48 @@
+package com.quantiphi.orderservice.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the per-instance cache of order responses.
+ */
+@ConfigurationProperties(prefix = "orders.cache.near")
+public class NearCacheProperties {
+
+    /** Whether order responses are cached on each instance between reads. */
+    private boolean enabled = true;
+
+    /** Maximum number of cached orders, including markers of recently invalidated ones. */
+    private int maxEntries = 10_000;
+
+    /**
+     * How long a cached response is served. Invalidations normally remove it within
+     * milliseconds of a status change; this bounds staleness should one be lost in transit.
+     */
+    private Duration timeToLive = Duration.ofSeconds(30);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(Duration timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+}
@@ -0,0 +1,82 @@
+package com.quantiphi.orderservice.cache;
+
+import com.quantiphi.orderservice.domain.Order;
+import com.quantiphi.orderservice.event.OrderStatusChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the order caches of all replicas coherent. Once an order's status change
+ * commits, the order is dropped from this instance's near cache and the change is
+ * broadcast over the configured {@link InvalidationTransport}. An invalidation from
+ * another replica drops the order from the near cache and from the Hibernate
+ * second-level cache, which only sees this instance's own writes and would
+ * otherwise keep serving the old status until its entries expire.
+ */
+@Component
+public class OrderCacheInvalidator implements MeterBinder {
+
+    private static final String ITEMS_ROLE = Order.class.getName() + ".items";
+
+    private final OrderNearCache nearCache;
+    private final InvalidationTransport transport;
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder received = new LongAdder();
+
+    public OrderCacheInvalidator(OrderNearCache nearCache, InvalidationTransport transport,
+                                 ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.nearCache = nearCache;
+        this.transport = transport;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PostConstruct
+    public void start() {
+        transport.start(this::onRemoteInvalidation);
+    }
+
+    @PreDestroy
+    public void stop() {
+        transport.stop();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        nearCache.invalidate(event.getOrderId());
+        transport.publish(event.getOrderId());
+        sent.increment();
+    }
+
+    private void onRemoteInvalidation(long orderId) {
+        received.increment();
+        nearCache.invalidate(orderId);
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        if (factory != null) {
+            factory.getCache().evict(Order.class, orderId);
+            factory.unwrap(SessionFactory.class).getCache().evictCollectionData(ITEMS_ROLE, orderId);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("orders.cache.invalidations", sent, LongAdder::sum)
+            .tag("direction", "sent")
+            .description("Order cache invalidations broadcast to other replicas")
+            .register(registry);
+        FunctionCounter.builder("orders.cache.invalidations", received, LongAdder::sum)
+            .tag("direction", "received")
+            .description("Order cache invalidations received from other replicas")
+            .register(registry);
+    }
+}
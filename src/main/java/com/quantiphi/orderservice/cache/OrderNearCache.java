@@ -0,0 +1,148 @@
+package com.quantiphi.orderservice.cache;
+
+import com.quantiphi.orderservice.dto.OrderResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-instance cache of order responses, kept coherent across replicas by
+ * {@link OrderCacheInvalidator}. A hit skips the transaction, the database or
+ * second-level cache lookup and the DTO mapping altogether.
+ * An invalidation leaves a marker in place of the entry. A response loaded before
+ * the invalidation arrived, which may hold the old status, is then refused, so a
+ * read racing a status change on another replica cannot put the stale order back.
+ * Least recently used entries are evicted beyond the configured size.
+ */
+@Component
+@EnableConfigurationProperties(NearCacheProperties.class)
+public class OrderNearCache implements MeterBinder {
+
+    private final NearCacheProperties properties;
+    private final long timeToLiveNanos;
+    private final Map<Long, Entry> entries;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public OrderNearCache(NearCacheProperties properties) {
+        this.properties = properties;
+        this.timeToLiveNanos = properties.getTimeToLive().toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > properties.getMaxEntries();
+            }
+        };
+    }
+
+    /**
+     * A cached response, or an invalidation marker when {@code response} is null.
+     *
+     * @param sequence the load ticket the response was read under, or the invalidation's sequence
+     */
+    private record Entry(OrderResponse response, long sequence, long expiresAt) {
+    }
+
+    /**
+     * Returns the ticket to pass to {@link #put} for a response about to be loaded.
+     * Must be taken before the load starts.
+     *
+     * @return the current invalidation sequence
+     */
+    public long startLoad() {
+        return invalidations.get();
+    }
+
+    /**
+     * Looks up a cached order response. The response is shared and must not be modified.
+     *
+     * @param orderId the order ID
+     * @return the cached response, if present and not expired
+     */
+    public Optional<OrderResponse> get(Long orderId) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(orderId);
+        }
+        if (entry == null || entry.response() == null || System.nanoTime() - entry.expiresAt() > 0) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(entry.response());
+    }
+
+    /**
+     * Caches a freshly loaded order response, unless the order has been invalidated
+     * since the load started.
+     *
+     * @param response the loaded response
+     * @param loadTicket the ticket taken with {@link #startLoad()} before loading
+     */
+    public void put(OrderResponse response, long loadTicket) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long expiresAt = System.nanoTime() + timeToLiveNanos;
+        synchronized (entries) {
+            Entry current = entries.get(response.getId());
+            if (current != null && current.sequence() > loadTicket) {
+                return;
+            }
+            entries.put(response.getId(), new Entry(response, loadTicket, expiresAt));
+        }
+    }
+
+    /**
+     * Drops an order from the cache and refuses responses loaded before this call.
+     *
+     * @param orderId the ID of the changed order
+     */
+    public void invalidate(long orderId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long sequence = invalidations.incrementAndGet();
+        long expiresAt = System.nanoTime() + timeToLiveNanos;
+        synchronized (entries) {
+            entries.put(orderId, new Entry(null, sequence, expiresAt));
+        }
+    }
+
+    /**
+     * Returns the number of cached entries, including invalidation markers.
+     *
+     * @return the entry count
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("orders.cache.near.entries", this, OrderNearCache::size)
+            .description("Order responses and invalidation markers currently in the near cache")
+            .register(registry);
+        FunctionCounter.builder("orders.cache.near.hits", hits, LongAdder::sum)
+            .description("Order reads answered from the near cache")
+            .register(registry);
+        FunctionCounter.builder("orders.cache.near.misses", misses, LongAdder::sum)
+            .description("Order reads that found no current near cache entry")
+            .register(registry);
+    }
+}
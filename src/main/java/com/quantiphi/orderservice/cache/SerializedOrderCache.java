@@ -0,0 +1,182 @@
+package com.quantiphi.orderservice.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quantiphi.orderservice.dto.OrderResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Off-heap cache of fully serialized responses for completed and cancelled orders.
+ * Terminal orders never change again, so their JSON can be produced once and
+ * served on every later read without touching the database or the serializer.
+ * Large responses are stored gzip-compressed at the highest compression level,
+ * which is affordable because the cost is paid only once per order.
+ * Bodies live in direct buffers, so a large cache adds nothing to the heap the
+ * collector has to trace; the least recently used bodies are evicted once their
+ * total size exceeds the configured budget.
+ */
+@Component
+@EnableConfigurationProperties(SerializedOrderCacheProperties.class)
+public class SerializedOrderCache implements MeterBinder {
+
+    private final ObjectMapper objectMapper;
+    private final SerializedOrderCacheProperties properties;
+    private final Map<Long, CachedResponse> responses = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private long cachedBytes;
+
+    public SerializedOrderCache(ObjectMapper objectMapper, SerializedOrderCacheProperties properties) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    /**
+     * A serialized order response.
+     *
+     * @param body the JSON body, gzip-compressed if {@code gzipped}; a read-only view
+     *             positioned at the start of the body
+     * @param gzipped whether the body is gzip-compressed
+     * @param version the order version the body was produced from
+     */
+    public record CachedResponse(ByteBuffer body, boolean gzipped, long version) {
+
+        private CachedResponse view() {
+            return new CachedResponse(body.duplicate(), gzipped, version);
+        }
+    }
+
+    /**
+     * Looks up the serialized response of a terminal order.
+     * Every call returns its own view of the body, so callers may consume it freely.
+     *
+     * @param orderId the order ID
+     * @return the cached response, if the order is terminal and has been serialized before
+     */
+    public Optional<CachedResponse> get(Long orderId) {
+        CachedResponse cached;
+        synchronized (responses) {
+            cached = responses.get(orderId);
+        }
+        if (cached == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(cached.view());
+    }
+
+    /**
+     * Serializes and caches the response if the order is terminal and not cached yet.
+     * Bodies larger than the whole budget are not cached.
+     *
+     * @param response the order response about to be returned to a client
+     */
+    public void putIfTerminal(OrderResponse response) {
+        if (!properties.isEnabled() || !response.getStatus().isTerminal() || response.getVersion() == null) {
+            return;
+        }
+        synchronized (responses) {
+            if (responses.containsKey(response.getId())) {
+                return;
+            }
+        }
+        CachedResponse serialized = serialize(response);
+        int size = serialized.body().capacity();
+        long maxBytes = properties.getMaxSize().toBytes();
+        if (size > maxBytes) {
+            return;
+        }
+        synchronized (responses) {
+            if (responses.putIfAbsent(response.getId(), serialized) != null) {
+                return;
+            }
+            cachedBytes += size;
+            Iterator<CachedResponse> eldest = responses.values().iterator();
+            while (cachedBytes > maxBytes) {
+                cachedBytes -= eldest.next().body().capacity();
+                eldest.remove();
+            }
+        }
+    }
+
+    /**
+     * Returns the total size of the cached bodies.
+     *
+     * @return the cached bytes
+     */
+    public long getCachedBytes() {
+        synchronized (responses) {
+            return cachedBytes;
+        }
+    }
+
+    /**
+     * Returns the number of cached responses.
+     *
+     * @return the cached response count
+     */
+    public int size() {
+        synchronized (responses) {
+            return responses.size();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("orders.cache.serialized.bytes", this, SerializedOrderCache::getCachedBytes)
+            .baseUnit("bytes")
+            .description("Off-heap memory held by cached serialized order responses")
+            .register(registry);
+        Gauge.builder("orders.cache.serialized.entries", this, SerializedOrderCache::size)
+            .description("Serialized order responses currently cached")
+            .register(registry);
+        FunctionCounter.builder("orders.cache.serialized.hits", hits, LongAdder::sum)
+            .description("Order reads answered with a cached serialized response")
+            .register(registry);
+        FunctionCounter.builder("orders.cache.serialized.misses", misses, LongAdder::sum)
+            .description("Order reads that found no cached serialized response")
+            .register(registry);
+    }
+
+    private CachedResponse serialize(OrderResponse response) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(response);
+            if (json.length < properties.getMinCompressSize().toBytes()) {
+                return new CachedResponse(offHeap(json), false, response.getVersion());
+            }
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4);
+            try (OutputStream gzip = new GZIPOutputStream(compressed) {
+                {
+                    def.setLevel(Deflater.BEST_COMPRESSION);
+                }
+            }) {
+                gzip.write(json);
+            }
+            return new CachedResponse(offHeap(compressed.toByteArray()), true, response.getVersion());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize order " + response.getId(), e);
+        }
+    }
+
+    private static ByteBuffer offHeap(byte[] bytes) {
+        return ByteBuffer.allocateDirect(bytes.length).put(bytes).flip().asReadOnlyBuffer();
+    }
+}
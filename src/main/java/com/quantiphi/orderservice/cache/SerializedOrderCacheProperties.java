@@ -0,0 +1,47 @@
+package com.quantiphi.orderservice.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration for the off-heap cache of serialized responses of terminal orders.
+ */
+@ConfigurationProperties(prefix = "orders.cache.serialized")
+public class SerializedOrderCacheProperties {
+
+    /** Whether responses of completed and cancelled orders are cached once serialized. */
+    private boolean enabled = true;
+
+    /**
+     * Total size of the cached bodies, held in direct memory; must fit within
+     * {@code -XX:MaxDirectMemorySize} alongside the server's own direct buffers.
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+
+    /** Responses at least this large are stored gzip-compressed; smaller ones are stored as is. */
+    private DataSize minCompressSize = DataSize.ofKilobytes(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public DataSize getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(DataSize maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public DataSize getMinCompressSize() {
+        return minCompressSize;
+    }
+
+    public void setMinCompressSize(DataSize minCompressSize) {
+        this.minCompressSize = minCompressSize;
+    }
+}
@@ -0,0 +1,52 @@
+package com.quantiphi.orderservice.config;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes {@link ByteBuffer} response bodies as they are, so pre-serialized bodies held
+ * in direct memory reach the socket without an intermediate copy of the whole body
+ * on the heap. The buffer's remaining bytes are written; the caller's buffer is left
+ * untouched.
+ */
+@Component
+public class ByteBufferHttpMessageConverter extends AbstractHttpMessageConverter<ByteBuffer> {
+
+    public ByteBufferHttpMessageConverter() {
+        super(MediaType.ALL);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ByteBuffer.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected ByteBuffer readInternal(Class<? extends ByteBuffer> clazz, HttpInputMessage inputMessage)
+            throws IOException {
+        return ByteBuffer.wrap(StreamUtils.copyToByteArray(inputMessage.getBody()));
+    }
+
+    @Override
+    protected Long getContentLength(ByteBuffer buffer, MediaType contentType) {
+        return (long) buffer.remaining();
+    }
+
+    @Override
+    protected void writeInternal(ByteBuffer buffer, HttpOutputMessage outputMessage) throws IOException {
+        WritableByteChannel channel = Channels.newChannel(outputMessage.getBody());
+        ByteBuffer body = buffer.duplicate();
+        while (body.hasRemaining()) {
+            channel.write(body);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.quantiphi.orderservice.config;
+
+import org.apache.coyote.UpgradeProtocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.tomcat.TomcatConnectorCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tunes Tomcat's HTTP/2 protocol handler. Without TLS, HTTP/2 is offered as h2c
+ * (cleartext upgrade or prior knowledge); response compression settings are
+ * applied to HTTP/2 streams by Spring Boot as well.
+ */
+@Configuration
+@EnableConfigurationProperties(Http2Properties.class)
+public class Http2Config {
+
+    @Bean
+    public TomcatConnectorCustomizer http2ConnectorCustomizer(Http2Properties properties) {
+        return connector -> {
+            for (UpgradeProtocol upgradeProtocol : connector.findUpgradeProtocols()) {
+                if (upgradeProtocol instanceof Http2Protocol http2) {
+                    http2.setMaxConcurrentStreams(properties.getMaxConcurrentStreams());
+                    http2.setInitialWindowSize((int) properties.getInitialWindowSize().toBytes());
+                    http2.setKeepAliveTimeout(properties.getKeepAliveTimeout().toMillis());
+                }
+            }
+        };
+    }
+}
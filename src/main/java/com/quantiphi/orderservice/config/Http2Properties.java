@@ -0,0 +1,49 @@
+package com.quantiphi.orderservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Tuning of the HTTP/2 connector, applied when {@code server.http2.enabled} is set.
+ */
+@ConfigurationProperties(prefix = "orders.http2")
+public class Http2Properties {
+
+    /** Maximum number of concurrent streams a client may open on one connection. */
+    private long maxConcurrentStreams = 200;
+
+    /**
+     * Initial flow-control window per stream. Larger than the protocol default of 64KB so a
+     * large order response is not stalled waiting for window updates on high-latency links.
+     */
+    private DataSize initialWindowSize = DataSize.ofMegabytes(1);
+
+    /** How long an idle connection is kept open for further requests. */
+    private Duration keepAliveTimeout = Duration.ofSeconds(60);
+
+    public long getMaxConcurrentStreams() {
+        return maxConcurrentStreams;
+    }
+
+    public void setMaxConcurrentStreams(long maxConcurrentStreams) {
+        this.maxConcurrentStreams = maxConcurrentStreams;
+    }
+
+    public DataSize getInitialWindowSize() {
+        return initialWindowSize;
+    }
+
+    public void setInitialWindowSize(DataSize initialWindowSize) {
+        this.initialWindowSize = initialWindowSize;
+    }
+
+    public Duration getKeepAliveTimeout() {
+        return keepAliveTimeout;
+    }
+
+    public void setKeepAliveTimeout(Duration keepAliveTimeout) {
+        this.keepAliveTimeout = keepAliveTimeout;
+    }
+}
@@ -0,0 +1,26 @@
+package com.quantiphi.orderservice.config;
+
+import com.quantiphi.orderservice.id.IdStrategy;
+import com.quantiphi.orderservice.id.SnowflakeIdentifierGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Passes the node ID and allocation strategy used for order and item IDs on to Hibernate.
+ * Every instance writing to the same database must use a distinct node ID.
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer snowflakeNodeIdCustomizer(@Value("${orders.id.node-id:0}") int nodeId,
+                                                                   @Value("${orders.id.strategy:shared}") String strategy) {
+        IdStrategy idStrategy = IdStrategy.from(strategy);
+        return properties -> {
+            properties.put(SnowflakeIdentifierGenerator.NODE_ID_SETTING, nodeId);
+            properties.put(SnowflakeIdentifierGenerator.STRATEGY_SETTING, idStrategy.name());
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package com.quantiphi.orderservice.config;
+
+import com.quantiphi.orderservice.domain.Order;
+import com.quantiphi.orderservice.domain.OrderItem;
+import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.dto.OrderResponse;
+import com.quantiphi.orderservice.exception.ErrorResponse;
+import com.quantiphi.orderservice.id.SnowflakeIdentifierGenerator;
+import com.quantiphi.orderservice.repository.CustomerOrderRef;
+import com.quantiphi.orderservice.repository.OrderRepository;
+import com.quantiphi.orderservice.repository.PendingOrderRef;
+import com.quantiphi.orderservice.repository.ProductOrderRef;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.data.projection.TargetAware;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/**
+ * Reflection and proxy hints needed when the service runs as a GraalVM native image.
+ * Entities are accessed reflectively by Hibernate, DTOs by Jackson and Bean Validation,
+ * and repository projections and the repository wrappers (profiling and, when sharded,
+ * shard routing) are backed by JDK proxies.
+ */
+public class OrderRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final List<Class<?>> REFLECTIVE_TYPES = List.of(
+        Order.class,
+        OrderItem.class,
+        OrderStatus.class,
+        ErrorResponse.class
+    );
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> type : REFLECTIVE_TYPES) {
+            registerReflective(hints, type);
+        }
+        // Every request and response type, so that new endpoints need no change here
+        for (Class<?> dto : dtoTypes(classLoader)) {
+            registerReflective(hints, dto);
+        }
+        hints.reflection().registerType(SnowflakeIdentifierGenerator.class,
+            MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        for (Class<?> projection : List.of(ProductOrderRef.class, CustomerOrderRef.class, PendingOrderRef.class)) {
+            hints.reflection().registerType(projection, MemberCategory.INVOKE_PUBLIC_METHODS);
+            hints.proxies().registerJdkProxy(projection, TargetAware.class, SpringProxy.class,
+                DecoratingProxy.class);
+            hints.proxies().registerJdkProxy(projection, TargetAware.class, SpringProxy.class,
+                Advised.class, DecoratingProxy.class);
+        }
+        hints.proxies().registerJdkProxy(OrderRepository.class, SpringProxy.class, Advised.class,
+            DecoratingProxy.class);
+    }
+
+    private static void registerReflective(RuntimeHints hints, Class<?> type) {
+        hints.reflection().registerType(type,
+            MemberCategory.DECLARED_FIELDS,
+            MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+            MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+
+    // Hints are computed at build time, where the package can still be scanned; includes static nested classes
+    private static List<Class<?>> dtoTypes(ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+        if (classLoader != null) {
+            scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+        }
+        return scanner.findCandidateComponents(OrderResponse.class.getPackageName()).stream()
+            .map(BeanDefinition::getBeanClassName)
+            .<Class<?>>map(name -> ClassUtils.resolveClassName(name, classLoader))
+            .toList();
+    }
+}
@@ -1,16 +1,40 @@
 package com.quantiphi.orderservice.controller;
 
+import com.quantiphi.orderservice.cache.OrderNearCache;
+import com.quantiphi.orderservice.cache.SerializedOrderCache;
+import com.quantiphi.orderservice.domain.Order;
+import com.quantiphi.orderservice.domain.OrderStatus;
 import com.quantiphi.orderservice.dto.CreateOrderRequest;
+import com.quantiphi.orderservice.dto.MultiGetOrdersRequest;
+import com.quantiphi.orderservice.dto.MultiGetOrdersResponse;
 import com.quantiphi.orderservice.dto.OrderResponse;
+import com.quantiphi.orderservice.dto.OrderSummaryResponse;
 import com.quantiphi.orderservice.dto.UpdateOrderStatusRequest;
+import com.quantiphi.orderservice.exception.RateLimitExceededException;
+import com.quantiphi.orderservice.ingest.StreamingOrderParser;
+import com.quantiphi.orderservice.profiling.OrderCreationEvent;
+import com.quantiphi.orderservice.ratelimit.OrderRateLimiter;
+import com.quantiphi.orderservice.ratelimit.ReadRateLimitFilter;
+import com.quantiphi.orderservice.service.OrderCreateCoalescer;
 import com.quantiphi.orderservice.service.OrderService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+
 /**
  * REST controller for order management operations.
  * Provides endpoints for creating, retrieving, and updating orders.
@@ -21,36 +45,151 @@ public class OrderController {
 
     private static final Logger log = LoggerFactory.getLogger(OrderController.class);
 
+    private static final int MAX_SEARCH_RESULTS = 500;
+
     private final OrderService orderService;
+    private final OrderCreateCoalescer createCoalescer;
+    private final StreamingOrderParser streamingOrderParser;
+    private final SerializedOrderCache serializedOrderCache;
+    private final OrderNearCache nearCache;
+    private final OrderRateLimiter rateLimiter;
 
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService,
+                           OrderCreateCoalescer createCoalescer,
+                           StreamingOrderParser streamingOrderParser,
+                           SerializedOrderCache serializedOrderCache,
+                           OrderNearCache nearCache,
+                           OrderRateLimiter rateLimiter) {
         this.orderService = orderService;
+        this.createCoalescer = createCoalescer;
+        this.streamingOrderParser = streamingOrderParser;
+        this.serializedOrderCache = serializedOrderCache;
+        this.nearCache = nearCache;
+        this.rateLimiter = rateLimiter;
     }
 
     /**
      * Creates a new order.
+     * When group commit is enabled the order is committed together with other
+     * concurrent creations in one transaction. Each creation is recorded as an
+     * {@link OrderCreationEvent} spanning validation to commit.
      *
      * @param request the order creation request
      * @return the created order with HTTP 201 status
+     * @throws RateLimitExceededException if the customer is creating orders too fast
      */
     @PostMapping
     public ResponseEntity<OrderResponse> createOrder(@Valid @RequestBody CreateOrderRequest request) {
         log.info("Received request to create order for customer: {}", request.getCustomerId());
-        OrderResponse response = orderService.createOrder(request);
+        rateLimiter.acquireCreate(request.getCustomerId());
+        OrderCreationEvent event = new OrderCreationEvent();
+        event.begin();
+        OrderResponse response = createCoalescer.isEnabled()
+            ? awaitGroupCommit(request)
+            : orderService.createOrder(request);
+        event.end();
+        if (event.shouldCommit()) {
+            commitCreationEvent(event, response.getId(), response.getCustomerId(),
+                response.getItems().size(), response.getTotalPrice(), false);
+        }
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Creates a new order from a payload that is parsed while it is being read.
+     * Intended for orders with very many items: the body has the same shape as a
+     * regular create request, but items are validated and added to the order one
+     * by one instead of being bound to a request object first. Only a summary of
+     * the order is returned; the full order is available at the Location URI.
+     * The client is rate limited before the body is parsed, and the customer once
+     * it is known.
+     *
+     * @param request the HTTP request carrying the order payload
+     * @return a summary of the created order with HTTP 201 status
+     * @throws IOException if the request body cannot be opened
+     * @throws RateLimitExceededException if the client or customer is creating orders too fast
+     */
+    @PostMapping(path = "/stream", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<OrderSummaryResponse> createOrderStreaming(HttpServletRequest request) throws IOException {
+        log.info("Received streamed order payload of {} bytes", request.getContentLengthLong());
+        rateLimiter.acquireStreamingCreate(ReadRateLimitFilter.clientOf(request));
+        OrderCreationEvent event = new OrderCreationEvent();
+        event.begin();
+        Order order = streamingOrderParser.parse(request.getInputStream(), request.getContentLengthLong());
+        rateLimiter.acquireCreate(order.getCustomerId());
+        OrderSummaryResponse response = orderService.createOrder(order);
+        event.end();
+        if (event.shouldCommit()) {
+            commitCreationEvent(event, response.getId(), response.getCustomerId(),
+                response.getItemCount(), response.getTotalPrice(), true);
+        }
+        return ResponseEntity.created(URI.create("/api/v1/orders/" + response.getId())).body(response);
+    }
+
     /**
      * Retrieves an order by ID.
+     * Responses carry a weak ETag derived from the order's version. When the client
+     * sends a matching If-None-Match header, only the version is looked up and
+     * HTTP 304 is returned without loading or serializing the order. Completed and
+     * cancelled orders never change, so their serialized (and, when large, gzipped)
+     * body is cached off-heap and written out as is, without a database lookup,
+     * DTO mapping or serialization. Other orders are served from the near cache,
+     * which status changes on any replica invalidate, when present.
      *
      * @param id the order ID
-     * @return the order details with HTTP 200 status
+     * @param ifNoneMatch the entity tags the client already holds, if any
+     * @param acceptEncoding the content codings the client accepts, if any
+     * @return the order details with HTTP 200 status, or HTTP 304 if unchanged
      */
     @GetMapping("/{id}")
-    public ResponseEntity<OrderResponse> getOrder(@PathVariable Long id) {
-        log.info("Received request to retrieve order: {}", id);
+    public ResponseEntity<?> getOrder(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         log.info("Received request to retrieve order: {}", id);
+        Optional<SerializedOrderCache.CachedResponse> cached = serializedOrderCache.get(id);
+        if (cached.isPresent()) {
+            String cachedETag = eTag(id, cached.get().version());
+            if (ifNoneMatch != null && eTagMatches(ifNoneMatch, cachedETag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(cachedETag).build();
+            }
+            if (!cached.get().gzipped() || acceptsGzip(acceptEncoding)) {
+                return cachedResponse(cachedETag, cached.get());
+            }
+        } else {
+            Optional<OrderResponse> nearCached = nearCache.get(id);
+            if (nearCached.isPresent()) {
+                return orderResponse(nearCached.get(), ifNoneMatch);
+            }
+            if (ifNoneMatch != null) {
+                String currentETag = eTag(id, orderService.getOrderVersion(id));
+                if (eTagMatches(ifNoneMatch, currentETag)) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag).build();
+                }
+            }
+        }
+        long loadTicket = nearCache.startLoad();
         OrderResponse response = orderService.getOrder(id);
+        nearCache.put(response, loadTicket);
+        if (response.getVersion() == null) {
+            return ResponseEntity.ok(response);
+        }
+        serializedOrderCache.putIfTerminal(response);
+        return ResponseEntity.ok().eTag(eTag(id, response.getVersion())).body(response);
+    }
+
+    /**
+     * Retrieves many orders by ID in one request. IDs that match no order are listed
+     * under {@code missing} instead of failing the request; no ETags are produced
+     * and the serialized-response cache is not consulted.
+     *
+     * @param request the IDs of the orders to retrieve (at most 500)
+     * @return the orders found, in request order, and the missing IDs, with HTTP 200 status
+     */
+    @PostMapping("/_mget")
+    public ResponseEntity<MultiGetOrdersResponse> getOrders(@Valid @RequestBody MultiGetOrdersRequest request) {
+        log.info("Received request to retrieve {} orders", request.getIds().size());
+        MultiGetOrdersResponse response = orderService.getOrders(request.getIds());
         return ResponseEntity.ok(response);
     }
 
@@ -69,4 +208,123 @@ public class OrderController {
         OrderResponse response = orderService.updateOrderStatus(id, request.getStatus());
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Searches orders by contained product and/or by customer and status.
+     *
+     * @param productId the product the orders must contain
+     * @param customerId the customer the orders must belong to
+     * @param status the status the orders must be in
+     * @param limit the maximum number of orders to return (capped at 500)
+     * @return the matching orders, newest first, with HTTP 200 status
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<OrderResponse>> searchOrders(
+            @RequestParam(required = false) String productId,
+            @RequestParam(required = false) String customerId,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(defaultValue = "100") int limit) {
+        log.info("Received order search for product: {}, customer: {}, status: {}", productId, customerId, status);
+        int cappedLimit = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+        List<OrderResponse> response = orderService.searchOrders(productId, customerId, status, cappedLimit);
+        return ResponseEntity.ok(response);
+    }
+
+    private OrderResponse awaitGroupCommit(CreateOrderRequest request) {
+        try {
+            return createCoalescer.submit(request).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static void commitCreationEvent(OrderCreationEvent event, Long orderId, String customerId,
+                                            int itemCount, BigDecimal totalPrice, boolean streamed) {
+        event.orderId = orderId;
+        event.customerId = customerId;
+        event.itemCount = itemCount;
+        event.totalPrice = totalPrice.doubleValue();
+        event.streamed = streamed;
+        event.commit();
+    }
+
+    private static ResponseEntity<OrderResponse> orderResponse(OrderResponse response, String ifNoneMatch) {
+        if (response.getVersion() == null) {
+            return ResponseEntity.ok(response);
+        }
+        String currentETag = eTag(response.getId(), response.getVersion());
+        if (ifNoneMatch != null && eTagMatches(ifNoneMatch, currentETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag).build();
+        }
+        return ResponseEntity.ok().eTag(currentETag).body(response);
+    }
+
+    private static ResponseEntity<ByteBuffer> cachedResponse(String eTag, SerializedOrderCache.CachedResponse cached) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+            .eTag(eTag)
+            .contentType(MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (cached.gzipped()) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(cached.body());
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        // An explicit gzip entry wins over "*", whatever order they are listed in
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.split(";");
+            String coding = parts[0].trim();
+            if (coding.equalsIgnoreCase("gzip")) {
+                gzipQuality = quality(parts);
+            } else if (coding.equals("*")) {
+                anyQuality = quality(parts);
+            }
+        }
+        Double quality = gzipQuality != null ? gzipQuality : anyQuality;
+        return quality != null && quality > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 2 && parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    // A malformed weight is not a clear acceptance
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static String eTag(Long id, long version) {
+        // Weak: the same version is sent gzip-compressed or not, and Tomcat never compresses under a strong tag
+        return "W/\"" + id + "-" + version + "\"";
+    }
+
+    private static boolean eTagMatches(String ifNoneMatch, String currentETag) {
+        String current = opaqueTag(currentETag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = opaqueTag(candidate.trim());
+            if (tag.equals("*") || tag.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String eTag) {
+        return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+    }
 }
@@ -0,0 +1,120 @@
+package com.quantiphi.orderservice.controller;
+
+import com.quantiphi.orderservice.dto.OrderStatusEventResponse;
+import com.quantiphi.orderservice.event.OrderEventsProperties;
+import com.quantiphi.orderservice.event.OrderStatusEventBus;
+import com.quantiphi.orderservice.exception.InvalidSubscriptionException;
+import com.quantiphi.orderservice.service.OrderService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * REST controller streaming order status changes as Server-Sent Events.
+ * Each status transition is pushed as a "status" event once it has been committed.
+ */
+@RestController
+@RequestMapping("/api/v1/orders")
+public class OrderEventController {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderEventController.class);
+
+    private final OrderService orderService;
+    private final OrderStatusEventBus eventBus;
+    private final OrderEventsProperties properties;
+
+    public OrderEventController(OrderService orderService,
+                                OrderStatusEventBus eventBus,
+                                OrderEventsProperties properties) {
+        this.orderService = orderService;
+        this.eventBus = eventBus;
+        this.properties = properties;
+    }
+
+    /**
+     * Subscribes to status changes of a single order.
+     *
+     * @param id the order ID
+     * @return an event stream of status changes
+     */
+    @GetMapping(path = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@PathVariable Long id) {
+        log.info("Received subscription for order: {}", id);
+        orderService.getOrderVersion(id);
+        return open(Set.of(id));
+    }
+
+    /**
+     * Subscribes to status changes of several orders over one connection.
+     *
+     * @param ids the order IDs to watch, as positive numbers
+     * @return an event stream of status changes
+     * @throws InvalidSubscriptionException if no IDs, too many IDs or a malformed ID are given
+     */
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeAll(@RequestParam(required = false) List<String> ids) {
+        Set<Long> orderIds = parseOrderIds(ids);
+        log.info("Received subscription for {} orders", orderIds.size());
+        return open(orderIds);
+    }
+
+    private Set<Long> parseOrderIds(List<String> ids) {
+        int max = properties.getMaxOrdersPerSubscription();
+        if (ids == null || ids.isEmpty() || ids.size() > max) {
+            throw new InvalidSubscriptionException(String.format(
+                "A subscription must watch between 1 and %d orders", max));
+        }
+        Set<Long> orderIds = new LinkedHashSet<>();
+        for (String id : ids) {
+            orderIds.add(parseOrderId(id));
+        }
+        return orderIds;
+    }
+
+    private static long parseOrderId(String id) {
+        long orderId;
+        try {
+            orderId = Long.parseLong(id.trim());
+        } catch (NumberFormatException e) {
+            throw new InvalidSubscriptionException("Invalid order ID: " + id);
+        }
+        if (orderId <= 0) {
+            throw new InvalidSubscriptionException("Invalid order ID: " + id);
+        }
+        return orderId;
+    }
+
+    private SseEmitter open(Set<Long> orderIds) {
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        OrderStatusEventBus.Subscription subscription = eventBus.subscribe(orderIds,
+            new OrderStatusEventBus.EventSink() {
+                @Override
+                public void send(OrderStatusEventResponse event) throws IOException {
+                    emitter.send(SseEmitter.event()
+                        .name("status")
+                        .id(event.getOrderId() + "-" + event.getStatus())
+                        .data(event, MediaType.APPLICATION_JSON));
+                }
+
+                @Override
+                public void close() {
+                    emitter.complete();
+                }
+            });
+        emitter.onCompletion(() -> eventBus.unsubscribe(subscription));
+        emitter.onTimeout(() -> eventBus.unsubscribe(subscription));
+        emitter.onError(error -> eventBus.unsubscribe(subscription));
+        return emitter;
+    }
+}
@@ -0,0 +1,33 @@
+package com.quantiphi.orderservice.controller;
+
+import com.quantiphi.orderservice.dto.LiveOrderStatsResponse;
+import com.quantiphi.orderservice.stats.LiveOrderStats;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller serving live order statistics from memory.
+ */
+@RestController
+@RequestMapping("/api/v1/orders/stats")
+public class OrderStatsController {
+
+    private final LiveOrderStats liveOrderStats;
+
+    public OrderStatsController(LiveOrderStats liveOrderStats) {
+        this.liveOrderStats = liveOrderStats;
+    }
+
+    /**
+     * Returns orders created, revenue and status transitions over the last minute
+     * and the last hour on this instance, without touching the database.
+     *
+     * @return the live statistics with HTTP 200 status
+     */
+    @GetMapping("/live")
+    public ResponseEntity<LiveOrderStatsResponse> getLiveStats() {
+        return ResponseEntity.ok(liveOrderStats.snapshot());
+    }
+}
@@ -0,0 +1,53 @@
+package com.quantiphi.orderservice.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Sizes the connection pools, publishes their metrics and checks their settings.
+ * Pools are sized from the database's cores before they start (see
+ * {@link ConnectionPools#size}); per-shard pools, which Spring Boot does not see,
+ * get the same {@code hikaricp.*} metrics as the primary pool.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ConnectionPoolProperties.class)
+public class ConnectionPoolConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionPoolSizingPostProcessor(
+            Environment environment, ObjectProvider<ConnectionPoolProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource pool && pool.getHikariPoolMXBean() == null) {
+                    ConnectionPools.size(pool, properties.getObject(), environment);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder connectionPoolMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.orderedStream()
+            .flatMap(dataSource -> ConnectionPools.of(dataSource).stream())
+            .filter(pool -> pool.getMetricRegistry() == null && pool.getMetricsTrackerFactory() == null)
+            .forEach(pool -> pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+    }
+
+    @Bean
+    public ConnectionPoolValidator connectionPoolValidator(ObjectProvider<DataSource> dataSources,
+                                                           ConnectionPoolProperties properties,
+                                                           Environment environment) {
+        return new ConnectionPoolValidator(dataSources, properties, environment);
+    }
+}
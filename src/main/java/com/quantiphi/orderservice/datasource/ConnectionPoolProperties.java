@@ -0,0 +1,51 @@
+package com.quantiphi.orderservice.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Inputs for sizing the database connection pools. Every other pool setting is a
+ * regular {@code spring.datasource.hikari.*} property.
+ */
+@ConfigurationProperties(prefix = "orders.datasource.pool")
+public class ConnectionPoolProperties {
+
+    /**
+     * Processor cores of the database server; 0 uses this machine's processor count,
+     * which is right for the embedded database.
+     */
+    private int dbCores = 0;
+
+    /**
+     * Requests the database can wait on at once besides its cores, such as disks;
+     * 0 when the working set is in memory.
+     */
+    private int effectiveSpindles = 1;
+
+    public int getDbCores() {
+        return dbCores;
+    }
+
+    public void setDbCores(int dbCores) {
+        this.dbCores = dbCores;
+    }
+
+    public int getEffectiveSpindles() {
+        return effectiveSpindles;
+    }
+
+    public void setEffectiveSpindles(int effectiveSpindles) {
+        this.effectiveSpindles = effectiveSpindles;
+    }
+
+    /**
+     * Returns the pool size the database can actually keep busy:
+     * {@code cores * 2 + effective spindles}. Connections beyond that only queue
+     * inside the database, where waiting is more expensive than in the pool.
+     *
+     * @return the recommended maximum pool size
+     */
+    public int recommendedPoolSize() {
+        int cores = dbCores > 0 ? dbCores : Runtime.getRuntime().availableProcessors();
+        return cores * 2 + effectiveSpindles;
+    }
+}
@@ -0,0 +1,90 @@
+package com.quantiphi.orderservice.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks the connection pool settings once the application is ready and logs a
+ * warning for each setting that is known to cause or hide pool exhaustion. The
+ * application starts regardless.
+ */
+public class ConnectionPoolValidator {
+
+    private static final Logger log = LoggerFactory.getLogger(ConnectionPoolValidator.class);
+
+    private static final Duration MAX_CONNECTION_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ObjectProvider<DataSource> dataSources;
+    private final ConnectionPoolProperties properties;
+    private final Environment environment;
+
+    public ConnectionPoolValidator(ObjectProvider<DataSource> dataSources,
+                                   ConnectionPoolProperties properties,
+                                   Environment environment) {
+        this.dataSources = dataSources;
+        this.properties = properties;
+        this.environment = environment;
+    }
+
+    /**
+     * Logs the problems found in every pool.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void validate() {
+        dataSources.orderedStream()
+            .flatMap(dataSource -> ConnectionPools.of(dataSource).stream())
+            .forEach(pool -> check(pool).forEach(problem ->
+                log.warn("Connection pool {}: {}", pool.getPoolName(), problem)));
+        if (environment.getProperty("spring.jpa.open-in-view", Boolean.class, true)) {
+            log.warn("spring.jpa.open-in-view is enabled: every request that touches the database holds "
+                + "its connection until the response has been written");
+        }
+    }
+
+    /**
+     * Returns the problems with one pool's settings.
+     *
+     * @param pool the pool to check
+     * @return a description of each problem found, empty if there are none
+     */
+    public List<String> check(HikariDataSource pool) {
+        List<String> problems = new ArrayList<>();
+        int maximumPoolSize = pool.getMaximumPoolSize();
+        int recommended = properties.recommendedPoolSize();
+        if (maximumPoolSize > recommended * 2) {
+            problems.add(String.format("maximum-pool-size %d is more than twice the %d connections the database "
+                + "can keep busy (orders.datasource.pool.db-cores * 2 + effective-spindles); the surplus only "
+                + "queues inside the database", maximumPoolSize, recommended));
+        }
+        int requestThreads = environment.getProperty("server.tomcat.threads.max", Integer.class, 200);
+        if (maximumPoolSize > requestThreads) {
+            problems.add(String.format("maximum-pool-size %d exceeds the %d request threads; the extra "
+                + "connections are never used", maximumPoolSize, requestThreads));
+        }
+        if (pool.getMinimumIdle() < maximumPoolSize) {
+            problems.add(String.format("minimum-idle %d is below maximum-pool-size %d; bursts wait for new "
+                + "connections to be opened", pool.getMinimumIdle(), maximumPoolSize));
+        }
+        if (pool.getLeakDetectionThreshold() == 0) {
+            problems.add("leak-detection-threshold is 0, so connections held too long are never reported");
+        } else if (pool.getMaxLifetime() > 0 && pool.getLeakDetectionThreshold() >= pool.getMaxLifetime()) {
+            problems.add(String.format("leak-detection-threshold %dms is not below max-lifetime %dms, so leaks "
+                + "are never reported", pool.getLeakDetectionThreshold(), pool.getMaxLifetime()));
+        }
+        if (pool.getConnectionTimeout() > MAX_CONNECTION_TIMEOUT.toMillis()) {
+            problems.add(String.format("connection-timeout %dms lets requests hang that long on an exhausted "
+                + "pool before failing", pool.getConnectionTimeout()));
+        }
+        return problems;
+    }
+}
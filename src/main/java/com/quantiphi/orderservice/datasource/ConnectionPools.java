@@ -0,0 +1,64 @@
+package com.quantiphi.orderservice.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds and sizes the Hikari pools behind the application's data sources,
+ * including the per-shard pools behind the sharded routing data source.
+ */
+public final class ConnectionPools {
+
+    static final String MAXIMUM_POOL_SIZE = "spring.datasource.hikari.maximum-pool-size";
+    static final String MINIMUM_IDLE = "spring.datasource.hikari.minimum-idle";
+
+    private ConnectionPools() {
+    }
+
+    /**
+     * Sizes a pool that has not been started yet from the database's cores, unless
+     * {@code spring.datasource.hikari.maximum-pool-size} is set. The pool is kept at a
+     * fixed size unless {@code spring.datasource.hikari.minimum-idle} is set, so bursts
+     * never wait for new connections to be opened.
+     *
+     * @param pool the pool to size
+     * @param properties the sizing inputs
+     * @param environment the environment holding explicit pool settings
+     */
+    public static void size(HikariDataSource pool, ConnectionPoolProperties properties, Environment environment) {
+        if (!environment.containsProperty(MAXIMUM_POOL_SIZE)) {
+            pool.setMaximumPoolSize(properties.recommendedPoolSize());
+        }
+        if (!environment.containsProperty(MINIMUM_IDLE)) {
+            pool.setMinimumIdle(pool.getMaximumPoolSize());
+        }
+    }
+
+    /**
+     * Returns the Hikari pools a data source draws its connections from.
+     *
+     * @param dataSource a data source, possibly wrapped or routing to several pools
+     * @return the pools, empty if the data source is not backed by Hikari
+     */
+    public static List<HikariDataSource> of(DataSource dataSource) {
+        List<HikariDataSource> pools = new ArrayList<>();
+        collect(dataSource, pools);
+        return pools;
+    }
+
+    private static void collect(DataSource dataSource, List<HikariDataSource> pools) {
+        if (dataSource instanceof HikariDataSource pool) {
+            pools.add(pool);
+        } else if (dataSource instanceof DelegatingDataSource delegating && delegating.getTargetDataSource() != null) {
+            collect(delegating.getTargetDataSource(), pools);
+        } else if (dataSource instanceof AbstractRoutingDataSource routing) {
+            routing.getResolvedDataSources().values().forEach(target -> collect(target, pools));
+        }
+    }
+}
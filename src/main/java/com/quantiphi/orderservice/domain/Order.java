@@ -1,27 +1,41 @@
 package com.quantiphi.orderservice.domain;
 
+import com.quantiphi.orderservice.id.SnowflakeId;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.LongSupplier;
 
 /**
  * Core domain entity representing an order in the system.
  * Manages order items, total price calculation, and status transitions.
+ * Orders and their items collection are held in the second-level cache.
  */
 @Entity
-@Table(name = "orders")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Order.CACHE_REGION)
+@Table(name = "orders", indexes = {
+    @Index(name = "idx_orders_customer_status", columnList = "customer_id, status"),
+    @Index(name = "idx_orders_status_updated_at", columnList = "status, updated_at")
+})
 public class Order {
 
+    public static final String CACHE_REGION = "orders";
+    public static final String ITEMS_CACHE_REGION = "orders.items";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(nullable = false)
     private String customerId;
 
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ITEMS_CACHE_REGION)
     private List<OrderItem> items = new ArrayList<>();
 
     @Column(nullable = false, precision = 10, scale = 2)
@@ -37,6 +51,9 @@ public class Order {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    private Long version;
+
     protected Order() {
     }
 
@@ -55,14 +72,33 @@ public class Order {
     }
 
     /**
-     * Adds an item to the order and recalculates the total price.
+     * Adds an item to the order and adds its subtotal to the total price.
+     * The total is maintained incrementally, so building an order with many
+     * items stays linear in the number of items.
      *
      * @param item the order item to add
      */
     public void addItem(OrderItem item) {
         items.add(item);
         item.setOrder(this);
-        recalculateTotal();
+        this.totalPrice = totalPrice.add(item.getSubtotal());
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Changes the quantity and unit price of one of this order's items and adjusts
+     * the total price accordingly. Used to fold repeated lines for the same product
+     * into one item.
+     *
+     * @param item an item of this order
+     * @param quantity the new quantity
+     * @param price the new unit price
+     */
+    public void updateItem(OrderItem item, int quantity, BigDecimal price) {
+        this.totalPrice = totalPrice.subtract(item.getSubtotal());
+        item.update(quantity, price);
+        this.totalPrice = totalPrice.add(item.getSubtotal());
+        this.updatedAt = LocalDateTime.now();
     }
 
     /**
@@ -82,13 +118,45 @@ public class Order {
     }
 
     /**
-     * Recalculates the total price based on all order items.
+     * Returns a deep copy of this order and its items, IDs and version included.
+     * Used by stores that hold orders outside a persistence context, so that
+     * changes made by a caller never reach the stored order until it is saved.
+     *
+     * @return a copy sharing no mutable state with this order
+     */
+    public Order copy() {
+        Order copy = new Order();
+        copy.id = id;
+        copy.customerId = customerId;
+        copy.totalPrice = totalPrice;
+        copy.status = status;
+        copy.createdAt = createdAt;
+        copy.updatedAt = updatedAt;
+        copy.version = version;
+        for (OrderItem item : items) {
+            OrderItem itemCopy = item.copy();
+            itemCopy.setOrder(copy);
+            copy.items.add(itemCopy);
+        }
+        return copy;
+    }
+
+    /**
+     * Sets the identity a store gives this order when it is saved. JPA assigns IDs
+     * and versions itself; this is for stores that hold orders outside of JPA.
+     *
+     * @param id the order ID
+     * @param version the version of the saved state
+     * @param itemIds supplies IDs for items that do not have one yet
      */
-    private void recalculateTotal() {
-        this.totalPrice = items.stream()
-            .map(OrderItem::getSubtotal)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-        this.updatedAt = LocalDateTime.now();
+    public void assignIdentity(Long id, Long version, LongSupplier itemIds) {
+        this.id = id;
+        this.version = version;
+        for (OrderItem item : items) {
+            if (item.getId() == null) {
+                item.setId(itemIds.getAsLong());
+            }
+        }
     }
 
     // Getters
@@ -119,4 +187,8 @@ public class Order {
     public LocalDateTime getUpdatedAt() {
         return updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
 }
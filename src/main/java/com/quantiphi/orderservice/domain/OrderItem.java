@@ -1,6 +1,9 @@
 package com.quantiphi.orderservice.domain;
 
+import com.quantiphi.orderservice.id.SnowflakeId;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.math.BigDecimal;
 
 /**
@@ -8,11 +11,17 @@ import java.math.BigDecimal;
  * Contains product information, quantity, and price calculations.
  */
 @Entity
-@Table(name = "order_items")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = OrderItem.CACHE_REGION)
+@Table(name = "order_items", indexes = {
+    @Index(name = "idx_order_items_product", columnList = "product_id")
+})
 public class OrderItem {
 
+    public static final String CACHE_REGION = "order-items";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -53,6 +62,27 @@ public class OrderItem {
         return price.multiply(BigDecimal.valueOf(quantity));
     }
 
+    /**
+     * Changes the quantity and unit price; the order's total is adjusted by {@link Order#updateItem}.
+     */
+    void update(int quantity, BigDecimal price) {
+        this.quantity = quantity;
+        this.price = price;
+    }
+
+    /**
+     * Copies this item without its order; see {@link Order#copy()}.
+     */
+    OrderItem copy() {
+        OrderItem copy = new OrderItem(productId, quantity, price);
+        copy.id = id;
+        return copy;
+    }
+
+    void setId(Long id) {
+        this.id = id;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -30,4 +30,13 @@ public enum OrderStatus {
             case COMPLETED, CANCELLED -> false;
         };
     }
+
+    /**
+     * Checks whether this is a final status that allows no further transitions.
+     *
+     * @return true for completed and cancelled orders
+     */
+    public boolean isTerminal() {
+        return this == COMPLETED || this == CANCELLED;
+    }
 }
@@ -0,0 +1,110 @@
+package com.quantiphi.orderservice.dto;
+
+import com.quantiphi.orderservice.domain.OrderStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public class LiveOrderStatsResponse {
+
+    private LocalDateTime asOf;
+    private Window lastMinute;
+    private Window lastHour;
+    private long[] ordersCreatedPerSecond;
+
+    public LiveOrderStatsResponse() {
+    }
+
+    public LocalDateTime getAsOf() {
+        return asOf;
+    }
+
+    public void setAsOf(LocalDateTime asOf) {
+        this.asOf = asOf;
+    }
+
+    public Window getLastMinute() {
+        return lastMinute;
+    }
+
+    public void setLastMinute(Window lastMinute) {
+        this.lastMinute = lastMinute;
+    }
+
+    public Window getLastHour() {
+        return lastHour;
+    }
+
+    public void setLastHour(Window lastHour) {
+        this.lastHour = lastHour;
+    }
+
+    public long[] getOrdersCreatedPerSecond() {
+        return ordersCreatedPerSecond;
+    }
+
+    public void setOrdersCreatedPerSecond(long[] ordersCreatedPerSecond) {
+        this.ordersCreatedPerSecond = ordersCreatedPerSecond;
+    }
+
+    public static class Window {
+
+        private int seconds;
+        private long ordersCreated;
+        private BigDecimal revenue;
+        private double ordersPerSecond;
+        private Map<OrderStatus, Long> transitions;
+
+        public Window() {
+        }
+
+        public Window(int seconds, long ordersCreated, BigDecimal revenue, double ordersPerSecond,
+                      Map<OrderStatus, Long> transitions) {
+            this.seconds = seconds;
+            this.ordersCreated = ordersCreated;
+            this.revenue = revenue;
+            this.ordersPerSecond = ordersPerSecond;
+            this.transitions = transitions;
+        }
+
+        public int getSeconds() {
+            return seconds;
+        }
+
+        public void setSeconds(int seconds) {
+            this.seconds = seconds;
+        }
+
+        public long getOrdersCreated() {
+            return ordersCreated;
+        }
+
+        public void setOrdersCreated(long ordersCreated) {
+            this.ordersCreated = ordersCreated;
+        }
+
+        public BigDecimal getRevenue() {
+            return revenue;
+        }
+
+        public void setRevenue(BigDecimal revenue) {
+            this.revenue = revenue;
+        }
+
+        public double getOrdersPerSecond() {
+            return ordersPerSecond;
+        }
+
+        public void setOrdersPerSecond(double ordersPerSecond) {
+            this.ordersPerSecond = ordersPerSecond;
+        }
+
+        public Map<OrderStatus, Long> getTransitions() {
+            return transitions;
+        }
+
+        public void setTransitions(Map<OrderStatus, Long> transitions) {
+            this.transitions = transitions;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.quantiphi.orderservice.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public class MultiGetOrdersRequest {
+
+    public static final int MAX_IDS = 500;
+
+    @NotEmpty(message = "At least one order ID is required")
+    @Size(max = MAX_IDS, message = "At most " + MAX_IDS + " order IDs can be requested at once")
+    private List<@NotNull(message = "Order ID is required") Long> ids;
+
+    public MultiGetOrdersRequest() {
+    }
+
+    public MultiGetOrdersRequest(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+}
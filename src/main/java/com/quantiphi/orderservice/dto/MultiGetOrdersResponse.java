@@ -0,0 +1,33 @@
+package com.quantiphi.orderservice.dto;
+
+import java.util.List;
+
+public class MultiGetOrdersResponse {
+
+    private List<OrderResponse> orders;
+    private List<Long> missing;
+
+    public MultiGetOrdersResponse() {
+    }
+
+    public MultiGetOrdersResponse(List<OrderResponse> orders, List<Long> missing) {
+        this.orders = orders;
+        this.missing = missing;
+    }
+
+    public List<OrderResponse> getOrders() {
+        return orders;
+    }
+
+    public void setOrders(List<OrderResponse> orders) {
+        this.orders = orders;
+    }
+
+    public List<Long> getMissing() {
+        return missing;
+    }
+
+    public void setMissing(List<Long> missing) {
+        this.missing = missing;
+    }
+}
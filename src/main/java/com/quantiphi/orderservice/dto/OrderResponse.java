@@ -1,7 +1,10 @@
 package com.quantiphi.orderservice.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.quantiphi.orderservice.domain.Order;
+import com.quantiphi.orderservice.domain.OrderItem;
 import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.profiling.ResponseMappingEvent;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -17,20 +20,36 @@ public class OrderResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    @JsonIgnore
+    private Long version;
+
     public OrderResponse() {
     }
 
     public static OrderResponse fromEntity(Order order) {
+        return fromEntity(order, order.getItems());
+    }
+
+    public static OrderResponse fromEntity(Order order, List<OrderItem> items) {
+        ResponseMappingEvent event = new ResponseMappingEvent();
+        event.begin();
         OrderResponse response = new OrderResponse();
         response.id = order.getId();
         response.customerId = order.getCustomerId();
-        response.items = order.getItems().stream()
+        response.items = items.stream()
             .map(OrderItemResponse::fromEntity)
             .collect(Collectors.toList());
         response.totalPrice = order.getTotalPrice();
         response.status = order.getStatus();
         response.createdAt = order.getCreatedAt();
         response.updatedAt = order.getUpdatedAt();
+        response.version = order.getVersion();
+        event.end();
+        if (event.shouldCommit()) {
+            event.orderId = response.id != null ? response.id : 0L;
+            event.itemCount = response.items.size();
+            event.commit();
+        }
         return response;
     }
 
@@ -90,4 +109,12 @@ public class OrderResponse {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,57 @@
+package com.quantiphi.orderservice.dto;
+
+import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.event.OrderStatusChangedEvent;
+import java.time.LocalDateTime;
+
+public class OrderStatusEventResponse {
+
+    private Long orderId;
+    private OrderStatus previousStatus;
+    private OrderStatus status;
+    private LocalDateTime changedAt;
+
+    public OrderStatusEventResponse() {
+    }
+
+    public static OrderStatusEventResponse fromEvent(OrderStatusChangedEvent event) {
+        OrderStatusEventResponse response = new OrderStatusEventResponse();
+        response.orderId = event.getOrderId();
+        response.previousStatus = event.getPreviousStatus();
+        response.status = event.getNewStatus();
+        response.changedAt = event.getChangedAt();
+        return response;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public OrderStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public void setPreviousStatus(OrderStatus previousStatus) {
+        this.previousStatus = previousStatus;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(OrderStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+}
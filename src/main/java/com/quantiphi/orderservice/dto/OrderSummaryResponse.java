@@ -0,0 +1,89 @@
+package com.quantiphi.orderservice.dto;
+
+import com.quantiphi.orderservice.domain.Order;
+import com.quantiphi.orderservice.domain.OrderStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class OrderSummaryResponse {
+
+    private Long id;
+    private String customerId;
+    private int itemCount;
+    private BigDecimal totalPrice;
+    private OrderStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public OrderSummaryResponse() {
+    }
+
+    public static OrderSummaryResponse fromEntity(Order order) {
+        OrderSummaryResponse response = new OrderSummaryResponse();
+        response.id = order.getId();
+        response.customerId = order.getCustomerId();
+        response.itemCount = order.getItems().size();
+        response.totalPrice = order.getTotalPrice();
+        response.status = order.getStatus();
+        response.createdAt = order.getCreatedAt();
+        response.updatedAt = order.getUpdatedAt();
+        return response;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(String customerId) {
+        this.customerId = customerId;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public void setItemCount(int itemCount) {
+        this.itemCount = itemCount;
+    }
+
+    public BigDecimal getTotalPrice() {
+        return totalPrice;
+    }
+
+    public void setTotalPrice(BigDecimal totalPrice) {
+        this.totalPrice = totalPrice;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(OrderStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,20 @@
+package com.quantiphi.orderservice.event;
+
+import com.quantiphi.orderservice.domain.Order;
+
+/**
+ * Published by the service layer once a new order has been persisted.
+ * Listeners receive the saved entity and must treat it as read-only.
+ */
+public class OrderCreatedEvent {
+
+    private final Order order;
+
+    public OrderCreatedEvent(Order order) {
+        this.order = order;
+    }
+
+    public Order getOrder() {
+        return order;
+    }
+}
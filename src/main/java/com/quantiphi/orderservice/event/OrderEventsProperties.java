@@ -0,0 +1,56 @@
+package com.quantiphi.orderservice.event;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for server-sent order status subscriptions.
+ */
+@ConfigurationProperties(prefix = "orders.events")
+public class OrderEventsProperties {
+
+    /** How long a subscription stays open before the client has to reconnect. */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /** Maximum number of undelivered events buffered per subscriber. */
+    private int bufferSize = 32;
+
+    /** Maximum number of orders a single subscription may watch. */
+    private int maxOrdersPerSubscription = 100;
+
+    /** Number of threads writing events to subscribers. */
+    private int dispatcherThreads = 2;
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public int getMaxOrdersPerSubscription() {
+        return maxOrdersPerSubscription;
+    }
+
+    public void setMaxOrdersPerSubscription(int maxOrdersPerSubscription) {
+        this.maxOrdersPerSubscription = maxOrdersPerSubscription;
+    }
+
+    public int getDispatcherThreads() {
+        return dispatcherThreads;
+    }
+
+    public void setDispatcherThreads(int dispatcherThreads) {
+        this.dispatcherThreads = dispatcherThreads;
+    }
+}
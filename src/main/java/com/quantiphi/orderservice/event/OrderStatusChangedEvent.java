@@ -0,0 +1,45 @@
+package com.quantiphi.orderservice.event;
+
+import com.quantiphi.orderservice.domain.OrderStatus;
+import java.time.LocalDateTime;
+
+/**
+ * Published by the service layer after an order has moved from one status to another.
+ */
+public class OrderStatusChangedEvent {
+
+    private final Long orderId;
+    private final String customerId;
+    private final OrderStatus previousStatus;
+    private final OrderStatus newStatus;
+    private final LocalDateTime changedAt;
+
+    public OrderStatusChangedEvent(Long orderId, String customerId, OrderStatus previousStatus,
+                                   OrderStatus newStatus, LocalDateTime changedAt) {
+        this.orderId = orderId;
+        this.customerId = customerId;
+        this.previousStatus = previousStatus;
+        this.newStatus = newStatus;
+        this.changedAt = changedAt;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public String getCustomerId() {
+        return customerId;
+    }
+
+    public OrderStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public OrderStatus getNewStatus() {
+        return newStatus;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+}
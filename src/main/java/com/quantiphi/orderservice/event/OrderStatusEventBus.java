@@ -0,0 +1,201 @@
+package com.quantiphi.orderservice.event;
+
+import com.quantiphi.orderservice.dto.OrderStatusEventResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process fan-out of committed order status changes to live subscribers.
+ * Publishing never blocks: each event is appended to the bounded buffer of every
+ * subscriber watching the order, and a small dispatcher pool drains buffers to
+ * the subscribers' sinks. A subscriber whose buffer overflows is disconnected
+ * rather than slowing down others; it is expected to re-fetch and resubscribe.
+ * Idle subscriptions hold no thread and no buffer space.
+ */
+@Component
+@EnableConfigurationProperties(OrderEventsProperties.class)
+public class OrderStatusEventBus implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderStatusEventBus.class);
+
+    private final OrderEventsProperties properties;
+    private final ExecutorService dispatcher;
+    private final Map<Long, Set<Subscription>> subscriptionsByOrder = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriptionCount = new AtomicInteger();
+    private final LongAdder overflowedSubscriptions = new LongAdder();
+
+    public OrderStatusEventBus(OrderEventsProperties properties) {
+        this.properties = properties;
+        this.dispatcher = Executors.newFixedThreadPool(properties.getDispatcherThreads(),
+                new CustomizableThreadFactory("order-events-"));
+    }
+
+    /**
+     * Receiver of events for one subscription.
+     */
+    public interface EventSink {
+
+        void send(OrderStatusEventResponse event) throws IOException;
+
+        void close();
+    }
+
+    /**
+     * Registers a subscriber for status changes of the given orders.
+     *
+     * @param orderIds the orders to watch
+     * @param sink the receiver of events
+     * @return the subscription handle, used to unsubscribe
+     */
+    public Subscription subscribe(Collection<Long> orderIds, EventSink sink) {
+        Subscription subscription = new Subscription(List.copyOf(orderIds), sink);
+        for (Long orderId : subscription.orderIds) {
+            subscriptionsByOrder.computeIfAbsent(orderId, key -> ConcurrentHashMap.newKeySet()).add(subscription);
+        }
+        subscriptionCount.incrementAndGet();
+        return subscription;
+    }
+
+    /**
+     * Removes a subscription. Safe to call more than once.
+     *
+     * @param subscription the subscription to remove
+     */
+    public void unsubscribe(Subscription subscription) {
+        if (!subscription.closed.compareAndSet(false, true)) {
+            return;
+        }
+        for (Long orderId : subscription.orderIds) {
+            subscriptionsByOrder.computeIfPresent(orderId, (key, subscriptions) -> {
+                subscriptions.remove(subscription);
+                return subscriptions.isEmpty() ? null : subscriptions;
+            });
+        }
+        subscriptionCount.decrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        Set<Subscription> subscriptions = subscriptionsByOrder.get(event.getOrderId());
+        if (subscriptions == null) {
+            return;
+        }
+        OrderStatusEventResponse payload = OrderStatusEventResponse.fromEvent(event);
+        for (Subscription subscription : subscriptions) {
+            offer(subscription, payload);
+        }
+    }
+
+    public int getSubscriptionCount() {
+        return subscriptionCount.get();
+    }
+
+    private void offer(Subscription subscription, OrderStatusEventResponse payload) {
+        if (subscription.closed.get()) {
+            return;
+        }
+        if (subscription.buffered.incrementAndGet() > properties.getBufferSize()) {
+            subscription.buffered.decrementAndGet();
+            subscription.overflowed = true;
+        } else {
+            subscription.buffer.offer(payload);
+        }
+        scheduleDrain(subscription);
+    }
+
+    private void scheduleDrain(Subscription subscription) {
+        if (subscription.draining.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscription));
+        }
+    }
+
+    private void drain(Subscription subscription) {
+        do {
+            if (subscription.overflowed) {
+                overflowedSubscriptions.increment();
+                log.warn("Disconnecting slow subscriber for orders {}: buffer of {} events full",
+                        subscription.orderIds, properties.getBufferSize());
+                close(subscription);
+                return;
+            }
+            OrderStatusEventResponse event;
+            while ((event = subscription.buffer.poll()) != null) {
+                subscription.buffered.decrementAndGet();
+                try {
+                    subscription.sink.send(event);
+                } catch (IOException | RuntimeException e) {
+                    log.debug("Dropping subscriber for orders {}: {}", subscription.orderIds, e.getMessage());
+                    close(subscription);
+                    return;
+                }
+            }
+            subscription.draining.set(false);
+        } while ((!subscription.buffer.isEmpty() || subscription.overflowed)
+                && subscription.draining.compareAndSet(false, true));
+    }
+
+    private void close(Subscription subscription) {
+        unsubscribe(subscription);
+        subscription.buffer.clear();
+        subscription.sink.close();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("orders.events.subscriptions", subscriptionCount, AtomicInteger::get)
+            .description("Open order status subscriptions")
+            .register(registry);
+        FunctionCounter.builder("orders.events.overflowed", overflowedSubscriptions, LongAdder::sum)
+            .description("Subscriptions disconnected because their buffer filled up")
+            .register(registry);
+    }
+
+    /**
+     * Handle for an open subscription.
+     */
+    public static final class Subscription {
+        private final List<Long> orderIds;
+        private final EventSink sink;
+        private final ConcurrentLinkedQueue<OrderStatusEventResponse> buffer = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger buffered = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean overflowed;
+
+        private Subscription(List<Long> orderIds, EventSink sink) {
+            this.orderIds = orderIds;
+            this.sink = sink;
+        }
+
+        public List<Long> getOrderIds() {
+            return orderIds;
+        }
+    }
+}
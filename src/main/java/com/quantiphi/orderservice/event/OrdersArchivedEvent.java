@@ -0,0 +1,20 @@
+package com.quantiphi.orderservice.event;
+
+import com.quantiphi.orderservice.domain.Order;
+import java.util.List;
+
+/**
+ * Published after terminal orders have been moved from the order tables to the archive.
+ */
+public class OrdersArchivedEvent {
+
+    private final List<Order> orders;
+
+    public OrdersArchivedEvent(List<Order> orders) {
+        this.orders = orders;
+    }
+
+    public List<Order> getOrders() {
+        return orders;
+    }
+}
@@ -0,0 +1,21 @@
+package com.quantiphi.orderservice.exception;
+
+import java.util.Map;
+
+public class InvalidOrderPayloadException extends RuntimeException {
+
+    private final Map<String, String> validationErrors;
+    
+    public InvalidOrderPayloadException(String message) {
+        this(message, Map.of());
+    }
+
+    public InvalidOrderPayloadException(String message, Map<String, String> validationErrors) {
+        super(message);
+        this.validationErrors = validationErrors;
+    }
+
+    public Map<String, String> getValidationErrors() {
+        return validationErrors;
+    }
+}
@@ -0,0 +1,8 @@
+package com.quantiphi.orderservice.exception;
+
+public class InvalidSubscriptionException extends RuntimeException {
+    
+    public InvalidSubscriptionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,118 @@
+package com.quantiphi.orderservice.expiry;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+
+/**
+ * Hashed timing wheel holding one deadline per scheduled order ID.
+ * <p>
+ * Deadlines are rounded up to ticks and hashed into a fixed ring of buckets, so
+ * scheduling is O(1) and each {@link #advance} only visits the buckets of the ticks
+ * that elapsed, not every pending entry. Deadlines further out than one rotation
+ * share buckets with nearer ones and are skipped until their tick comes round.
+ * <p>
+ * {@link #schedule} may be called from any thread; new entries are queued and moved
+ * into their buckets by the next {@link #advance}, which must be called from a
+ * single thread. Nothing is ever removed early: callers re-check an expired ID
+ * against its current state.
+ */
+class HashedTimingWheel {
+
+    private final long tickMillis;
+    private final Entry[] buckets;
+    private final int mask;
+    private final ConcurrentLinkedQueue<Entry> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    private long currentTick;
+
+    /**
+     * @param tickMillis the tick duration in milliseconds
+     * @param wheelSize the number of buckets, rounded up to a power of two
+     * @param startMillis the current time in milliseconds
+     */
+    HashedTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("Tick duration and wheel size must be positive");
+        }
+        int bucketCount = Integer.highestOneBit(Math.max(wheelSize - 1, 1)) << 1;
+        this.tickMillis = tickMillis;
+        this.buckets = new Entry[bucketCount];
+        this.mask = bucketCount - 1;
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Schedules an ID to expire at a deadline. Deadlines in the past expire on the next tick.
+     *
+     * @param id the ID
+     * @param deadlineMillis the deadline in epoch milliseconds
+     */
+    void schedule(long id, long deadlineMillis) {
+        pending.offer(new Entry(id, Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis)));
+        size.incrementAndGet();
+    }
+
+    /**
+     * Moves the wheel forward to the given time and hands every ID whose deadline
+     * has passed to the consumer.
+     *
+     * @param nowMillis the current time in epoch milliseconds
+     * @param expired receives the expired IDs
+     */
+    void advance(long nowMillis, LongConsumer expired) {
+        Entry entry;
+        while ((entry = pending.poll()) != null) {
+            entry.tick = Math.max(entry.tick, currentTick + 1);
+            int bucket = (int) (entry.tick & mask);
+            entry.next = buckets[bucket];
+            buckets[bucket] = entry;
+        }
+
+        long nowTick = nowMillis / tickMillis;
+        long elapsed = Math.min(nowTick - currentTick, buckets.length);
+        for (long tick = currentTick + 1; tick <= currentTick + elapsed; tick++) {
+            expireBucket((int) (tick & mask), nowTick, expired);
+        }
+        currentTick = Math.max(currentTick, nowTick);
+    }
+
+    /**
+     * Returns the number of scheduled, not yet expired entries.
+     */
+    int size() {
+        return size.get();
+    }
+
+    private void expireBucket(int bucket, long nowTick, LongConsumer expired) {
+        Entry previous = null;
+        Entry entry = buckets[bucket];
+        while (entry != null) {
+            Entry next = entry.next;
+            if (entry.tick <= nowTick) {
+                if (previous == null) {
+                    buckets[bucket] = next;
+                } else {
+                    previous.next = next;
+                }
+                size.decrementAndGet();
+                expired.accept(entry.id);
+            } else {
+                previous = entry;
+            }
+            entry = next;
+        }
+    }
+
+    private static final class Entry {
+        private final long id;
+        private long tick;
+        private Entry next;
+
+        private Entry(long id, long tick) {
+            this.id = id;
+            this.tick = tick;
+        }
+    }
+}
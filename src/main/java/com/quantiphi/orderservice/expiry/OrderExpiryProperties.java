@@ -0,0 +1,89 @@
+package com.quantiphi.orderservice.expiry;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for cancelling orders that stay pending beyond their SLA.
+ */
+@ConfigurationProperties(prefix = "orders.expiry")
+public class OrderExpiryProperties {
+
+    /** Whether pending orders are cancelled automatically. */
+    private boolean enabled = false;
+
+    /** How long an order may stay CREATED before it is cancelled. */
+    private Duration createdTimeout = Duration.ofHours(24);
+
+    /** How long an order may stay PROCESSING before it is cancelled. */
+    private Duration processingTimeout = Duration.ofHours(72);
+
+    /** Resolution of the timing wheel; orders are cancelled at most this late. */
+    private Duration tick = Duration.ofSeconds(1);
+
+    /** Number of buckets in the timing wheel. */
+    private int wheelSize = 512;
+
+    /** Maximum number of orders cancelled in one transaction. */
+    private int batchSize = 500;
+
+    /** Delay before orders whose cancellation failed are tried again. */
+    private Duration retryDelay = Duration.ofSeconds(30);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getCreatedTimeout() {
+        return createdTimeout;
+    }
+
+    public void setCreatedTimeout(Duration createdTimeout) {
+        this.createdTimeout = createdTimeout;
+    }
+
+    public Duration getProcessingTimeout() {
+        return processingTimeout;
+    }
+
+    public void setProcessingTimeout(Duration processingTimeout) {
+        this.processingTimeout = processingTimeout;
+    }
+
+    public Duration getTick() {
+        return tick;
+    }
+
+    public void setTick(Duration tick) {
+        this.tick = tick;
+    }
+
+    public int getWheelSize() {
+        return wheelSize;
+    }
+
+    public void setWheelSize(int wheelSize) {
+        this.wheelSize = wheelSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getRetryDelay() {
+        return retryDelay;
+    }
+
+    public void setRetryDelay(Duration retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+}
@@ -0,0 +1,234 @@
+package com.quantiphi.orderservice.expiry;
+
+import com.quantiphi.orderservice.domain.Order;
+import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.event.OrderCreatedEvent;
+import com.quantiphi.orderservice.event.OrderStatusChangedEvent;
+import com.quantiphi.orderservice.profiling.OrderStatusTransitionEvent;
+import com.quantiphi.orderservice.repository.OrderRepository;
+import com.quantiphi.orderservice.repository.PendingOrderRef;
+import com.quantiphi.orderservice.shard.OrderShards;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cancels orders that stay CREATED or PROCESSING longer than their configured timeout.
+ * <p>
+ * Every creation and status change schedules the order's deadline on a
+ * {@link HashedTimingWheel}; at startup the wheel is rebuilt from the pending orders
+ * using the (status, updated_at) index. Each tick only touches orders whose deadline
+ * has passed, so no periodic scan of the orders table is needed. Expired orders are
+ * re-read and cancelled in batches through {@link Order#updateStatus}; orders that
+ * have moved on since they were scheduled are left alone. Each cancellation is
+ * recorded as an {@link OrderStatusTransitionEvent}.
+ */
+@Component
+@EnableConfigurationProperties(OrderExpiryProperties.class)
+public class OrderExpiryScheduler implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderExpiryScheduler.class);
+
+    private static final int REBUILD_PAGE_SIZE = 10_000;
+
+    private final OrderRepository orderRepository;
+    private final OrderShards orderShards;
+    private final OrderExpiryProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final HashedTimingWheel wheel;
+    private final LongAdder cancelled = new LongAdder();
+
+    public OrderExpiryScheduler(OrderRepository orderRepository,
+                                OrderShards orderShards,
+                                OrderExpiryProperties properties,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.orderShards = orderShards;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.wheel = new HashedTimingWheel(properties.getTick().toMillis(), properties.getWheelSize(),
+            System.currentTimeMillis());
+    }
+
+    /**
+     * Schedules every pending order found in the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        int scheduled = 0;
+        for (int shard = 0; shard < orderShards.getShardCount(); shard++) {
+            for (OrderStatus status : List.of(OrderStatus.CREATED, OrderStatus.PROCESSING)) {
+                scheduled += orderShards.onShard(shard, () -> schedulePending(status));
+            }
+        }
+        log.info("Order expiry wheel rebuilt with {} pending orders", scheduled);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        Order order = event.getOrder();
+        schedule(order.getId(), order.getStatus(), order.getUpdatedAt());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        schedule(event.getOrderId(), event.getNewStatus(), event.getChangedAt());
+    }
+
+    /**
+     * Advances the wheel and cancels the orders whose deadline has passed.
+     */
+    @Scheduled(fixedDelayString = "${orders.expiry.tick:PT1S}")
+    public void tick() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        List<Long> expired = new ArrayList<>();
+        wheel.advance(System.currentTimeMillis(), expired::add);
+        if (expired.isEmpty()) {
+            return;
+        }
+        Map<Integer, List<Long>> expiredByShard = new TreeMap<>();
+        for (Long orderId : expired) {
+            expiredByShard.computeIfAbsent(orderShards.shardForOrder(orderId), shard -> new ArrayList<>()).add(orderId);
+        }
+        expiredByShard.forEach((shard, orderIds) -> {
+            for (int from = 0; from < orderIds.size(); from += properties.getBatchSize()) {
+                List<Long> batch = orderIds.subList(from, Math.min(from + properties.getBatchSize(), orderIds.size()));
+                orderShards.onShard(shard, () -> cancelBatch(batch));
+            }
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("orders.expiry.scheduled", wheel, HashedTimingWheel::size)
+            .description("Order deadlines waiting on the expiry wheel")
+            .register(registry);
+        FunctionCounter.builder("orders.expiry.cancelled", cancelled, LongAdder::sum)
+            .description("Orders cancelled after exceeding their timeout")
+            .register(registry);
+    }
+
+    private int schedulePending(OrderStatus status) {
+        int scheduled = 0;
+        List<PendingOrderRef> page = orderRepository.findPendingOrderRefs(status, PageRequest.of(0, REBUILD_PAGE_SIZE));
+        while (!page.isEmpty()) {
+            for (PendingOrderRef ref : page) {
+                schedule(ref.getOrderId(), ref.getStatus(), ref.getUpdatedAt());
+            }
+            scheduled += page.size();
+            PendingOrderRef last = page.get(page.size() - 1);
+            page = page.size() < REBUILD_PAGE_SIZE ? List.of() : orderRepository.findPendingOrderRefsAfter(
+                status, last.getUpdatedAt(), last.getOrderId(), PageRequest.of(0, REBUILD_PAGE_SIZE));
+        }
+        return scheduled;
+    }
+
+    private int cancelBatch(List<Long> orderIds) {
+        try {
+            int count = transactionTemplate.execute(status -> cancelDue(orderIds));
+            if (count > 0) {
+                cancelled.add(count);
+                log.info("Cancelled {} orders that exceeded their timeout", count);
+            }
+            return count;
+        } catch (RuntimeException e) {
+            if (orderIds.size() == 1) {
+                log.warn("Failed to cancel expired order {}, retrying in {}: {}",
+                        orderIds.get(0), properties.getRetryDelay(), e.getMessage());
+                wheel.schedule(orderIds.get(0), System.currentTimeMillis() + properties.getRetryDelay().toMillis());
+                return 0;
+            }
+            log.warn("Cancelling {} expired orders failed, retrying individually: {}", orderIds.size(), e.getMessage());
+            int total = 0;
+            for (Long orderId : orderIds) {
+                total += cancelBatch(List.of(orderId));
+            }
+            return total;
+        }
+    }
+
+    private int cancelDue(List<Long> orderIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Order> expired = new ArrayList<>();
+        List<OrderStatus> previousStatuses = new ArrayList<>();
+        for (Order order : orderRepository.findAllById(orderIds)) {
+            Duration timeout = timeoutFor(order.getStatus());
+            if (timeout == null) {
+                continue;
+            }
+            LocalDateTime deadline = order.getUpdatedAt().plus(timeout);
+            if (deadline.isAfter(now)) {
+                schedule(order.getId(), order.getStatus(), order.getUpdatedAt());
+                continue;
+            }
+            OrderStatusTransitionEvent transition = new OrderStatusTransitionEvent();
+            transition.begin();
+            transition.orderId = order.getId();
+            transition.fromStatus = order.getStatus().name();
+            transition.toStatus = OrderStatus.CANCELLED.name();
+            transition.outcome = OrderStatusTransitionEvent.APPLIED;
+            transition.commitAfterCompletion();
+            previousStatuses.add(order.getStatus());
+            order.updateStatus(OrderStatus.CANCELLED);
+            expired.add(order);
+        }
+        if (expired.isEmpty()) {
+            return 0;
+        }
+        // Saved explicitly: stores outside of JPA, like the in-memory one, hand out copies
+        orderRepository.saveAll(expired);
+        for (int i = 0; i < expired.size(); i++) {
+            Order order = expired.get(i);
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(
+                order.getId(), order.getCustomerId(), previousStatuses.get(i), OrderStatus.CANCELLED, order.getUpdatedAt()));
+        }
+        return expired.size();
+    }
+
+    private void schedule(Long orderId, OrderStatus status, LocalDateTime updatedAt) {
+        Duration timeout = timeoutFor(status);
+        if (!properties.isEnabled() || orderId == null || timeout == null) {
+            return;
+        }
+        long deadline = updatedAt.atZone(ZoneId.systemDefault()).toInstant().plus(timeout).toEpochMilli();
+        wheel.schedule(orderId, deadline);
+    }
+
+    private Duration timeoutFor(OrderStatus status) {
+        return switch (status) {
+            case CREATED -> properties.getCreatedTimeout();
+            case PROCESSING -> properties.getProcessingTimeout();
+            case COMPLETED, CANCELLED -> null;
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package com.quantiphi.orderservice.id;
+
+import java.util.Locale;
+
+/**
+ * How Snowflake IDs are allocated within one node, selected with {@code orders.id.strategy}.
+ * Both strategies draw from the node's one {@link SnowflakeIdGenerator}, so they can be
+ * mixed without producing duplicates.
+ */
+public enum IdStrategy {
+
+    /** Every ID is one compare-and-set on the node's shared sequence. */
+    SHARED,
+
+    /** Threads reserve blocks of the sequence and allocate from them without contention. */
+    PER_THREAD;
+
+    /**
+     * Returns the process-wide generator of this strategy for a node.
+     *
+     * @param nodeId the node ID (0..1023)
+     * @return the shared generator
+     */
+    public OrderIdGenerator forNode(long nodeId) {
+        return switch (this) {
+            case SHARED -> SnowflakeIdGenerator.forNode(nodeId);
+            case PER_THREAD -> PerThreadSnowflakeIdGenerator.forNode(nodeId);
+        };
+    }
+
+    /**
+     * Parses a strategy name as written in configuration, e.g. {@code per-thread}.
+     *
+     * @param name the strategy name, in any case, with dashes or underscores
+     * @return the strategy
+     * @throws IllegalArgumentException if no strategy has that name
+     */
+    public static IdStrategy from(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+}
@@ -0,0 +1,16 @@
+package com.quantiphi.orderservice.id;
+
+/**
+ * Strategy allocating the IDs of orders and order items in memory, before insert.
+ * Implementations must hand out positive IDs that are unique across every instance
+ * writing to the same database.
+ */
+public interface OrderIdGenerator {
+
+    /**
+     * Allocates the next ID.
+     *
+     * @return a positive, unique ID
+     */
+    long nextId();
+}
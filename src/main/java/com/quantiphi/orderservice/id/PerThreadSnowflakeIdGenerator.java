@@ -0,0 +1,50 @@
+package com.quantiphi.orderservice.id;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Snowflake ID strategy in which each thread reserves a block of consecutive
+ * sequence numbers from the node's {@link SnowflakeIdGenerator} with a single
+ * compare-and-set, then hands them out without touching shared state. A block is
+ * given up once the clock has moved past its millisecond, so IDs stay ordered by
+ * time to the millisecond; the unused rest of it is skipped. IDs increase per thread,
+ * not across threads.
+ */
+public class PerThreadSnowflakeIdGenerator implements OrderIdGenerator {
+
+    /** Sequence numbers reserved at once; 64 blocks fit into one millisecond. */
+    static final int BLOCK_SIZE = 64;
+
+    private static final Map<Long, PerThreadSnowflakeIdGenerator> GENERATORS_BY_NODE = new ConcurrentHashMap<>();
+
+    private final SnowflakeIdGenerator shared;
+    private final ThreadLocal<long[]> blocks = ThreadLocal.withInitial(() -> new long[] {1, 0});
+
+    PerThreadSnowflakeIdGenerator(SnowflakeIdGenerator shared) {
+        this.shared = shared;
+    }
+
+    /**
+     * Returns the process-wide per-thread generator for a node, which reserves its
+     * blocks from {@link SnowflakeIdGenerator#forNode}.
+     *
+     * @param nodeId the node ID (0..1023)
+     * @return the shared generator
+     */
+    public static PerThreadSnowflakeIdGenerator forNode(long nodeId) {
+        return GENERATORS_BY_NODE.computeIfAbsent(nodeId,
+            node -> new PerThreadSnowflakeIdGenerator(SnowflakeIdGenerator.forNode(node)));
+    }
+
+    @Override
+    public long nextId() {
+        // block[0] is the next state to hand out, block[1] the last one reserved
+        long[] block = blocks.get();
+        if (block[0] > block[1] || shared.isBehindClock(block[0])) {
+            block[0] = shared.reserve(BLOCK_SIZE);
+            block[1] = block[0] + BLOCK_SIZE - 1;
+        }
+        return shared.toId(block[0]++);
+    }
+}
@@ -0,0 +1,159 @@
+package com.quantiphi.orderservice.id;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Coordination-free generator of time-ordered 64-bit IDs (Snowflake layout).
+ * <pre>
+ *  0 | 41 bits: milliseconds since 2024-01-01 | 10 bits: node ID | 12 bits: sequence
+ * </pre>
+ * Allocation is lock-free: the last timestamp and sequence are packed into one
+ * {@link AtomicLong} and advanced with compare-and-set. If the wall clock moves
+ * backwards, or more than 4096 IDs are needed within one millisecond, the
+ * generator keeps counting on its own logical clock instead of blocking, so IDs
+ * stay unique and strictly increasing per node. This is the {@link IdStrategy#SHARED}
+ * strategy; {@link PerThreadSnowflakeIdGenerator} reserves blocks of its sequence.
+ */
+public class SnowflakeIdGenerator implements OrderIdGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SnowflakeIdGenerator.class);
+
+    public static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    public static final int NODE_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+    private static final long CLOCK_SKEW_WARN_MILLIS = 1_000;
+
+    private static final Map<Long, SnowflakeIdGenerator> GENERATORS_BY_NODE = new ConcurrentHashMap<>();
+
+    private final long nodeBits;
+    private final LongSupplier clock;
+    private final AtomicLong lastState = new AtomicLong();
+
+    public SnowflakeIdGenerator(long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException(
+                String.format("Node ID must be between 0 and %d but was %d", MAX_NODE_ID, nodeId));
+        }
+        this.nodeBits = nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the process-wide generator for a node, so that every user of the
+     * same node ID in this JVM draws from one sequence.
+     *
+     * @param nodeId the node ID (0..1023)
+     * @return the shared generator
+     */
+    public static SnowflakeIdGenerator forNode(long nodeId) {
+        return GENERATORS_BY_NODE.computeIfAbsent(nodeId, SnowflakeIdGenerator::new);
+    }
+
+    /**
+     * Allocates the next ID.
+     *
+     * @return a positive, unique, time-ordered ID
+     */
+    @Override
+    public long nextId() {
+        return toId(reserve(1));
+    }
+
+    /**
+     * Reserves consecutive states of the packed timestamp and sequence; a sequence
+     * overflow carries into the timestamp, so every state is a distinct ID.
+     *
+     * @param count the number of states to reserve
+     * @return the first reserved state, to be turned into IDs with {@link #toId}
+     */
+    long reserve(int count) {
+        while (true) {
+            long last = lastState.get();
+            long lastTimestamp = last >>> SEQUENCE_BITS;
+            long now = clock.getAsLong() - EPOCH_MILLIS;
+
+            long next;
+            if (now > lastTimestamp) {
+                next = now << SEQUENCE_BITS;
+            } else {
+                // Same millisecond, clock moved backwards, or sequence exhausted:
+                // continue on the logical clock (a sequence overflow carries into the timestamp)
+                next = last + 1;
+                if (lastTimestamp - now > CLOCK_SKEW_WARN_MILLIS && (last & SEQUENCE_MASK) == 0) {
+                    log.warn("System clock is {} ms behind the ID generator's logical clock", lastTimestamp - now);
+                }
+            }
+            if (lastState.compareAndSet(last, next + count - 1)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Turns a reserved state into this node's ID.
+     *
+     * @param state a state returned by {@link #reserve}, or one of the states after it
+     * @return the ID
+     */
+    long toId(long state) {
+        long timestamp = state >>> SEQUENCE_BITS;
+        long sequence = state & SEQUENCE_MASK;
+        return (timestamp << TIMESTAMP_SHIFT) | nodeBits | sequence;
+    }
+
+    /**
+     * Tells whether the clock has moved past the millisecond of a reserved state.
+     *
+     * @param state a reserved state
+     * @return true if an ID allocated now would carry a later timestamp
+     */
+    boolean isBehindClock(long state) {
+        return (state >>> SEQUENCE_BITS) < clock.getAsLong() - EPOCH_MILLIS;
+    }
+
+    /**
+     * Extracts the creation time encoded in an ID.
+     *
+     * @param id an ID produced by this generator
+     * @return the instant the ID was allocated
+     */
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> TIMESTAMP_SHIFT) + EPOCH_MILLIS);
+    }
+
+    /**
+     * Returns the lowest ID that can be allocated at an instant, which turns a time
+     * bound into an ID bound: every ID allocated earlier is below it.
+     *
+     * @param instant the instant; instants before the epoch give 0
+     * @return the lowest ID of that millisecond
+     */
+    public static long lowestIdAt(Instant instant) {
+        return Math.max(0, instant.toEpochMilli() - EPOCH_MILLIS) << TIMESTAMP_SHIFT;
+    }
+
+    /**
+     * Extracts the node ID encoded in an ID.
+     *
+     * @param id an ID produced by this generator
+     * @return the node that allocated the ID
+     */
+    public static long nodeOf(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+}
@@ -0,0 +1,53 @@
+package com.quantiphi.orderservice.id;
+
+import com.quantiphi.orderservice.shard.OrderShards;
+import com.quantiphi.orderservice.shard.ShardContext;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+/**
+ * Hibernate generator that assigns Snowflake IDs before insert.
+ * Because IDs are known before the row is written, Hibernate can batch inserts.
+ * The node ID is read from the {@value #NODE_ID_SETTING} Hibernate setting and the
+ * {@link IdStrategy} from {@value #STRATEGY_SETTING}; rows written to a shard other
+ * than the first also carry the shard number in the node field.
+ */
+public class SnowflakeIdentifierGenerator implements BeforeExecutionGenerator {
+
+    public static final String NODE_ID_SETTING = "orders.id.node-id";
+    public static final String STRATEGY_SETTING = "orders.id.strategy";
+
+    private final long nodeId;
+    private final IdStrategy strategy;
+    private final transient OrderIdGenerator generator;
+
+    public SnowflakeIdentifierGenerator(SnowflakeId config, Member member, CustomIdGeneratorCreationContext context) {
+        ConfigurationService settings = context.getServiceRegistry().requireService(ConfigurationService.class);
+        this.nodeId = settings.getSetting(NODE_ID_SETTING, StandardConverters.INTEGER, 0);
+        this.strategy = IdStrategy.from(settings.getSetting(STRATEGY_SETTING, StandardConverters.STRING,
+            IdStrategy.SHARED.name()));
+        this.generator = strategy.forNode(nodeId);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        Integer shard = ShardContext.current();
+        if (shard == null || shard == 0) {
+            return generator.nextId();
+        }
+        return strategy.forNode(OrderShards.nodeIdFor(shard, nodeId)).nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EnumSet.of(EventType.INSERT);
+    }
+}
@@ -0,0 +1,32 @@
+package com.quantiphi.orderservice.ingest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for merging repeated product lines when an order is created.
+ */
+@ConfigurationProperties(prefix = "orders.ingest.consolidation")
+public class LineConsolidationProperties {
+
+    /** Whether lines for the same product are merged into one order item. */
+    private boolean enabled = true;
+
+    /** How lines for the same product with different unit prices are handled. */
+    private PriceConflictPolicy priceConflict = PriceConflictPolicy.KEEP_SEPARATE;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public PriceConflictPolicy getPriceConflict() {
+        return priceConflict;
+    }
+
+    public void setPriceConflict(PriceConflictPolicy priceConflict) {
+        this.priceConflict = priceConflict;
+    }
+}
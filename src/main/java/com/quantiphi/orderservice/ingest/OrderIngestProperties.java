@@ -0,0 +1,33 @@
+package com.quantiphi.orderservice.ingest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Limits applied to orders submitted through the streaming ingestion endpoint.
+ */
+@ConfigurationProperties(prefix = "orders.ingest")
+public class OrderIngestProperties {
+
+    /** Maximum number of items a single streamed order may contain. */
+    private int maxItems = 100_000;
+
+    /** Maximum size of a streamed order payload. */
+    private DataSize maxPayloadSize = DataSize.ofMegabytes(32);
+
+    public int getMaxItems() {
+        return maxItems;
+    }
+
+    public void setMaxItems(int maxItems) {
+        this.maxItems = maxItems;
+    }
+
+    public DataSize getMaxPayloadSize() {
+        return maxPayloadSize;
+    }
+
+    public void setMaxPayloadSize(DataSize maxPayloadSize) {
+        this.maxPayloadSize = maxPayloadSize;
+    }
+}
@@ -0,0 +1,129 @@
+package com.quantiphi.orderservice.ingest;
+
+import com.quantiphi.orderservice.domain.Order;
+import com.quantiphi.orderservice.domain.OrderItem;
+import com.quantiphi.orderservice.exception.InvalidOrderPayloadException;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Merges repeated lines for the same product into a single {@link OrderItem}
+ * while an order is being assembled, so an order is persisted, indexed and
+ * returned with one item per product instead of one per submitted line.
+ * Quantities of merged lines are added up; lines whose unit prices differ are
+ * handled according to the configured {@link PriceConflictPolicy}.
+ */
+@Component
+@EnableConfigurationProperties(LineConsolidationProperties.class)
+public class OrderLineConsolidator {
+
+    private static final int DEFAULT_EXPECTED_LINES = 16;
+
+    private final LineConsolidationProperties properties;
+
+    public OrderLineConsolidator(LineConsolidationProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Starts collecting the lines of an order.
+     *
+     * @param order the order the lines are added to
+     * @param expectedLines the number of submitted lines, or -1 if not known up front
+     * @return a collector adding lines to the order; not thread-safe
+     */
+    public Lines open(Order order, int expectedLines) {
+        return new Lines(order, expectedLines < 0 ? DEFAULT_EXPECTED_LINES : expectedLines);
+    }
+
+    /**
+     * The lines of one order being assembled.
+     */
+    public final class Lines {
+
+        private final Order order;
+        private final PriceConflictPolicy priceConflict;
+        private final ProductLineIndex index;
+        private OrderItem[] items;
+        // Next item for the same product at a different price, or -1; only KEEP_SEPARATE chains items
+        private int[] next;
+        private int size;
+
+        private Lines(Order order, int expectedLines) {
+            this.order = order;
+            this.priceConflict = properties.getPriceConflict();
+            if (properties.isEnabled()) {
+                int capacity = Math.max(1, expectedLines);
+                this.index = new ProductLineIndex(capacity);
+                this.items = new OrderItem[capacity];
+                this.next = new int[capacity];
+            } else {
+                this.index = null;
+            }
+        }
+
+        /**
+         * Adds a submitted line to the order, merging it into an existing item for
+         * the same product where the price conflict policy allows.
+         *
+         * @param item the submitted line
+         * @param position the line's position in the submitted items, used in error messages
+         * @throws InvalidOrderPayloadException if the line's price conflicts with an earlier
+         *         line under {@link PriceConflictPolicy#REJECT}, or the merged quantity overflows
+         */
+        public void add(OrderItem item, int position) {
+            if (index == null) {
+                order.addItem(item);
+                return;
+            }
+            int first = index.get(item.getProductId());
+            if (first < 0) {
+                index.put(item.getProductId(), append(item));
+                return;
+            }
+            int last = first;
+            for (int line = first; line >= 0; line = next[line]) {
+                if (items[line].getPrice().compareTo(item.getPrice()) == 0) {
+                    merge(line, item, items[line].getPrice(), position);
+                    return;
+                }
+                last = line;
+            }
+            switch (priceConflict) {
+                case REJECT -> throw new InvalidOrderPayloadException("Invalid order payload", Map.of(
+                    "items[" + position + "].price",
+                    "Price differs from an earlier line for product " + item.getProductId()));
+                case LOWEST -> merge(first, item, items[first].getPrice().min(item.getPrice()), position);
+                case KEEP_SEPARATE -> next[last] = append(item);
+            }
+        }
+
+        private int append(OrderItem item) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+                next = Arrays.copyOf(next, size * 2);
+            }
+            order.addItem(item);
+            items[size] = item;
+            next[size] = -1;
+            return size++;
+        }
+
+        private void merge(int line, OrderItem item, BigDecimal price, int position) {
+            OrderItem existing = items[line];
+            int quantity;
+            try {
+                quantity = Math.addExact(existing.getQuantity(), item.getQuantity());
+            } catch (ArithmeticException e) {
+                throw new InvalidOrderPayloadException("Invalid order payload", Map.of(
+                    "items[" + position + "].quantity",
+                    "Combined quantity for product " + item.getProductId() + " is too large"));
+            }
+            order.updateItem(existing, quantity, price);
+        }
+    }
+}
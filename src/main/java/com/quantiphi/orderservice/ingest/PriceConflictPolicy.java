@@ -0,0 +1,16 @@
+package com.quantiphi.orderservice.ingest;
+
+/**
+ * What to do when lines for the same product in one order carry different unit prices.
+ */
+public enum PriceConflictPolicy {
+
+    /** Keep one line per product and price; lines with equal prices are still merged. */
+    KEEP_SEPARATE,
+
+    /** Merge all lines of the product into one line at the lowest of their prices. */
+    LOWEST,
+
+    /** Reject the order. */
+    REJECT
+}
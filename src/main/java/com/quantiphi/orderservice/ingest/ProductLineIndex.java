@@ -0,0 +1,80 @@
+package com.quantiphi.orderservice.ingest;
+
+/**
+ * Open-addressing hash table from product ID to an {@code int} line number.
+ * Keys and values live in two flat arrays probed linearly, so a lookup costs no
+ * allocation and no boxing, and the table stays compact for orders with tens of
+ * thousands of lines. Entries are never removed.
+ */
+final class ProductLineIndex {
+
+    private static final int ABSENT = -1;
+
+    private String[] keys;
+    private int[] lines;
+    private int size;
+
+    ProductLineIndex(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize) * 2 - 1) << 1;
+        keys = new String[capacity];
+        lines = new int[capacity];
+    }
+
+    /**
+     * Returns the line stored for the product, or -1 if there is none.
+     */
+    int get(String productId) {
+        int mask = keys.length - 1;
+        for (int slot = hash(productId) & mask; ; slot = (slot + 1) & mask) {
+            String key = keys[slot];
+            if (key == null) {
+                return ABSENT;
+            }
+            if (key.equals(productId)) {
+                return lines[slot];
+            }
+        }
+    }
+
+    /**
+     * Stores the line for a product that is not in the table yet.
+     */
+    void put(String productId, int line) {
+        if (size + 1 > keys.length >> 1) {
+            resize();
+        }
+        insert(keys, lines, productId, line);
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void resize() {
+        String[] oldKeys = keys;
+        int[] oldLines = lines;
+        keys = new String[oldKeys.length << 1];
+        lines = new int[oldKeys.length << 1];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                insert(keys, lines, oldKeys[i], oldLines[i]);
+            }
+        }
+    }
+
+    private static void insert(String[] keys, int[] lines, String productId, int line) {
+        int mask = keys.length - 1;
+        int slot = hash(productId) & mask;
+        while (keys[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = productId;
+        lines[slot] = line;
+    }
+
+    private static int hash(String productId) {
+        int h = productId.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
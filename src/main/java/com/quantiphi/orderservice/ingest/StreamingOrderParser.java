@@ -0,0 +1,176 @@
+package com.quantiphi.orderservice.ingest;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quantiphi.orderservice.domain.Order;
+import com.quantiphi.orderservice.domain.OrderItem;
+import com.quantiphi.orderservice.dto.CreateOrderRequest;
+import com.quantiphi.orderservice.dto.OrderItemRequest;
+import com.quantiphi.orderservice.exception.InvalidOrderPayloadException;
+import com.quantiphi.orderservice.exception.PayloadTooLargeException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds an {@link Order} from a create-order JSON payload without binding the
+ * whole request first.
+ * The payload has the same shape as {@link CreateOrderRequest}. Items are read one
+ * at a time from the token stream, validated against the {@link OrderItemRequest}
+ * constraints and added to the order straight away, so the only full copy of the
+ * items held in memory is the order itself. Repeated lines for the same product are
+ * merged as they arrive. Item count and payload size are capped.
+ */
+@Component
+@EnableConfigurationProperties(OrderIngestProperties.class)
+public class StreamingOrderParser {
+
+    private static final String CUSTOMER_ID = "customerId";
+    private static final String ITEMS = "items";
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final OrderIngestProperties properties;
+    private final OrderLineConsolidator lineConsolidator;
+
+    public StreamingOrderParser(ObjectMapper objectMapper, Validator validator, OrderIngestProperties properties,
+                                OrderLineConsolidator lineConsolidator) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.properties = properties;
+        this.lineConsolidator = lineConsolidator;
+    }
+
+    /**
+     * Reads and validates an order payload.
+     *
+     * @param body the request body
+     * @param contentLength the announced body length, or -1 if unknown
+     * @return the new, unsaved order with all of its items
+     * @throws PayloadTooLargeException if the payload or its item count exceeds the configured limits
+     * @throws InvalidOrderPayloadException if the payload is malformed or fails validation
+     */
+    public Order parse(InputStream body, long contentLength) {
+        long maxBytes = properties.getMaxPayloadSize().toBytes();
+        if (contentLength > maxBytes) {
+            throw payloadTooLarge(maxBytes);
+        }
+        LimitedInputStream limited = new LimitedInputStream(body, maxBytes);
+        try (JsonParser parser = objectMapper.createParser(limited)) {
+            return readOrder(parser);
+        } catch (IOException e) {
+            if (limited.isLimitExceeded()) {
+                throw payloadTooLarge(maxBytes);
+            }
+            if (e instanceof JsonProcessingException malformed) {
+                throw new InvalidOrderPayloadException("Malformed order payload: " + malformed.getOriginalMessage());
+            }
+            throw new InvalidOrderPayloadException("Failed to read order payload: " + e.getMessage());
+        }
+    }
+
+    private Order readOrder(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new InvalidOrderPayloadException("Order payload must be a JSON object");
+        }
+        String customerId = null;
+        Order order = null;
+        OrderLineConsolidator.Lines lines = null;
+        // Items seen before the customer ID are held until the order can be created
+        List<OrderItem> pending = new ArrayList<>();
+        int itemCount = 0;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (CUSTOMER_ID.equals(field)) {
+                if (order != null) {
+                    throw new InvalidOrderPayloadException("Duplicate field: " + CUSTOMER_ID);
+                }
+                customerId = value == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+                validateCustomerId(customerId);
+                order = new Order(customerId);
+                lines = lineConsolidator.open(order, -1);
+                for (int i = 0; i < pending.size(); i++) {
+                    lines.add(pending.get(i), i);
+                }
+                pending = null;
+            } else if (ITEMS.equals(field)) {
+                if (value != JsonToken.START_ARRAY) {
+                    throw new InvalidOrderPayloadException("Order items must be a JSON array");
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (itemCount == properties.getMaxItems()) {
+                        throw new PayloadTooLargeException(String.format(
+                            "An order may contain at most %d items", properties.getMaxItems()));
+                    }
+                    OrderItem item = readItem(parser, itemCount);
+                    if (lines != null) {
+                        lines.add(item, itemCount);
+                    } else {
+                        pending.add(item);
+                    }
+                    itemCount++;
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (parser.nextToken() != null) {
+            throw new InvalidOrderPayloadException("Unexpected content after the order object");
+        }
+        if (order == null) {
+            validateCustomerId(customerId);
+        }
+        if (itemCount == 0) {
+            throw invalid(ITEMS, validator.validateValue(CreateOrderRequest.class, ITEMS, List.of()));
+        }
+        return order;
+    }
+
+    private OrderItem readItem(JsonParser parser, int index) throws IOException {
+        OrderItemRequest request = objectMapper.readValue(parser, OrderItemRequest.class);
+        String path = ITEMS + "[" + index + "]";
+        if (request == null) {
+            throw new InvalidOrderPayloadException("Invalid order item", Map.of(path, "Item is required"));
+        }
+        Set<ConstraintViolation<OrderItemRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw invalid(path + ".", violations);
+        }
+        return new OrderItem(request.getProductId(), request.getQuantity(), request.getPrice());
+    }
+
+    private void validateCustomerId(String customerId) {
+        Set<ConstraintViolation<CreateOrderRequest>> violations =
+            validator.validateValue(CreateOrderRequest.class, CUSTOMER_ID, customerId);
+        if (!violations.isEmpty()) {
+            throw invalid(CUSTOMER_ID, violations);
+        }
+    }
+
+    private static InvalidOrderPayloadException invalid(String prefix, Set<? extends ConstraintViolation<?>> violations) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (ConstraintViolation<?> violation : violations) {
+            String property = violation.getPropertyPath().toString();
+            String key = prefix.endsWith(".") ? prefix + property : prefix;
+            errors.put(key, violation.getMessage());
+        }
+        return new InvalidOrderPayloadException("Invalid order payload", errors);
+    }
+
+    private static PayloadTooLargeException payloadTooLarge(long maxBytes) {
+        return new PayloadTooLargeException(String.format("Order payload may not exceed %d bytes", maxBytes));
+    }
+}
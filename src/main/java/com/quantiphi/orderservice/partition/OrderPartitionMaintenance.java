@@ -0,0 +1,161 @@
+package com.quantiphi.orderservice.partition;
+
+import com.quantiphi.orderservice.shard.OrderShards;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Scheduled job keeping the monthly partitions of the order tables in shape, on
+ * every shard. Partitions for the current month and the configured number of
+ * months ahead are created before any order can need them, since the tables have
+ * no default partition to fall back on. Partitions of months past the retention
+ * are detached, so old data stops weighing on the live tables' indexes and vacuum.
+ * Items are detached first, because they reference the orders partition; a kept
+ * items partition also loses its foreign key before its orders partition is detached.
+ * Runs at startup as well, so a fresh schema has partitions before the first order.
+ */
+@Component
+@ConditionalOnProperty(prefix = "orders.partitioning", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(PartitioningProperties.class)
+public class OrderPartitionMaintenance {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderPartitionMaintenance.class);
+
+    private static final String LIST_PARTITIONS = "select c.relname, i.inhdetachpending from pg_inherits i "
+        + "join pg_class c on c.oid = i.inhrelid where i.inhparent = to_regclass(?)";
+    private static final String LIST_FOREIGN_KEYS =
+        "select conname from pg_constraint where conrelid = to_regclass(?) and contype = 'f'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderShards orderShards;
+    private final PartitioningProperties properties;
+    private final Clock clock;
+
+    @Autowired
+    public OrderPartitionMaintenance(JdbcTemplate jdbcTemplate, OrderShards orderShards,
+                                     PartitioningProperties properties) {
+        this(jdbcTemplate, orderShards, properties, Clock.systemUTC());
+    }
+
+    OrderPartitionMaintenance(JdbcTemplate jdbcTemplate, OrderShards orderShards,
+                              PartitioningProperties properties, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.orderShards = orderShards;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${orders.partitioning.interval:PT6H}",
+               initialDelayString = "${orders.partitioning.interval:PT6H}")
+    public void run() {
+        YearMonth current = YearMonth.now(clock.withZone(ZoneOffset.UTC));
+        for (int shard = 0; shard < orderShards.getShardCount(); shard++) {
+            orderShards.onShard(shard, () -> {
+                maintain(current);
+                return null;
+            });
+        }
+    }
+
+    private void maintain(YearMonth current) {
+        for (int ahead = 0; ahead <= properties.getPremakeMonths(); ahead++) {
+            YearMonth month = current.plusMonths(ahead);
+            createPartition(OrderPartitions.ORDERS_TABLE, month);
+            createPartition(OrderPartitions.ITEMS_TABLE, month);
+        }
+        if (properties.getDetachAfterMonths() > 0) {
+            YearMonth oldestKept = current.minusMonths(properties.getDetachAfterMonths() - 1L);
+            detachMonthsBefore(oldestKept);
+        }
+    }
+
+    private void createPartition(String table, YearMonth month) {
+        String partition = OrderPartitions.name(table, month);
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject("select to_regclass(?) is not null", Boolean.class, partition))) {
+            return;
+        }
+        jdbcTemplate.execute(String.format("create table if not exists %s partition of %s for values from (%d) to (%d)",
+            partition, table, OrderPartitions.lowerBound(month), OrderPartitions.lowerBound(month.plusMonths(1))));
+        log.info("Created partition {}", partition);
+    }
+
+    private void detachMonthsBefore(YearMonth oldestKept) {
+        Set<YearMonth> itemsStillAttached = new HashSet<>();
+        for (Partition items : partitionsBefore(OrderPartitions.ITEMS_TABLE, oldestKept)) {
+            if (!detach(OrderPartitions.ITEMS_TABLE, items)) {
+                itemsStillAttached.add(items.month());
+            }
+        }
+        for (Partition orders : partitionsBefore(OrderPartitions.ORDERS_TABLE, oldestKept)) {
+            if (itemsStillAttached.contains(orders.month())) {
+                continue;
+            }
+            // A kept items partition keeps its foreign key to orders, which would block the detach
+            dropForeignKeys(OrderPartitions.name(OrderPartitions.ITEMS_TABLE, orders.month()));
+            detach(OrderPartitions.ORDERS_TABLE, orders);
+        }
+    }
+
+    private List<Partition> partitionsBefore(String table, YearMonth oldestKept) {
+        List<Partition> old = new ArrayList<>();
+        jdbcTemplate.query(LIST_PARTITIONS, (RowCallbackHandler) row -> {
+            String name = row.getString(1);
+            boolean detachPending = row.getBoolean(2);
+            OrderPartitions.monthOf(table, name)
+                .filter(month -> month.isBefore(oldestKept))
+                .ifPresent(month -> old.add(new Partition(name, month, detachPending)));
+        }, table);
+        return old;
+    }
+
+    private boolean detach(String table, Partition partition) {
+        try {
+            // Concurrently takes only a share lock on the parent, so reads and writes of other months go on;
+            // a concurrent detach that was interrupted has to be finalized instead
+            jdbcTemplate.execute(String.format("alter table %s detach partition %s %s",
+                table, partition.name(), partition.detachPending() ? "finalize" : "concurrently"));
+        } catch (DataAccessException e) {
+            log.warn("Failed to detach partition {}; retrying on the next run", partition.name(), e);
+            return false;
+        }
+        if (properties.isDropDetached()) {
+            jdbcTemplate.execute("drop table " + partition.name());
+            log.info("Detached and dropped partition {}", partition.name());
+        } else {
+            log.info("Detached partition {}", partition.name());
+        }
+        return true;
+    }
+
+    private void dropForeignKeys(String table) {
+        for (String constraint : jdbcTemplate.queryForList(LIST_FOREIGN_KEYS, String.class, table)) {
+            jdbcTemplate.execute(String.format("alter table %s drop constraint %s", table, constraint));
+        }
+    }
+
+    /**
+     * A partition attached to one of the order tables.
+     *
+     * @param detachPending whether a concurrent detach of it was interrupted
+     */
+    record Partition(String name, YearMonth month, boolean detachPending) {
+    }
+}
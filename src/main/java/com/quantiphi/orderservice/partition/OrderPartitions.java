@@ -0,0 +1,67 @@
+package com.quantiphi.orderservice.partition;
+
+import com.quantiphi.orderservice.id.SnowflakeIdGenerator;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * Names and bounds of the monthly partitions of the order tables.
+ * A month's partition holds the IDs allocated during that month in UTC: since
+ * Snowflake IDs start with their allocation time, the month maps to the ID range
+ * from the lowest ID of its first millisecond up to that of the next month.
+ * {@code orders} is partitioned by {@code id} and {@code order_items} by
+ * {@code order_id}, on the same bounds.
+ */
+public final class OrderPartitions {
+
+    public static final String ORDERS_TABLE = "orders";
+    public static final String ITEMS_TABLE = "order_items";
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("'_p'yyyy_MM");
+
+    private OrderPartitions() {
+    }
+
+    /**
+     * Returns the lowest order ID of a month, inclusive.
+     *
+     * @param month the month, in UTC
+     * @return the partition's lower bound; the next month's is its exclusive upper bound
+     */
+    public static long lowerBound(YearMonth month) {
+        return SnowflakeIdGenerator.lowestIdAt(month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant());
+    }
+
+    /**
+     * Returns the name of a table's partition for a month, e.g. {@code orders_p2026_10}.
+     *
+     * @param table the partitioned table
+     * @param month the month
+     * @return the partition name
+     */
+    public static String name(String table, YearMonth month) {
+        return table + month.format(SUFFIX);
+    }
+
+    /**
+     * Returns the month of a table's partition from its name.
+     *
+     * @param table the partitioned table
+     * @param partition the partition name
+     * @return the month, or empty if the name does not follow {@link #name}
+     */
+    public static Optional<YearMonth> monthOf(String table, String partition) {
+        if (!partition.startsWith(table)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(YearMonth.parse(partition.substring(table.length()), SUFFIX));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.quantiphi.orderservice.partition;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for maintaining the monthly partitions of the order tables.
+ */
+@ConfigurationProperties(prefix = "orders.partitioning")
+public class PartitioningProperties {
+
+    /** Whether partitions are maintained; requires the partitioned PostgreSQL schema. */
+    private boolean enabled = false;
+
+    /** How often partitions are checked; they are also checked at startup. */
+    private Duration interval = Duration.ofHours(6);
+
+    /** How many months after the current one always have partitions. */
+    private int premakeMonths = 3;
+
+    /**
+     * Partitions of months at least this far before the current one are detached from the
+     * order tables; 0 keeps all. Detached orders are no longer served, so this should be
+     * well past {@code orders.archive.min-age} when the archive is used.
+     */
+    private int detachAfterMonths = 24;
+
+    /** Whether detached partitions are dropped instead of being left as standalone tables. */
+    private boolean dropDetached = false;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    public int getPremakeMonths() {
+        return premakeMonths;
+    }
+
+    public void setPremakeMonths(int premakeMonths) {
+        this.premakeMonths = premakeMonths;
+    }
+
+    public int getDetachAfterMonths() {
+        return detachAfterMonths;
+    }
+
+    public void setDetachAfterMonths(int detachAfterMonths) {
+        this.detachAfterMonths = detachAfterMonths;
+    }
+
+    public boolean isDropDetached() {
+        return dropDetached;
+    }
+
+    public void setDropDetached(boolean dropDetached) {
+        this.dropDetached = dropDetached;
+    }
+}
@@ -0,0 +1,56 @@
+package com.quantiphi.orderservice.profiling;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint controlling the continuous flight recording.
+ * {@code GET /actuator/flightrecording} reports its state,
+ * {@code POST /actuator/flightrecording/start} starts it,
+ * {@code POST /actuator/flightrecording/dump} writes what it holds to the dump
+ * directory on the server, and {@code DELETE /actuator/flightrecording} stops it.
+ */
+@Component
+@WebEndpoint(id = "flightrecording")
+public class FlightRecordingEndpoint {
+
+    /**
+     * Actions on the recording.
+     */
+    public enum Action {
+        START,
+        DUMP
+    }
+
+    private final FlightRecordingManager recordingManager;
+
+    public FlightRecordingEndpoint(FlightRecordingManager recordingManager) {
+        this.recordingManager = recordingManager;
+    }
+
+    @ReadOperation
+    public FlightRecordingManager.Status status() {
+        return recordingManager.status();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Object> perform(@Selector Action action) {
+        if (action == Action.START) {
+            return new WebEndpointResponse<>(recordingManager.start());
+        }
+        if (!recordingManager.status().running()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        return new WebEndpointResponse<>(recordingManager.dump());
+    }
+
+    @DeleteOperation
+    public FlightRecordingManager.Status stop() {
+        return recordingManager.stop();
+    }
+}
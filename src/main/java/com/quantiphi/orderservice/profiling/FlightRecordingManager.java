@@ -0,0 +1,167 @@
+package com.quantiphi.orderservice.profiling;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Owns the continuous Java Flight Recorder recording of the service.
+ * The recording keeps a rolling window of JVM and order events on disk, bounded by
+ * age and size, so that the moments around a latency spike can be dumped after the
+ * fact and GC, lock contention and order processing read on one timeline. It is
+ * started with the service when enabled and can also be started, dumped and
+ * stopped at runtime through the {@code flightrecording} actuator endpoint.
+ * A running recording is dumped once more when the service shuts down.
+ */
+@Component
+@EnableConfigurationProperties(FlightRecordingProperties.class)
+public class FlightRecordingManager {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecordingManager.class);
+
+    private static final String RECORDING_NAME = "orders-continuous";
+    private static final DateTimeFormatter DUMP_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final FlightRecordingProperties properties;
+
+    private Recording recording;
+
+    public FlightRecordingManager(FlightRecordingProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * State of the continuous recording.
+     *
+     * @param running whether the recording is running
+     * @param startTime when the running recording was started, or null
+     * @param settings the JFR settings recorded with
+     * @param maxAge how far back the recording keeps data
+     * @param maxSizeBytes maximum size of the data kept on disk
+     */
+    public record Status(boolean running, Instant startTime, String settings, Duration maxAge, long maxSizeBytes) {
+    }
+
+    /**
+     * A dump of the continuous recording.
+     *
+     * @param file the absolute path of the dump
+     * @param sizeBytes the size of the dump
+     */
+    public record Dump(String file, long sizeBytes) {
+    }
+
+    @PostConstruct
+    public void startIfEnabled() {
+        if (properties.isEnabled()) {
+            start();
+        }
+    }
+
+    /**
+     * Starts the continuous recording unless it is already running.
+     *
+     * @return the state of the recording
+     * @throws IllegalStateException if the configured settings cannot be loaded
+     */
+    public synchronized Status start() {
+        if (recording == null) {
+            Recording started = new Recording(loadSettings());
+            started.setName(RECORDING_NAME);
+            started.setToDisk(true);
+            started.setMaxAge(properties.getMaxAge());
+            started.setMaxSize(properties.getMaxSize().toBytes());
+            started.start();
+            recording = started;
+            log.info("Continuous flight recording started with '{}' settings, keeping {} up to {}",
+                    properties.getSettings(), properties.getMaxAge(), properties.getMaxSize());
+        }
+        return status();
+    }
+
+    /**
+     * Writes the data the running recording currently holds to a new file in the
+     * dump directory. The recording keeps running.
+     *
+     * @return the dump
+     * @throws IllegalStateException if no recording is running
+     */
+    public synchronized Dump dump() {
+        if (recording == null) {
+            throw new IllegalStateException("No flight recording is running");
+        }
+        try {
+            Files.createDirectories(properties.getDumpDirectory());
+            Path file = properties.getDumpDirectory()
+                .resolve("orders-" + LocalDateTime.now().format(DUMP_TIMESTAMP) + ".jfr")
+                .toAbsolutePath();
+            recording.dump(file);
+            log.info("Flight recording dumped to {}", file);
+            return new Dump(file.toString(), Files.size(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to dump flight recording", e);
+        }
+    }
+
+    /**
+     * Stops and discards the continuous recording without dumping it.
+     *
+     * @return the state of the recording
+     */
+    public synchronized Status stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+            log.info("Continuous flight recording stopped");
+        }
+        return status();
+    }
+
+    /**
+     * Returns the state of the continuous recording.
+     *
+     * @return the state of the recording
+     */
+    public synchronized Status status() {
+        boolean running = recording != null && recording.getState() == RecordingState.RUNNING;
+        return new Status(running, running ? recording.getStartTime() : null, properties.getSettings(),
+                properties.getMaxAge(), properties.getMaxSize().toBytes());
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (recording == null) {
+            return;
+        }
+        try {
+            dump();
+        } catch (UncheckedIOException e) {
+            log.warn("Failed to dump flight recording at shutdown", e);
+        }
+        stop();
+    }
+
+    private Configuration loadSettings() {
+        try {
+            return Configuration.getConfiguration(properties.getSettings());
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Cannot load JFR settings '" + properties.getSettings() + "'", e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.quantiphi.orderservice.profiling;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration for the continuous Java Flight Recorder recording.
+ */
+@ConfigurationProperties(prefix = "orders.profiling.recording")
+public class FlightRecordingProperties {
+
+    /** Whether a continuous recording is started with the service. */
+    private boolean enabled = false;
+
+    /** Name of the JFR settings to record with, such as {@code default} or {@code profile}. */
+    private String settings = "default";
+
+    /** How far back the recording keeps data. */
+    private Duration maxAge = Duration.ofMinutes(30);
+
+    /** Maximum size of the data the recording keeps on disk. */
+    private DataSize maxSize = DataSize.ofMegabytes(250);
+
+    /** Directory recordings are dumped to, on request and at shutdown. */
+    private Path dumpDirectory = Path.of("recordings");
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getSettings() {
+        return settings;
+    }
+
+    public void setSettings(String settings) {
+        this.settings = settings;
+    }
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public DataSize getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(DataSize maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Path getDumpDirectory() {
+        return dumpDirectory;
+    }
+
+    public void setDumpDirectory(Path dumpDirectory) {
+        this.dumpDirectory = dumpDirectory;
+    }
+}
@@ -0,0 +1,36 @@
+package com.quantiphi.orderservice.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning the creation of one order, from the request
+ * reaching the controller to the committed order.
+ */
+@Name("com.quantiphi.orders.OrderCreation")
+@Label("Order Creation")
+@Category({"Order Service", "Orders"})
+@Description("Creation of an order, including validation, persistence and commit")
+@StackTrace(false)
+public class OrderCreationEvent extends Event {
+
+    @Label("Order ID")
+    public long orderId;
+
+    @Label("Customer ID")
+    public String customerId;
+
+    @Label("Item Count")
+    public int itemCount;
+
+    @Label("Total Price")
+    public double totalPrice;
+
+    @Label("Streamed")
+    @Description("Whether the order was parsed while its payload was being read")
+    public boolean streamed;
+}
@@ -0,0 +1,65 @@
+package com.quantiphi.orderservice.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Flight Recorder event spanning one attempted order status change, whether it was
+ * applied or not, up to the end of its transaction.
+ */
+@Name("com.quantiphi.orders.StatusTransition")
+@Label("Order Status Transition")
+@Category({"Order Service", "Orders"})
+@Description("Attempted change of an order's status and its outcome")
+@StackTrace(false)
+public class OrderStatusTransitionEvent extends Event {
+
+    /** The transition was applied. */
+    public static final String APPLIED = "APPLIED";
+    /** The transition is not allowed from the order's current status, or the order is archived. */
+    public static final String REJECTED = "REJECTED";
+    /** The transition is allowed but could not be saved. */
+    public static final String FAILED = "FAILED";
+    /** The order does not exist. */
+    public static final String NOT_FOUND = "NOT_FOUND";
+
+    @Label("Order ID")
+    public long orderId;
+
+    @Label("From")
+    public String fromStatus;
+
+    @Label("To")
+    public String toStatus;
+
+    @Label("Outcome")
+    public String outcome;
+
+    /**
+     * Commits this event once the current transaction has completed, so an
+     * {@link #APPLIED} outcome whose transaction rolled back, for instance on losing
+     * an optimistic-lock race, is recorded as {@link #FAILED}. Without a transaction
+     * the event is committed right away.
+     */
+    public void commitAfterCompletion() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            commit();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (APPLIED.equals(outcome) && status != STATUS_COMMITTED) {
+                    outcome = FAILED;
+                }
+                commit();
+            }
+        });
+    }
+}
@@ -0,0 +1,32 @@
+package com.quantiphi.orderservice.profiling;
+
+import com.quantiphi.orderservice.repository.OrderRepository;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wraps {@link OrderRepository} with {@link RepositoryCallInterceptor} so repository
+ * calls show up as Flight Recorder events.
+ */
+@Configuration
+public class ProfilingConfig {
+
+    @Bean
+    public static BeanPostProcessor repositoryCallEventPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof OrderRepository)) {
+                    return bean;
+                }
+                ProxyFactory proxy = new ProxyFactory();
+                proxy.setTarget(bean);
+                proxy.addInterface(OrderRepository.class);
+                proxy.addAdvice(new RepositoryCallInterceptor());
+                return proxy.getProxy();
+            }
+        };
+    }
+}
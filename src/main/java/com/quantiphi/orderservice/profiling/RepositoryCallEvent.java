@@ -0,0 +1,26 @@
+package com.quantiphi.orderservice.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event spanning one call into the order repository.
+ * Only calls of at least 1 ms are recorded by default.
+ */
+@Name("com.quantiphi.orders.RepositoryCall")
+@Label("Order Repository Call")
+@Category({"Order Service", "Persistence"})
+@Description("Call into the order repository, including the statements it issued")
+@Threshold("1 ms")
+public class RepositoryCallEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,29 @@
+package com.quantiphi.orderservice.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event spanning the mapping of an order entity to its response DTO,
+ * including any lazy loading of its items. Only mappings of at least 1 ms are
+ * recorded by default.
+ */
+@Name("com.quantiphi.orders.ResponseMapping")
+@Label("Order Response Mapping")
+@Category({"Order Service", "Web"})
+@Description("Mapping of an order entity to its response, including lazy loading of items")
+@StackTrace(false)
+@Threshold("1 ms")
+public class ResponseMappingEvent extends Event {
+
+    @Label("Order ID")
+    public long orderId;
+
+    @Label("Item Count")
+    public int itemCount;
+}
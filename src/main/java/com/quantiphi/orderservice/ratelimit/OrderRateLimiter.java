@@ -0,0 +1,163 @@
+package com.quantiphi.orderservice.ratelimit;
+
+import com.quantiphi.orderservice.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Rate limits order creation per customer and order reads per client. Streamed
+ * creations are also limited per client, since the customer is only known once
+ * the body has been parsed.
+ * Each customer or client gets its own token bucket from the tier it is assigned,
+ * or from the default tier of the operation. Buckets of idle keys are evicted
+ * periodically, so the store only holds recently active keys.
+ */
+@Component
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class OrderRateLimiter implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderRateLimiter.class);
+
+    private final RateLimitProperties properties;
+    private final TokenBucketStore createBuckets;
+    private final TokenBucketStore streamBuckets;
+    private final TokenBucketStore readBuckets;
+    private final LongAdder rejectedCreates = new LongAdder();
+    private final LongAdder rejectedStreams = new LongAdder();
+    private final LongAdder rejectedReads = new LongAdder();
+
+    @Autowired
+    public OrderRateLimiter(RateLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    OrderRateLimiter(RateLimitProperties properties, LongSupplier nanoClock) {
+        this.properties = properties;
+        requireTier(properties.getCreateTier());
+        requireTier(properties.getStreamTier());
+        requireTier(properties.getReadTier());
+        properties.getAssignments().values().forEach(this::requireTier);
+        this.createBuckets = new TokenBucketStore(key -> tierFor(key, properties.getCreateTier()), nanoClock,
+            properties.getMaxBuckets());
+        this.streamBuckets = new TokenBucketStore(key -> tierFor(key, properties.getStreamTier()), nanoClock,
+            properties.getMaxBuckets());
+        this.readBuckets = new TokenBucketStore(key -> tierFor(key, properties.getReadTier()), nanoClock,
+            properties.getMaxBuckets());
+    }
+
+    /**
+     * Admits an order creation for the customer.
+     *
+     * @param customerId the customer creating the order
+     * @throws RateLimitExceededException if the customer has exhausted its tier
+     */
+    public void acquireCreate(String customerId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long wait = createBuckets.tryAcquire(customerId);
+        if (wait > 0) {
+            rejectedCreates.increment();
+            throw new RateLimitExceededException(
+                "Order creation rate limit exceeded for customer " + customerId, Duration.ofNanos(wait));
+        }
+    }
+
+    /**
+     * Admits a streamed order creation for the client, before its body is parsed.
+     *
+     * @param clientId the client sending the order
+     * @throws RateLimitExceededException if the client has exhausted its tier
+     */
+    public void acquireStreamingCreate(String clientId) {
+        if (!properties.isEnabled() || !properties.isPerClientEnabled()) {
+            return;
+        }
+        long wait = streamBuckets.tryAcquire(clientId);
+        if (wait > 0) {
+            rejectedStreams.increment();
+            throw new RateLimitExceededException("Streamed order creation rate limit exceeded", Duration.ofNanos(wait));
+        }
+    }
+
+    /**
+     * Admits a read for the client.
+     *
+     * @param clientId the client reading orders
+     * @throws RateLimitExceededException if the client has exhausted its tier
+     */
+    public void acquireRead(String clientId) {
+        if (!properties.isEnabled() || !properties.isPerClientEnabled()) {
+            return;
+        }
+        long wait = readBuckets.tryAcquire(clientId);
+        if (wait > 0) {
+            rejectedReads.increment();
+            throw new RateLimitExceededException("Read rate limit exceeded", Duration.ofNanos(wait));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${orders.rate-limit.idle-timeout:PT10M}")
+    public void evictIdleBuckets() {
+        int evicted = createBuckets.evictIdle(properties.getIdleTimeout())
+            + streamBuckets.evictIdle(properties.getIdleTimeout())
+            + readBuckets.evictIdle(properties.getIdleTimeout());
+        if (evicted > 0) {
+            log.debug("Evicted {} idle rate limit buckets", evicted);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("orders.ratelimit.buckets", createBuckets, TokenBucketStore::size)
+            .description("Customers and clients with an active rate limit bucket")
+            .tag("operation", "create")
+            .register(registry);
+        Gauge.builder("orders.ratelimit.buckets", streamBuckets, TokenBucketStore::size)
+            .description("Customers and clients with an active rate limit bucket")
+            .tag("operation", "stream")
+            .register(registry);
+        Gauge.builder("orders.ratelimit.buckets", readBuckets, TokenBucketStore::size)
+            .description("Customers and clients with an active rate limit bucket")
+            .tag("operation", "read")
+            .register(registry);
+        FunctionCounter.builder("orders.ratelimit.rejected", rejectedCreates, LongAdder::sum)
+            .description("Requests rejected by the rate limiter")
+            .tag("operation", "create")
+            .register(registry);
+        FunctionCounter.builder("orders.ratelimit.rejected", rejectedStreams, LongAdder::sum)
+            .description("Requests rejected by the rate limiter")
+            .tag("operation", "stream")
+            .register(registry);
+        FunctionCounter.builder("orders.ratelimit.rejected", rejectedReads, LongAdder::sum)
+            .description("Requests rejected by the rate limiter")
+            .tag("operation", "read")
+            .register(registry);
+    }
+
+    private RateLimitProperties.Tier tierFor(String key, String defaultTier) {
+        return properties.getTiers().get(properties.getAssignments().getOrDefault(key, defaultTier));
+    }
+
+    private void requireTier(String name) {
+        RateLimitProperties.Tier tier = properties.getTiers().get(name);
+        if (tier == null) {
+            throw new IllegalStateException("Unknown rate limit tier: " + name);
+        }
+        if (tier.getRequestsPerSecond() <= 0 || tier.getBurst() < 1) {
+            throw new IllegalStateException("Rate limit tier " + name + " needs a positive rate and burst");
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.quantiphi.orderservice.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Registers the read rate limit filter in front of the order endpoints, ahead of
+ * admission control so that rejected clients never occupy a concurrency slot.
+ * Only registered when per-client limits are enabled.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "orders.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "orders.rate-limit", name = "per-client-enabled", havingValue = "true")
+    public FilterRegistrationBean<ReadRateLimitFilter> readRateLimitFilter(
+            OrderRateLimiter rateLimiter,
+            ObjectMapper objectMapper) {
+        FilterRegistrationBean<ReadRateLimitFilter> registration =
+            new FilterRegistrationBean<>(new ReadRateLimitFilter(rateLimiter, objectMapper));
+        registration.addUrlPatterns("/api/v1/orders", "/api/v1/orders/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+}
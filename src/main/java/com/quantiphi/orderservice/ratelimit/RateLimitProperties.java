@@ -0,0 +1,160 @@
+package com.quantiphi.orderservice.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration for per-customer and per-client rate limits on the order endpoints.
+ */
+@ConfigurationProperties(prefix = "orders.rate-limit")
+public class RateLimitProperties {
+
+    /** Whether order creation and reads are rate limited. */
+    private boolean enabled = true;
+
+    /**
+     * Whether reads and streamed creations are also limited per client. Clients are told
+     * apart by principal or remote address, so behind a proxy this needs
+     * {@code server.forward-headers-strategy} first; otherwise every caller shares one bucket.
+     */
+    private boolean perClientEnabled = false;
+
+    /** Tier applied to order creation, per customer, unless the customer is assigned another. */
+    private String createTier = "standard";
+
+    /**
+     * Tier applied to streamed order creation, per client, before the body is parsed;
+     * the customer is charged against the create tier once the body has been read.
+     */
+    private String streamTier = "standard";
+
+    /** Tier applied to reads, per client, unless the client is assigned another. */
+    private String readTier = "read";
+
+    /** Most buckets held per operation; keys beyond it share one bucket of the default tier. */
+    private int maxBuckets = 100_000;
+
+    /** Rate limit tiers by name. */
+    private Map<String, Tier> tiers = new LinkedHashMap<>(Map.of(
+        "standard", new Tier(10, 20),
+        "premium", new Tier(100, 200),
+        "read", new Tier(100, 200)));
+
+    /** Tier names assigned to individual customer or client IDs. */
+    private Map<String, String> assignments = new LinkedHashMap<>();
+
+    /** How long a key must be idle before its bucket is dropped; a dropped bucket was full anyway. */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /**
+     * A token bucket: {@code burst} requests may be made at once, refilled at
+     * {@code requestsPerSecond}.
+     */
+    public static class Tier {
+
+        /** Sustained request rate. */
+        private double requestsPerSecond;
+
+        /** Number of requests that may be made back to back. */
+        private int burst;
+
+        public Tier() {
+        }
+
+        public Tier(double requestsPerSecond, int burst) {
+            this.requestsPerSecond = requestsPerSecond;
+            this.burst = burst;
+        }
+
+        public double getRequestsPerSecond() {
+            return requestsPerSecond;
+        }
+
+        public void setRequestsPerSecond(double requestsPerSecond) {
+            this.requestsPerSecond = requestsPerSecond;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isPerClientEnabled() {
+        return perClientEnabled;
+    }
+
+    public void setPerClientEnabled(boolean perClientEnabled) {
+        this.perClientEnabled = perClientEnabled;
+    }
+
+    public String getCreateTier() {
+        return createTier;
+    }
+
+    public void setCreateTier(String createTier) {
+        this.createTier = createTier;
+    }
+
+    public String getStreamTier() {
+        return streamTier;
+    }
+
+    public void setStreamTier(String streamTier) {
+        this.streamTier = streamTier;
+    }
+
+    public String getReadTier() {
+        return readTier;
+    }
+
+    public void setReadTier(String readTier) {
+        this.readTier = readTier;
+    }
+
+    public int getMaxBuckets() {
+        return maxBuckets;
+    }
+
+    public void setMaxBuckets(int maxBuckets) {
+        this.maxBuckets = maxBuckets;
+    }
+
+    public Map<String, Tier> getTiers() {
+        return tiers;
+    }
+
+    public void setTiers(Map<String, Tier> tiers) {
+        this.tiers = tiers;
+    }
+
+    public Map<String, String> getAssignments() {
+        return assignments;
+    }
+
+    public void setAssignments(Map<String, String> assignments) {
+        this.assignments = assignments;
+    }
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+}
@@ -0,0 +1,93 @@
+package com.quantiphi.orderservice.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quantiphi.orderservice.exception.ErrorResponse;
+import com.quantiphi.orderservice.exception.RateLimitExceededException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.Principal;
+
+/**
+ * Servlet filter that rate limits order reads per client, before they take an
+ * admission slot. The client is the authenticated principal or, for anonymous
+ * requests, the remote address; nothing the client sends can pick its bucket. Behind
+ * a proxy the remote address is the forwarded client address only when forwarded
+ * headers are trusted ({@code server.forward-headers-strategy}). A multi-get counts
+ * as one read. Writes are limited per customer by the controller instead, once the
+ * customer ID has been read from the body.
+ */
+public class ReadRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String MULTI_GET_PATH = "/_mget";
+
+    private final OrderRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    public ReadRateLimitFilter(OrderRateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Identifies the client of a request for rate limiting.
+     *
+     * @param request the request
+     * @return the authenticated principal's name, or else the remote address
+     */
+    public static String clientOf(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        return principal != null ? principal.getName() : request.getRemoteAddr();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (isRead(request)) {
+            try {
+                rateLimiter.acquireRead(clientOf(request));
+            } catch (RateLimitExceededException e) {
+                reject(request, response, e);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Tells whether a request is a multi-get, which is a read despite being a POST.
+     *
+     * @param request the request
+     * @return true for {@code POST .../_mget}
+     */
+    public static boolean isMultiGet(HttpServletRequest request) {
+        return "POST".equals(request.getMethod()) && request.getRequestURI().endsWith(MULTI_GET_PATH);
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        String method = request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method) || isMultiGet(request);
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response,
+                        RateLimitExceededException e) throws IOException {
+        ErrorResponse error = new ErrorResponse(
+            HttpStatus.TOO_MANY_REQUESTS.value(),
+            "Too Many Requests",
+            e.getMessage(),
+            request.getRequestURI()
+        );
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+}
@@ -0,0 +1,122 @@
+package com.quantiphi.orderservice.ratelimit;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free store of token buckets keyed by string.
+ * Each bucket is kept in the GCRA form (generic cell rate algorithm): instead of a
+ * token count and a refill timestamp it holds a single "theoretical arrival time",
+ * the instant at which the bucket will be full again. Taking a token is one
+ * compare-and-set on that value, so admitted requests never block each other, and
+ * a bucket whose arrival time has passed is full and can be dropped without losing
+ * anything. Buckets take their tier when they are created; tier changes reach a key
+ * once its bucket has been evicted. The number of buckets is capped: once the cap is
+ * reached, buckets that are full are swept out at most once a second, and new keys
+ * that still find no room share a single overflow bucket.
+ */
+public class TokenBucketStore {
+
+    private static final long SWEEP_INTERVAL_NANOS = 1_000_000_000L;
+    private static final String OVERFLOW_KEY = "";
+
+    private final Function<String, RateLimitProperties.Tier> tierResolver;
+    private final LongSupplier nanoClock;
+    private final int maxBuckets;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Bucket overflow;
+    private final AtomicLong lastSweep;
+
+    public TokenBucketStore(Function<String, RateLimitProperties.Tier> tierResolver, LongSupplier nanoClock,
+                            int maxBuckets) {
+        this.tierResolver = tierResolver;
+        this.nanoClock = nanoClock;
+        this.maxBuckets = maxBuckets;
+        long now = nanoClock.getAsLong();
+        this.overflow = new Bucket(tierResolver.apply(OVERFLOW_KEY), now);
+        this.lastSweep = new AtomicLong(now - SWEEP_INTERVAL_NANOS);
+    }
+
+    private static final class Bucket {
+
+        private final long intervalNanos;
+        private final long burstNanos;
+        private final AtomicLong fullAt;
+
+        private Bucket(RateLimitProperties.Tier tier, long now) {
+            this.intervalNanos = Math.max(1, (long) (1_000_000_000L / tier.getRequestsPerSecond()));
+            this.burstNanos = intervalNanos * Math.max(1, tier.getBurst());
+            this.fullAt = new AtomicLong(now);
+        }
+    }
+
+    /**
+     * Takes a token from the key's bucket if one is available.
+     *
+     * @param key the customer or client ID
+     * @return 0 if the request is admitted, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = newBucket(key, now);
+        }
+        while (true) {
+            long fullAt = bucket.fullAt.get();
+            long next = (fullAt - now > 0 ? fullAt : now) + bucket.intervalNanos;
+            long wait = next - now - bucket.burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.fullAt.compareAndSet(fullAt, next)) {
+                return 0;
+            }
+        }
+    }
+
+    private Bucket newBucket(String key, long now) {
+        if (buckets.size() >= maxBuckets) {
+            long last = lastSweep.get();
+            if (now - last >= SWEEP_INTERVAL_NANOS && lastSweep.compareAndSet(last, now)) {
+                evictIdle(Duration.ZERO);
+            }
+            if (buckets.size() >= maxBuckets) {
+                return overflow;
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> new Bucket(tierResolver.apply(k), now));
+    }
+
+    /**
+     * Drops the buckets of keys that have been idle for at least the given time.
+     *
+     * @param idleTimeout how long a bucket must have been full
+     * @return the number of buckets dropped
+     */
+    public int evictIdle(Duration idleTimeout) {
+        long cutoff = nanoClock.getAsLong() - idleTimeout.toNanos();
+        int evicted = 0;
+        for (Iterator<Bucket> it = buckets.values().iterator(); it.hasNext(); ) {
+            if (cutoff - it.next().fullAt.get() >= 0) {
+                it.remove();
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Returns the number of buckets held.
+     *
+     * @return the bucket count
+     */
+    public int size() {
+        return buckets.size();
+    }
+}
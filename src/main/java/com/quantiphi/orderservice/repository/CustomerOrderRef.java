@@ -0,0 +1,15 @@
+package com.quantiphi.orderservice.repository;
+
+import com.quantiphi.orderservice.domain.OrderStatus;
+
+/**
+ * Projection of an order's customer and status used to rebuild the search index.
+ */
+public interface CustomerOrderRef {
+
+    Long getOrderId();
+
+    String getCustomerId();
+
+    OrderStatus getStatus();
+}
@@ -0,0 +1,142 @@
+package com.quantiphi.orderservice.repository;
+
+import com.quantiphi.orderservice.domain.Order;
+import org.springframework.beans.PropertyAccessor;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.support.ExampleMatcherAccessor;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Evaluates query-by-example probes and sorts against orders held in memory, for
+ * {@link InMemoryOrderRepository}. Follows the JPA semantics: every non-collection
+ * field of the probe takes part, null fields as the matcher's null handling says,
+ * strings as its string matcher says, and numbers compare by value.
+ */
+final class InMemoryOrderQueries {
+
+    private InMemoryOrderQueries() {
+    }
+
+    /**
+     * Builds the predicate an order has to satisfy to match the example.
+     *
+     * @param example the probe and matcher
+     * @return the predicate
+     */
+    static Predicate<Order> matching(Example<? extends Order> example) {
+        ExampleMatcher matcher = example.getMatcher();
+        ExampleMatcherAccessor accessor = new ExampleMatcherAccessor(matcher);
+        PropertyAccessor probe = PropertyAccessorFactory.forDirectFieldAccess(example.getProbe());
+        List<Predicate<Order>> criteria = new ArrayList<>();
+        ReflectionUtils.doWithFields(Order.class, field -> {
+            String path = field.getName();
+            if (accessor.isIgnoredPath(path)) {
+                return;
+            }
+            Object value = accessor.getValueTransformerForPath(path)
+                .apply(Optional.ofNullable(probe.getPropertyValue(path)))
+                .orElse(null);
+            if (value == null) {
+                if (accessor.getNullHandler() == ExampleMatcher.NullHandler.INCLUDE) {
+                    criteria.add(order -> property(order, path) == null);
+                }
+                return;
+            }
+            if (value instanceof String string) {
+                criteria.add(order -> matches(property(order, path), string, accessor.getStringMatcherForPath(path),
+                    accessor.isIgnoreCaseForPath(path)));
+            } else {
+                criteria.add(order -> equalValues(value, property(order, path)));
+            }
+        }, field -> !Modifier.isStatic(field.getModifiers()) && !Collection.class.isAssignableFrom(field.getType()));
+
+        if (criteria.isEmpty()) {
+            return order -> true;
+        }
+        return matcher.isAllMatching()
+            ? order -> criteria.stream().allMatch(criterion -> criterion.test(order))
+            : order -> criteria.stream().anyMatch(criterion -> criterion.test(order));
+    }
+
+    /**
+     * Builds a comparator ordering orders by the given sort.
+     *
+     * @param sort the sort, which may be unsorted
+     * @return the comparator, or null when unsorted
+     * @throws org.springframework.data.mapping.PropertyReferenceException if the sort names an unknown property
+     */
+    static Comparator<Order> comparator(Sort sort) {
+        Comparator<Order> comparator = null;
+        for (Sort.Order order : sort) {
+            String path = PropertyPath.from(order.getProperty(), Order.class).toDotPath();
+            Comparator<Object> values = order.isIgnoreCase() ? InMemoryOrderQueries::compareIgnoringCase
+                : InMemoryOrderQueries::compare;
+            if (order.isDescending()) {
+                values = values.reversed();
+            }
+            values = order.getNullHandling() == Sort.NullHandling.NULLS_LAST
+                ? Comparator.nullsLast(values) : Comparator.nullsFirst(values);
+            Comparator<Order> next = Comparator.comparing(candidate -> property(candidate, path), values);
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator;
+    }
+
+    private static Object property(Order order, String path) {
+        return PropertyAccessorFactory.forDirectFieldAccess(order).getPropertyValue(path);
+    }
+
+    private static boolean matches(Object stored, String probe, ExampleMatcher.StringMatcher stringMatcher,
+                                   boolean ignoreCase) {
+        if (!(stored instanceof String string)) {
+            return false;
+        }
+        if (stringMatcher == ExampleMatcher.StringMatcher.REGEX) {
+            return Pattern.compile(probe, ignoreCase ? Pattern.CASE_INSENSITIVE : 0).matcher(string).matches();
+        }
+        String value = ignoreCase ? string.toLowerCase(Locale.ROOT) : string;
+        String wanted = ignoreCase ? probe.toLowerCase(Locale.ROOT) : probe;
+        return switch (stringMatcher) {
+            case DEFAULT, EXACT -> value.equals(wanted);
+            case STARTING -> value.startsWith(wanted);
+            case ENDING -> value.endsWith(wanted);
+            case CONTAINING -> value.contains(wanted);
+            case REGEX -> throw new IllegalStateException("Handled above");
+        };
+    }
+
+    private static boolean equalValues(Object probe, Object stored) {
+        if (probe instanceof BigDecimal decimal && stored instanceof BigDecimal other) {
+            return decimal.compareTo(other) == 0;
+        }
+        return Objects.equals(probe, stored);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Object left, Object right) {
+        return ((Comparable) left).compareTo(right);
+    }
+
+    private static int compareIgnoringCase(Object left, Object right) {
+        if (left instanceof String leftString && right instanceof String rightString) {
+            return leftString.compareToIgnoreCase(rightString);
+        }
+        return compare(left, right);
+    }
+}
@@ -0,0 +1,554 @@
+package com.quantiphi.orderservice.repository;
+
+import com.quantiphi.orderservice.domain.Order;
+import com.quantiphi.orderservice.domain.OrderItem;
+import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.id.OrderIdGenerator;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@link OrderRepository} held entirely in memory, for measuring the service and
+ * serialization layers without Hibernate or a database in the way.
+ * Orders are kept as private copies in a concurrent map keyed by order ID, with
+ * secondary indexes from customer and from status to order IDs; orders handed out
+ * and taken in are copied, so callers never share state with the store or with
+ * each other. Saving an order whose version is not the stored one fails as it
+ * would under JPA. Writes take effect immediately: there is no rollback.
+ * Query by example and sorting are evaluated against every stored order.
+ */
+public class InMemoryOrderRepository implements OrderRepository {
+
+    private static final ProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+
+    private static final Comparator<Order> BY_UPDATED_AT =
+        Comparator.comparing(Order::getUpdatedAt).thenComparing(Order::getId);
+
+    private final OrderIdGenerator idGenerator;
+    private final Map<Long, Order> orders = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> idsByCustomer = new ConcurrentHashMap<>();
+    private final Map<OrderStatus, Set<Long>> idsByStatus = new EnumMap<>(OrderStatus.class);
+
+    public InMemoryOrderRepository(OrderIdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+        for (OrderStatus status : OrderStatus.values()) {
+            idsByStatus.put(status, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    @Override
+    public <S extends Order> S save(S order) {
+        Long id = order.getId() != null ? order.getId() : idGenerator.nextId();
+        orders.compute(id, (key, current) -> {
+            long version = 0L;
+            if (current != null) {
+                if (!current.getVersion().equals(order.getVersion())) {
+                    throw new ObjectOptimisticLockingFailureException(Order.class, id);
+                }
+                version = current.getVersion() + 1;
+            }
+            order.assignIdentity(id, version, idGenerator::nextId);
+            Order stored = order.copy();
+            index(current, stored);
+            return stored;
+        });
+        return order;
+    }
+
+    @Override
+    public <S extends Order> List<S> saveAll(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        for (S order : entities) {
+            saved.add(save(order));
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<Order> findById(Long id) {
+        return Optional.ofNullable(orders.get(id)).map(Order::copy);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return orders.containsKey(id);
+    }
+
+    @Override
+    public List<Order> findAll() {
+        return orders.values().stream()
+            .sorted(Comparator.comparing(Order::getId))
+            .map(Order::copy)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Order> findAll(Sort sort) {
+        return query(order -> true, sort);
+    }
+
+    @Override
+    public Page<Order> findAll(Pageable pageable) {
+        return pageOf(findAll(pageable.getSort()), pageable);
+    }
+
+    @Override
+    public List<Order> findAllById(Iterable<Long> ids) {
+        List<Order> found = new ArrayList<>();
+        for (Long id : ids) {
+            Order order = orders.get(id);
+            if (order != null) {
+                found.add(order.copy());
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public long count() {
+        return orders.size();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        Order removed = orders.remove(id);
+        if (removed != null) {
+            index(removed, null);
+        }
+    }
+
+    @Override
+    public void delete(Order order) {
+        deleteById(order.getId());
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends Long> ids) {
+        ids.forEach(this::deleteById);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends Order> entities) {
+        entities.forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        orders.keySet().forEach(this::deleteById);
+    }
+
+    @Override
+    public void flush() {
+        // Nothing is buffered
+    }
+
+    @Override
+    public <S extends Order> S saveAndFlush(S order) {
+        return save(order);
+    }
+
+    @Override
+    public <S extends Order> List<S> saveAllAndFlush(Iterable<S> entities) {
+        return saveAll(entities);
+    }
+
+    @Override
+    public void deleteAllInBatch(Iterable<Order> entities) {
+        deleteAll(entities);
+    }
+
+    @Override
+    public void deleteAllByIdInBatch(Iterable<Long> ids) {
+        deleteAllById(ids);
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        deleteAll();
+    }
+
+    @Override
+    @Deprecated
+    public Order getOne(Long id) {
+        return getReferenceById(id);
+    }
+
+    @Override
+    @Deprecated
+    public Order getById(Long id) {
+        return getReferenceById(id);
+    }
+
+    @Override
+    public Order getReferenceById(Long id) {
+        return findById(id).orElseThrow(() -> new EntityNotFoundException("Order not found with ID: " + id));
+    }
+
+    @Override
+    public Optional<Long> findVersionById(Long id) {
+        return Optional.ofNullable(orders.get(id)).map(Order::getVersion);
+    }
+
+    @Override
+    public List<ProductOrderRef> findAllProductOrderRefs() {
+        List<ProductOrderRef> refs = new ArrayList<>();
+        for (Order order : orders.values()) {
+            for (OrderItem item : order.getItems()) {
+                refs.add(new ProductRef(item.getProductId(), order.getId()));
+            }
+        }
+        return refs;
+    }
+
+    @Override
+    public List<CustomerOrderRef> findAllCustomerOrderRefs() {
+        List<CustomerOrderRef> refs = new ArrayList<>();
+        idsByCustomer.forEach((customerId, ids) -> {
+            for (Long id : ids) {
+                Order order = orders.get(id);
+                if (order != null) {
+                    refs.add(new CustomerRef(id, customerId, order.getStatus()));
+                }
+            }
+        });
+        return refs;
+    }
+
+    @Override
+    public List<Long> findIdsByStatusInAndUpdatedAtBefore(Collection<OrderStatus> statuses, LocalDateTime cutoff,
+                                                          long maxId, Pageable pageable) {
+        return page(withStatus(statuses.toArray(OrderStatus[]::new))
+                .filter(order -> order.getUpdatedAt().isBefore(cutoff) && order.getId() < maxId), pageable)
+            .map(Order::getId)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<PendingOrderRef> findPendingOrderRefs(OrderStatus status, Pageable pageable) {
+        return page(withStatus(status), pageable)
+            .map(PendingRef::of)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<PendingOrderRef> findPendingOrderRefsAfter(OrderStatus status, LocalDateTime updatedAt, Long orderId,
+                                                           Pageable pageable) {
+        return page(withStatus(status).filter(order -> order.getUpdatedAt().isAfter(updatedAt)
+                || (order.getUpdatedAt().isEqual(updatedAt) && order.getId() > orderId)), pageable)
+            .map(PendingRef::of)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Order> findAllByIdIn(Collection<Long> ids) {
+        return findAllById(ids);
+    }
+
+    @Override
+    public List<OrderItem> findItemsByOrderIdIn(Collection<Long> orderIds) {
+        List<OrderItem> items = new ArrayList<>();
+        for (Long id : orderIds) {
+            Order order = orders.get(id);
+            if (order != null) {
+                items.addAll(order.copy().getItems());
+            }
+        }
+        return items;
+    }
+
+    @Override
+    public List<Order> findAllWithItemsByIdIn(Collection<Long> ids) {
+        return findAllById(ids);
+    }
+
+    /**
+     * Items are stored inside their order and go when the order is deleted, which
+     * {@link #deleteAllByIdIn} does next wherever this is called; this only counts them.
+     */
+    @Override
+    public int deleteItemsByOrderIdIn(Collection<Long> orderIds) {
+        int items = 0;
+        for (Long id : orderIds) {
+            Order order = orders.get(id);
+            if (order != null) {
+                items += order.getItems().size();
+            }
+        }
+        return items;
+    }
+
+    @Override
+    public int deleteAllByIdIn(Collection<Long> ids) {
+        int deleted = 0;
+        for (Long id : ids) {
+            Order removed = orders.remove(id);
+            if (removed != null) {
+                index(removed, null);
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public <S extends Order> Optional<S> findOne(Example<S> example) {
+        return findBy(example, FluentQuery.FetchableFluentQuery::one);
+    }
+
+    @Override
+    public <S extends Order> List<S> findAll(Example<S> example) {
+        return findAll(example, Sort.unsorted());
+    }
+
+    @Override
+    public <S extends Order> List<S> findAll(Example<S> example, Sort sort) {
+        return findBy(example, query -> query.sortBy(sort).all());
+    }
+
+    @Override
+    public <S extends Order> Page<S> findAll(Example<S> example, Pageable pageable) {
+        return findBy(example, query -> query.page(pageable));
+    }
+
+    @Override
+    public <S extends Order> long count(Example<S> example) {
+        return findBy(example, FluentQuery.FetchableFluentQuery::count);
+    }
+
+    @Override
+    public <S extends Order> boolean exists(Example<S> example) {
+        return findBy(example, FluentQuery.FetchableFluentQuery::exists);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S extends Order, R> R findBy(Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        return queryFunction.apply(new ExampleQuery<>(InMemoryOrderQueries.matching(example), Sort.unsorted(),
+            Integer.MAX_VALUE, order -> (S) order));
+    }
+
+    private List<Order> query(Predicate<Order> predicate, Sort sort) {
+        Stream<Order> matches = orders.values().stream()
+            .filter(predicate)
+            .sorted(Comparator.comparing(Order::getId));
+        Comparator<Order> comparator = InMemoryOrderQueries.comparator(sort);
+        if (comparator != null) {
+            matches = matches.sorted(comparator);
+        }
+        return matches.map(Order::copy).collect(Collectors.toList());
+    }
+
+    private static <T> Page<T> pageOf(List<T> all, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(all);
+        }
+        int from = (int) Math.min(pageable.getOffset(), all.size());
+        int to = Math.min(from + pageable.getPageSize(), all.size());
+        return new PageImpl<>(all.subList(from, to), pageable, all.size());
+    }
+
+    private Stream<Order> withStatus(OrderStatus... statuses) {
+        List<OrderStatus> wanted = List.of(statuses);
+        return wanted.stream()
+            .flatMap(status -> idsByStatus.get(status).stream())
+            .distinct()
+            .map(orders::get)
+            // The index may briefly lead or trail the stored order
+            .filter(order -> order != null && wanted.contains(order.getStatus()));
+    }
+
+    private static Stream<Order> page(Stream<Order> matches, Pageable pageable) {
+        Stream<Order> sorted = matches.sorted(BY_UPDATED_AT);
+        return pageable.isUnpaged() ? sorted : sorted.skip(pageable.getOffset()).limit(pageable.getPageSize());
+    }
+
+    private void index(Order previous, Order current) {
+        Long id = previous != null ? previous.getId() : current.getId();
+        if (previous != null && (current == null || previous.getStatus() != current.getStatus())) {
+            idsByStatus.get(previous.getStatus()).remove(id);
+        }
+        if (current != null) {
+            idsByStatus.get(current.getStatus()).add(id);
+        }
+        if (previous == null && current != null) {
+            idsByCustomer.computeIfAbsent(current.getCustomerId(), customerId -> ConcurrentHashMap.newKeySet()).add(id);
+        } else if (previous != null && current == null) {
+            idsByCustomer.computeIfPresent(previous.getCustomerId(), (customerId, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    /**
+     * Fluent query over the orders matching an example. Every field of an order is
+     * always loaded, so a projection to a subset of properties is a no-op; results
+     * can be taken as orders or as interface projections of them.
+     */
+    private final class ExampleQuery<T> implements FluentQuery.FetchableFluentQuery<T> {
+
+        private final Predicate<Order> predicate;
+        private final Sort sort;
+        private final int limit;
+        private final Function<Order, T> mapper;
+
+        ExampleQuery(Predicate<Order> predicate, Sort sort, int limit, Function<Order, T> mapper) {
+            this.predicate = predicate;
+            this.sort = sort;
+            this.limit = limit;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<T> sortBy(Sort sort) {
+            return new ExampleQuery<>(predicate, this.sort.and(sort), limit, mapper);
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<T> limit(int limit) {
+            return new ExampleQuery<>(predicate, sort, limit, mapper);
+        }
+
+        @Override
+        public <R> FluentQuery.FetchableFluentQuery<R> as(Class<R> resultType) {
+            if (resultType.isAssignableFrom(Order.class)) {
+                return new ExampleQuery<>(predicate, sort, limit, resultType::cast);
+            }
+            if (resultType.isInterface()) {
+                return new ExampleQuery<>(predicate, sort, limit,
+                    order -> PROJECTIONS.createProjection(resultType, order));
+            }
+            throw new UnsupportedOperationException("The in-memory order store only projects to interfaces, not to "
+                + resultType.getName());
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<T> project(Collection<String> properties) {
+            return this;
+        }
+
+        @Override
+        public T oneValue() {
+            List<T> matches = fetch(Math.min(limit, 2));
+            if (matches.size() > 1) {
+                throw new IncorrectResultSizeDataAccessException(1);
+            }
+            return matches.isEmpty() ? null : matches.get(0);
+        }
+
+        @Override
+        public T firstValue() {
+            List<T> matches = fetch(Math.min(limit, 1));
+            return matches.isEmpty() ? null : matches.get(0);
+        }
+
+        @Override
+        public List<T> all() {
+            return fetch(limit);
+        }
+
+        @Override
+        public Page<T> page(Pageable pageable) {
+            return pageOf(new ExampleQuery<>(predicate, sort.and(pageable.getSort()), limit, mapper).all(), pageable);
+        }
+
+        @Override
+        public Stream<T> stream() {
+            return all().stream();
+        }
+
+        @Override
+        public long count() {
+            return Math.min(limit, orders.values().stream().filter(predicate).count());
+        }
+
+        @Override
+        public boolean exists() {
+            return limit > 0 && orders.values().stream().anyMatch(predicate);
+        }
+
+        private List<T> fetch(int max) {
+            return query(predicate, sort).stream()
+                .limit(max)
+                .map(mapper)
+                .collect(Collectors.toList());
+        }
+    }
+
+    private record ProductRef(String productId, Long orderId) implements ProductOrderRef {
+
+        @Override
+        public String getProductId() {
+            return productId;
+        }
+
+        @Override
+        public Long getOrderId() {
+            return orderId;
+        }
+    }
+
+    private record CustomerRef(Long orderId, String customerId, OrderStatus status) implements CustomerOrderRef {
+
+        @Override
+        public Long getOrderId() {
+            return orderId;
+        }
+
+        @Override
+        public String getCustomerId() {
+            return customerId;
+        }
+
+        @Override
+        public OrderStatus getStatus() {
+            return status;
+        }
+    }
+
+    private record PendingRef(Long orderId, OrderStatus status, LocalDateTime updatedAt) implements PendingOrderRef {
+
+        static PendingRef of(Order order) {
+            return new PendingRef(order.getId(), order.getStatus(), order.getUpdatedAt());
+        }
+
+        @Override
+        public Long getOrderId() {
+            return orderId;
+        }
+
+        @Override
+        public OrderStatus getStatus() {
+            return status;
+        }
+
+        @Override
+        public LocalDateTime getUpdatedAt() {
+            return updatedAt;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.quantiphi.orderservice.repository;
+
+import com.quantiphi.orderservice.id.IdStrategy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Replaces the JPA order store with {@link InMemoryOrderRepository} under the
+ * {@value #PROFILE} profile. The profile's configuration switches off the data
+ * source, Hibernate and the JPA repositories, so no database is started at all.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile(InMemoryStoreConfig.PROFILE)
+public class InMemoryStoreConfig {
+
+    public static final String PROFILE = "in-memory";
+
+    @Bean
+    public InMemoryOrderRepository orderRepository(@Value("${orders.id.node-id:0}") long nodeId,
+                                                   @Value("${orders.id.strategy:shared}") String strategy) {
+        return new InMemoryOrderRepository(IdStrategy.from(strategy).forNode(nodeId));
+    }
+
+    @Bean
+    public PlatformTransactionManager transactionManager() {
+        return new InMemoryTransactionManager();
+    }
+}
@@ -0,0 +1,62 @@
+package com.quantiphi.orderservice.repository;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Transaction manager for the in-memory order store, which has nothing to commit
+ * or roll back. It keeps the transaction boundaries themselves, so propagation,
+ * transaction-bound event listeners and other synchronizations behave as they do
+ * against the database.
+ */
+public class InMemoryTransactionManager extends AbstractPlatformTransactionManager {
+
+    private static final Object ACTIVE = Boolean.TRUE;
+
+    @Override
+    protected Object doGetTransaction() {
+        return new InMemoryTransaction(TransactionSynchronizationManager.hasResource(this));
+    }
+
+    @Override
+    protected boolean isExistingTransaction(Object transaction) {
+        return ((InMemoryTransaction) transaction).existing();
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        TransactionSynchronizationManager.bindResource(this, ACTIVE);
+    }
+
+    @Override
+    protected Object doSuspend(Object transaction) {
+        return TransactionSynchronizationManager.unbindResource(this);
+    }
+
+    @Override
+    protected void doResume(Object transaction, Object suspendedResources) {
+        TransactionSynchronizationManager.bindResource(this, suspendedResources);
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+        // Writes have already been applied
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+        // Writes cannot be undone
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        if (!((InMemoryTransaction) transaction).existing()) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(this);
+        }
+    }
+
+    private record InMemoryTransaction(boolean existing) {
+    }
+}
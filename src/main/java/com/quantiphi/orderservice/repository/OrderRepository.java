@@ -1,9 +1,67 @@
 package com.quantiphi.orderservice.repository;
 
 import com.quantiphi.orderservice.domain.Order;
+import com.quantiphi.orderservice.domain.OrderItem;
+import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.shard.NotAnOrderId;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
+
+    @Query("select o.version from Order o where o.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("select i.productId as productId, i.order.id as orderId from OrderItem i")
+    List<ProductOrderRef> findAllProductOrderRefs();
+
+    @Query("select o.id as orderId, o.customerId as customerId, o.status as status from Order o")
+    List<CustomerOrderRef> findAllCustomerOrderRefs();
+
+    // maxId must exceed the ID of every order updated before the cutoff; lets ID partitions of later months be skipped
+    @Query("select o.id from Order o where o.status in :statuses and o.updatedAt < :cutoff and o.id < :maxId "
+        + "order by o.updatedAt")
+    List<Long> findIdsByStatusInAndUpdatedAtBefore(@Param("statuses") Collection<OrderStatus> statuses,
+                                                   @Param("cutoff") LocalDateTime cutoff,
+                                                   @Param("maxId") @NotAnOrderId long maxId,
+                                                   Pageable pageable);
+
+    @Query("select o.id as orderId, o.status as status, o.updatedAt as updatedAt from Order o "
+        + "where o.status = :status order by o.updatedAt, o.id")
+    List<PendingOrderRef> findPendingOrderRefs(@Param("status") OrderStatus status, Pageable pageable);
+
+    @Query("select o.id as orderId, o.status as status, o.updatedAt as updatedAt from Order o "
+        + "where o.status = :status and (o.updatedAt > :updatedAt or (o.updatedAt = :updatedAt and o.id > :orderId)) "
+        + "order by o.updatedAt, o.id")
+    List<PendingOrderRef> findPendingOrderRefsAfter(@Param("status") OrderStatus status,
+                                                    @Param("updatedAt") LocalDateTime updatedAt,
+                                                    @Param("orderId") Long orderId,
+                                                    Pageable pageable);
+
+    @Query("select o from Order o where o.id in :ids")
+    List<Order> findAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select i from OrderItem i where i.order.id in :orderIds order by i.id")
+    List<OrderItem> findItemsByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    @Query("select distinct o from Order o left join fetch o.items where o.id in :ids")
+    List<Order> findAllWithItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from OrderItem i where i.order.id in :orderIds")
+    int deleteItemsByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    @Modifying
+    @Query("delete from Order o where o.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
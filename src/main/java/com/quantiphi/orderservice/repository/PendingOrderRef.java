@@ -0,0 +1,17 @@
+package com.quantiphi.orderservice.repository;
+
+import com.quantiphi.orderservice.domain.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a pending order's status and last update used to schedule its expiry.
+ */
+public interface PendingOrderRef {
+
+    Long getOrderId();
+
+    OrderStatus getStatus();
+
+    LocalDateTime getUpdatedAt();
+}
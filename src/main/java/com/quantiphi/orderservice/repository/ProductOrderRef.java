@@ -0,0 +1,11 @@
+package com.quantiphi.orderservice.repository;
+
+/**
+ * Projection of a single (product, order) pair used to rebuild the search index.
+ */
+public interface ProductOrderRef {
+
+    String getProductId();
+
+    Long getOrderId();
+}
@@ -0,0 +1,153 @@
+package com.quantiphi.orderservice.search;
+
+import com.quantiphi.orderservice.domain.Order;
+import com.quantiphi.orderservice.domain.OrderItem;
+import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.event.OrderCreatedEvent;
+import com.quantiphi.orderservice.event.OrderStatusChangedEvent;
+import com.quantiphi.orderservice.event.OrdersArchivedEvent;
+import com.quantiphi.orderservice.repository.CustomerOrderRef;
+import com.quantiphi.orderservice.repository.OrderRepository;
+import com.quantiphi.orderservice.repository.ProductOrderRef;
+import com.quantiphi.orderservice.shard.OrderShards;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory secondary index answering product and customer/status lookups
+ * without scanning the order tables.
+ * The index is rebuilt from the database at startup and kept current from
+ * committed order events. Entries are candidates only: callers re-check the
+ * loaded orders, so a stale entry can never leak a wrong result.
+ */
+@Component
+public class OrderSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderSearchIndex.class);
+
+    private final OrderRepository orderRepository;
+    private final OrderShards orderShards;
+
+    private final Map<String, Set<Long>> ordersByProduct = new ConcurrentHashMap<>();
+    private final Map<String, Map<Long, OrderStatus>> ordersByCustomer = new ConcurrentHashMap<>();
+
+    public OrderSearchIndex(OrderRepository orderRepository, OrderShards orderShards) {
+        this.orderRepository = orderRepository;
+        this.orderShards = orderShards;
+    }
+
+    /**
+     * Loads every (product, order) and (customer, order, status) reference from all shards.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        ordersByProduct.clear();
+        ordersByCustomer.clear();
+        for (ProductOrderRef ref : orderShards.onAllShards(orderRepository::findAllProductOrderRefs)) {
+            addProduct(ref.getProductId(), ref.getOrderId());
+        }
+        for (CustomerOrderRef ref : orderShards.onAllShards(orderRepository::findAllCustomerOrderRefs)) {
+            putCustomer(ref.getCustomerId(), ref.getOrderId(), ref.getStatus());
+        }
+        log.info("Order search index rebuilt: {} products, {} customers",
+                ordersByProduct.size(), ordersByCustomer.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        index(event.getOrder());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        putCustomer(event.getCustomerId(), event.getOrderId(), event.getNewStatus());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrdersArchived(OrdersArchivedEvent event) {
+        for (Order order : event.getOrders()) {
+            remove(order);
+        }
+    }
+
+    /**
+     * Adds a persisted order and all of its products to the index.
+     *
+     * @param order the saved order
+     */
+    public void index(Order order) {
+        if (order.getId() == null) {
+            return;
+        }
+        for (OrderItem item : order.getItems()) {
+            addProduct(item.getProductId(), order.getId());
+        }
+        putCustomer(order.getCustomerId(), order.getId(), order.getStatus());
+    }
+
+    /**
+     * Returns the IDs of orders matching every supplied criterion.
+     * Null criteria are ignored; at least one of productId or customerId must be set.
+     *
+     * @param productId the product contained in the order, or null
+     * @param customerId the owning customer, or null
+     * @param status the current status (only applied together with customerId), or null
+     * @return the candidate order IDs
+     */
+    public Set<Long> search(String productId, String customerId, OrderStatus status) {
+        Set<Long> candidates = null;
+        if (productId != null) {
+            candidates = new HashSet<>(ordersByProduct.getOrDefault(productId, Collections.emptySet()));
+        }
+        if (customerId != null) {
+            Set<Long> customerOrders = new HashSet<>();
+            ordersByCustomer.getOrDefault(customerId, Collections.emptyMap()).forEach((orderId, orderStatus) -> {
+                if (status == null || status == orderStatus) {
+                    customerOrders.add(orderId);
+                }
+            });
+            if (candidates == null) {
+                candidates = customerOrders;
+            } else {
+                candidates.retainAll(customerOrders);
+            }
+        }
+        return candidates == null ? Collections.emptySet() : candidates;
+    }
+
+    /**
+     * Removes an order that has left the order tables.
+     *
+     * @param order the removed order, with its items
+     */
+    public void remove(Order order) {
+        for (OrderItem item : order.getItems()) {
+            ordersByProduct.computeIfPresent(item.getProductId(), (key, orderIds) -> {
+                orderIds.remove(order.getId());
+                return orderIds.isEmpty() ? null : orderIds;
+            });
+        }
+        ordersByCustomer.computeIfPresent(order.getCustomerId(), (key, orders) -> {
+            orders.remove(order.getId());
+            return orders.isEmpty() ? null : orders;
+        });
+    }
+
+    private void addProduct(String productId, Long orderId) {
+        ordersByProduct.computeIfAbsent(productId, key -> ConcurrentHashMap.newKeySet()).add(orderId);
+    }
+
+    private void putCustomer(String customerId, Long orderId, OrderStatus status) {
+        ordersByCustomer.computeIfAbsent(customerId, key -> new ConcurrentHashMap<>()).put(orderId, status);
+    }
+}
@@ -0,0 +1,45 @@
+package com.quantiphi.orderservice.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for coalescing concurrent order creations into batched transactions.
+ */
+@ConfigurationProperties(prefix = "orders.create.group-commit")
+public class GroupCommitProperties {
+
+    /** Whether order creation goes through the group-commit writer. */
+    private boolean enabled = false;
+
+    /** Maximum number of orders committed in one transaction. */
+    private int maxBatchSize = 64;
+
+    /** Longest time the oldest queued request waits before its batch is committed. */
+    private Duration maxDelay = Duration.ofMillis(5);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    public void setMaxDelay(Duration maxDelay) {
+        this.maxDelay = maxDelay;
+    }
+}
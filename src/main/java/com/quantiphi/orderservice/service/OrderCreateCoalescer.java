@@ -0,0 +1,190 @@
+package com.quantiphi.orderservice.service;
+
+import com.quantiphi.orderservice.dto.CreateOrderRequest;
+import com.quantiphi.orderservice.dto.OrderResponse;
+import com.quantiphi.orderservice.shard.OrderShards;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Group-commit writer for order creation.
+ * Callers enqueue requests on a lock-free queue and receive a future; a single
+ * writer thread drains the queue once it holds a full batch or the oldest
+ * request has waited the configured delay, and commits the batch through
+ * {@link OrderService#createOrders}. If a batch fails, its requests are retried
+ * one by one so that a single bad order only fails its own caller. When the store
+ * is sharded, each drained batch is committed per shard.
+ */
+@Component
+@EnableConfigurationProperties(GroupCommitProperties.class)
+public class OrderCreateCoalescer {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderCreateCoalescer.class);
+
+    private final OrderService orderService;
+    private final OrderShards orderShards;
+    private final GroupCommitProperties properties;
+
+    private final ConcurrentLinkedQueue<PendingCreate> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public OrderCreateCoalescer(OrderService orderService, OrderShards orderShards,
+                                GroupCommitProperties properties) {
+        this.orderService = orderService;
+        this.orderShards = orderShards;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::runWriter, "order-group-commit");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("Group commit enabled: max batch size {}, max delay {}",
+                properties.getMaxBatchSize(), properties.getMaxDelay());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join();
+    }
+
+    public boolean isEnabled() {
+        return running;
+    }
+
+    /**
+     * Enqueues an order creation for the next group commit.
+     *
+     * @param request the order creation request
+     * @return a future completed with this request's order once its batch commits, or failed
+     *         with a {@link RejectedExecutionException} if the writer is not running
+     */
+    public CompletableFuture<OrderResponse> submit(CreateOrderRequest request) {
+        if (!running) {
+            return CompletableFuture.failedFuture(stopped());
+        }
+        PendingCreate create = new PendingCreate(request, System.nanoTime());
+        queue.offer(create);
+        int queued = pending.incrementAndGet();
+        if (!running && queue.remove(create)) {
+            // Stopped while enqueuing: the writer may already have exited, so nobody would drain it
+            pending.decrementAndGet();
+            create.future.completeExceptionally(stopped());
+            return create.future;
+        }
+        if (queued == 1 || queued >= properties.getMaxBatchSize()) {
+            LockSupport.unpark(writer);
+        }
+        return create.future;
+    }
+
+    private static RejectedExecutionException stopped() {
+        return new RejectedExecutionException("Group commit writer is not running");
+    }
+
+    private void runWriter() {
+        long maxDelayNanos = properties.getMaxDelay().toNanos();
+        while (running || !queue.isEmpty()) {
+            PendingCreate oldest = queue.peek();
+            if (oldest == null) {
+                LockSupport.park(this);
+                continue;
+            }
+            long deadline = oldest.enqueuedAt + maxDelayNanos;
+            long remaining;
+            while (running && pending.get() < properties.getMaxBatchSize()
+                    && (remaining = deadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(this, remaining);
+            }
+            for (List<PendingCreate> batch : byShard(drain())) {
+                flush(batch);
+            }
+        }
+    }
+
+    private List<PendingCreate> drain() {
+        List<PendingCreate> batch = new ArrayList<>(properties.getMaxBatchSize());
+        PendingCreate create;
+        while (batch.size() < properties.getMaxBatchSize() && (create = queue.poll()) != null) {
+            batch.add(create);
+        }
+        pending.addAndGet(-batch.size());
+        return batch;
+    }
+
+    private Collection<List<PendingCreate>> byShard(List<PendingCreate> batch) {
+        if (orderShards.getShardCount() == 1) {
+            return List.of(batch);
+        }
+        Map<Integer, List<PendingCreate>> batches = new TreeMap<>();
+        for (PendingCreate create : batch) {
+            batches.computeIfAbsent(orderShards.shardForCustomer(create.request.getCustomerId()),
+                shard -> new ArrayList<>()).add(create);
+        }
+        return batches.values();
+    }
+
+    private void flush(List<PendingCreate> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            List<CreateOrderRequest> requests = new ArrayList<>(batch.size());
+            for (PendingCreate create : batch) {
+                requests.add(create.request);
+            }
+            List<OrderResponse> responses = orderService.createOrders(requests);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future.complete(responses.get(i));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Group commit of {} orders failed, retrying individually: {}", batch.size(), e.getMessage());
+            for (PendingCreate create : batch) {
+                try {
+                    create.future.complete(orderService.createOrder(create.request));
+                } catch (RuntimeException individual) {
+                    create.future.completeExceptionally(individual);
+                }
+            }
+        }
+    }
+
+    private static final class PendingCreate {
+        private final CreateOrderRequest request;
+        private final long enqueuedAt;
+        private final CompletableFuture<OrderResponse> future = new CompletableFuture<>();
+
+        private PendingCreate(CreateOrderRequest request, long enqueuedAt) {
+            this.request = request;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
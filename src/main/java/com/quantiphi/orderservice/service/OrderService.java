@@ -1,19 +1,39 @@
 package com.quantiphi.orderservice.service;
 
+import com.quantiphi.orderservice.archive.OrderArchive;
 import com.quantiphi.orderservice.domain.Order;
 import com.quantiphi.orderservice.domain.OrderItem;
 import com.quantiphi.orderservice.domain.OrderStatus;
 import com.quantiphi.orderservice.dto.CreateOrderRequest;
+import com.quantiphi.orderservice.dto.MultiGetOrdersResponse;
 import com.quantiphi.orderservice.dto.OrderItemRequest;
 import com.quantiphi.orderservice.dto.OrderResponse;
+import com.quantiphi.orderservice.dto.OrderSummaryResponse;
 import com.quantiphi.orderservice.exception.InvalidOrderStatusTransitionException;
+import com.quantiphi.orderservice.event.OrderCreatedEvent;
+import com.quantiphi.orderservice.event.OrderStatusChangedEvent;
+import com.quantiphi.orderservice.exception.InvalidSearchCriteriaException;
 import com.quantiphi.orderservice.exception.OrderNotFoundException;
+import com.quantiphi.orderservice.ingest.OrderLineConsolidator;
+import com.quantiphi.orderservice.profiling.OrderStatusTransitionEvent;
 import com.quantiphi.orderservice.repository.OrderRepository;
+import com.quantiphi.orderservice.search.OrderSearchIndex;
+import com.quantiphi.orderservice.shard.OrderShards;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 /**
  * Service layer for managing order operations.
  * Handles business logic for order creation, retrieval, and status updates.
@@ -23,10 +43,28 @@ public class OrderService {
 
     private static final Logger log = LoggerFactory.getLogger(OrderService.class);
 
+    /** Batches with at least this many items in total are mapped to responses in parallel. */
+    static final int PARALLEL_MAPPING_THRESHOLD = 2_000;
+
     private final OrderRepository orderRepository;
+    private final OrderSearchIndex searchIndex;
+    private final OrderArchive orderArchive;
+    private final OrderShards orderShards;
+    private final OrderLineConsolidator lineConsolidator;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public OrderService(OrderRepository orderRepository) {
+    public OrderService(OrderRepository orderRepository,
+                        OrderSearchIndex searchIndex,
+                        OrderArchive orderArchive,
+                        OrderShards orderShards,
+                        OrderLineConsolidator lineConsolidator,
+                        ApplicationEventPublisher eventPublisher) {
         this.orderRepository = orderRepository;
+        this.searchIndex = searchIndex;
+        this.orderArchive = orderArchive;
+        this.orderShards = orderShards;
+        this.lineConsolidator = lineConsolidator;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -40,26 +78,66 @@ public class OrderService {
     public OrderResponse createOrder(CreateOrderRequest request) {
         log.info("Creating order for customer: {}", request.getCustomerId());
         
-        Order order = new Order(request.getCustomerId());
-        
-        for (OrderItemRequest itemRequest : request.getItems()) {
-            OrderItem item = new OrderItem(
-                itemRequest.getProductId(),
-                itemRequest.getQuantity(),
-                itemRequest.getPrice()
-            );
-            order.addItem(item);
-        }
+        Order order = buildOrder(request);
         
         Order savedOrder = orderRepository.save(order);
         log.info("Successfully created order with ID: {} for customer: {}", 
                 savedOrder.getId(), savedOrder.getCustomerId());
+        eventPublisher.publishEvent(new OrderCreatedEvent(savedOrder));
         
         return OrderResponse.fromEntity(savedOrder);
     }
 
+    /**
+     * Persists an order that was assembled by the caller, typically from a streamed payload.
+     * Only a summary is returned so that very large orders are not copied again into a response.
+     *
+     * @param order the new, unsaved order with its items
+     * @return a summary of the created order
+     */
+    @Transactional
+    public OrderSummaryResponse createOrder(Order order) {
+        log.info("Creating order with {} items for customer: {}", order.getItems().size(), order.getCustomerId());
+
+        Order savedOrder = orderRepository.save(order);
+        log.info("Successfully created order with ID: {} for customer: {}",
+                savedOrder.getId(), savedOrder.getCustomerId());
+        eventPublisher.publishEvent(new OrderCreatedEvent(savedOrder));
+
+        return OrderSummaryResponse.fromEntity(savedOrder);
+    }
+
+    /**
+     * Creates several orders in a single transaction.
+     * Used by the group-commit path to amortize commit cost across concurrent requests;
+     * if any order fails, the whole batch is rolled back. When sharded, all customers
+     * must belong to the same shard.
+     *
+     * @param requests the order creation requests
+     * @return the created order responses, in request order
+     */
+    @Transactional
+    public List<OrderResponse> createOrders(List<CreateOrderRequest> requests) {
+        log.debug("Creating batch of {} orders", requests.size());
+
+        List<Order> orders = requests.stream()
+            .map(this::buildOrder)
+            .collect(Collectors.toList());
+
+        List<Order> savedOrders = orderRepository.saveAll(orders);
+        for (Order savedOrder : savedOrders) {
+            eventPublisher.publishEvent(new OrderCreatedEvent(savedOrder));
+        }
+        log.info("Successfully created batch of {} orders", savedOrders.size());
+
+        return savedOrders.stream()
+            .map(OrderResponse::fromEntity)
+            .collect(Collectors.toList());
+    }
+
     /**
      * Retrieves an order by its ID.
+     * Orders that have been archived are served from the archive.
      *
      * @param id the order ID
      * @return the order response with full details
@@ -68,19 +146,70 @@ public class OrderService {
     @Transactional(readOnly = true)
     public OrderResponse getOrder(Long id) {
         log.debug("Retrieving order with ID: {}", id);
-        log.debug("Retrieving order with ID: {}", id);
         
-        Order order = orderRepository.findById(id)
+        return orderRepository.findById(id)
+            .map(OrderResponse::fromEntity)
+            .or(() -> orderArchive.find(id))
             .orElseThrow(() -> {
                 log.warn("Order not found with ID: {}", id);
                 return new OrderNotFoundException(id);
             });
-        return OrderResponse.fromEntity(order);
+    }
+
+    /**
+     * Retrieves many orders by ID at once. Each shard holding requested orders is
+     * read with two queries, one for the orders and one for all of their items,
+     * instead of one lookup per order. Orders that have been archived are served
+     * from the archive; IDs found nowhere are reported as missing rather than
+     * failing the whole request.
+     *
+     * @param ids the order IDs; duplicates are returned once
+     * @return the orders found, in the order they were requested, and the missing IDs
+     */
+    @Transactional(readOnly = true)
+    public MultiGetOrdersResponse getOrders(List<Long> ids) {
+        Set<Long> requestedIds = new LinkedHashSet<>(ids);
+        log.debug("Retrieving {} orders", requestedIds.size());
+
+        Map<Long, OrderResponse> found = new HashMap<>();
+        for (OrderResponse response : orderShards.forOrderIds(requestedIds, this::loadWithItems)) {
+            found.put(response.getId(), response);
+        }
+        List<OrderResponse> orders = new ArrayList<>(requestedIds.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : requestedIds) {
+            OrderResponse response = found.get(id);
+            if (response == null) {
+                response = orderArchive.find(id).orElse(null);
+            }
+            if (response != null) {
+                orders.add(response);
+            } else {
+                missing.add(id);
+            }
+        }
+        return new MultiGetOrdersResponse(orders, missing);
+    }
+
+    /**
+     * Looks up the current version of an order without loading it or its items.
+     *
+     * @param id the order ID
+     * @return the order's optimistic-lock version
+     * @throws OrderNotFoundException if the order does not exist
+     */
+    @Transactional(readOnly = true)
+    public long getOrderVersion(Long id) {
+        return orderRepository.findVersionById(id)
+            .or(() -> orderArchive.find(id).map(OrderResponse::getVersion))
+            .orElseThrow(() -> new OrderNotFoundException(id));
     }
 
     /**
      * Updates the status of an existing order.
-     * Validates the status transition according to business rules.
+     * Validates the status transition according to business rules. Every attempt,
+     * applied or not, is recorded as an {@link OrderStatusTransitionEvent} once the
+     * transaction has completed.
      *
      * @param id the order ID
      * @param newStatus the new status to transition to
@@ -93,24 +222,126 @@ public class OrderService {
         log.info("Updating order {} to status: {}", id, newStatus);
         log.info("Updating order {} to status: {}", id, newStatus);
         
-        Order order = orderRepository.findById(id)
-            .orElseThrow(() -> {
-                log.warn("Order not found with ID: {}", id);
-                return new OrderNotFoundException(id);
-            });
-        
+        OrderStatusTransitionEvent transition = new OrderStatusTransitionEvent();
+        transition.begin();
+        transition.orderId = id;
+        transition.toStatus = newStatus.name();
+        transition.outcome = OrderStatusTransitionEvent.NOT_FOUND;
         try {
+            Order order = orderRepository.findById(id)
+                .orElseThrow(() -> {
+                    OrderResponse archived = orderArchive.find(id).orElse(null);
+                    if (archived != null) {
+                        transition.fromStatus = archived.getStatus().name();
+                        transition.outcome = OrderStatusTransitionEvent.REJECTED;
+                        return new InvalidOrderStatusTransitionException(String.format(
+                            "Cannot transition from %s to %s", archived.getStatus(), newStatus));
+                    }
+                    log.warn("Order not found with ID: {}", id);
+                    return new OrderNotFoundException(id);
+                });
+            transition.fromStatus = order.getStatus().name();
+            transition.outcome = OrderStatusTransitionEvent.FAILED;
+
             OrderStatus oldStatus = order.getStatus();
             order.updateStatus(newStatus);
             
             Order updatedOrder = orderRepository.save(order);
+            transition.outcome = OrderStatusTransitionEvent.APPLIED;
             log.info("Successfully updated order {} from {} to {}", 
                     id, oldStatus, newStatus);
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(
+                    id, updatedOrder.getCustomerId(), oldStatus, newStatus, updatedOrder.getUpdatedAt()));
             
             return OrderResponse.fromEntity(updatedOrder);
         } catch (IllegalStateException e) {
+            transition.outcome = OrderStatusTransitionEvent.REJECTED;
             log.error("Invalid status transition for order {}: {}", id, e.getMessage());
             throw new InvalidOrderStatusTransitionException(e.getMessage());
+        } finally {
+            transition.commitAfterCompletion();
+        }
+    }
+
+    /**
+     * Searches orders by product and/or customer using the in-memory search index.
+     * Candidates from the index are re-checked against the loaded orders, which are
+     * fetched newest first, a limit's worth at a time, until the limit is reached;
+     * each batch is fetched from all shards holding its candidates in parallel.
+     *
+     * @param productId the product the order must contain, or null
+     * @param customerId the customer the order must belong to, or null
+     * @param status the status the order must be in, or null
+     * @param limit the maximum number of orders to return
+     * @return matching orders, newest first
+     * @throws InvalidSearchCriteriaException if neither productId nor customerId is given
+     */
+    @Transactional(readOnly = true)
+    public List<OrderResponse> searchOrders(String productId, String customerId, OrderStatus status, int limit) {
+        if (productId == null && customerId == null) {
+            throw new InvalidSearchCriteriaException("At least one of productId or customerId is required");
+        }
+        log.debug("Searching orders for product: {}, customer: {}, status: {}", productId, customerId, status);
+
+        Set<Long> candidateIds = searchIndex.search(productId, customerId, status);
+        List<Long> orderedIds = candidateIds.stream()
+            .sorted(Comparator.reverseOrder())
+            .collect(Collectors.toList());
+
+        // Stale candidates fail the re-check, so candidates are loaded a limit's worth at a
+        // time until enough of them match
+        int batchSize = Math.max(limit, 1);
+        List<OrderResponse> matches = new ArrayList<>();
+        for (int from = 0; from < orderedIds.size() && matches.size() < limit; from += batchSize) {
+            List<Long> batch = orderedIds.subList(from, Math.min(from + batchSize, orderedIds.size()));
+            orderShards.forOrderIds(batch, ids -> orderRepository.findAllById(ids).stream()
+                    .filter(order -> customerId == null || customerId.equals(order.getCustomerId()))
+                    .filter(order -> status == null || status == order.getStatus())
+                    .filter(order -> productId == null || order.getItems().stream()
+                        .anyMatch(item -> productId.equals(item.getProductId())))
+                    .map(OrderResponse::fromEntity)
+                    .collect(Collectors.toList()))
+                .stream()
+                .sorted(Comparator.comparing(OrderResponse::getId).reversed())
+                .forEachOrdered(matches::add);
+        }
+        return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    }
+
+    /**
+     * Loads orders living on one shard together with their items, in two queries.
+     */
+    private List<OrderResponse> loadWithItems(List<Long> ids) {
+        List<Order> orders = orderRepository.findAllByIdIn(ids);
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+        List<OrderItem> items = orderRepository.findItemsByOrderIdIn(
+            orders.stream().map(Order::getId).collect(Collectors.toList()));
+        Map<Long, List<OrderItem>> itemsByOrder = items.stream()
+            .collect(Collectors.groupingBy(item -> item.getOrder().getId()));
+        return (items.size() >= PARALLEL_MAPPING_THRESHOLD ? orders.parallelStream() : orders.stream())
+            .map(order -> OrderResponse.fromEntity(order, itemsByOrder.getOrDefault(order.getId(), List.of())))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Builds an unsaved order entity from a creation request.
+     */
+    private Order buildOrder(CreateOrderRequest request) {
+        Order order = new Order(request.getCustomerId());
+        OrderLineConsolidator.Lines lines = lineConsolidator.open(order, request.getItems().size());
+        
+        List<OrderItemRequest> itemRequests = request.getItems();
+        for (int i = 0; i < itemRequests.size(); i++) {
+            OrderItemRequest itemRequest = itemRequests.get(i);
+            OrderItem item = new OrderItem(
+                itemRequest.getProductId(),
+                itemRequest.getQuantity(),
+                itemRequest.getPrice()
+            );
+            lines.add(item, i);
         }
+        return order;
     }
 }
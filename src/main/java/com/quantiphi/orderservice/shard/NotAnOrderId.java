@@ -0,0 +1,17 @@
+package com.quantiphi.orderservice.shard;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@code Long} repository parameter that is not an order ID, such as an ID
+ * range bound, so that {@link ShardRoutingInterceptor} does not route the call by it.
+ */
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface NotAnOrderId {
+}
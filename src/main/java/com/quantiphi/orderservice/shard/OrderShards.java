@@ -0,0 +1,213 @@
+package com.quantiphi.orderservice.shard;
+
+import com.quantiphi.orderservice.id.SnowflakeIdGenerator;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Maps customers and orders to shards and runs work on one or all of them.
+ * <p>
+ * A customer's orders all live on the shard picked by a hash of the customer ID.
+ * The shard is also encoded in each order ID (the upper {@value #SHARD_BITS} bits of
+ * the Snowflake node field), so an order is found from its ID alone. Work spanning
+ * several shards is scattered to a thread per shard, each in its own read-only
+ * transaction, and the results are gathered. With sharding disabled there is a
+ * single shard and all work runs inline on the caller's thread and transaction.
+ */
+@Component
+@EnableConfigurationProperties(ShardingProperties.class)
+public class OrderShards {
+
+    public static final int SHARD_BITS = 4;
+    public static final int MAX_SHARDS = 1 << SHARD_BITS;
+
+    /** Node IDs of instances writing to sharded stores must fit below the shard bits. */
+    public static final int INSTANCE_BITS = SnowflakeIdGenerator.NODE_BITS - SHARD_BITS;
+
+    private final int shardCount;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService executor;
+
+    public OrderShards(ShardingProperties properties, PlatformTransactionManager transactionManager) {
+        this.shardCount = properties.isEnabled() ? properties.getShards().size() : 1;
+        if (shardCount < 1 || shardCount > MAX_SHARDS) {
+            throw new IllegalStateException(String.format(
+                "Between 1 and %d shards must be configured but found %d", MAX_SHARDS, shardCount));
+        }
+        if (shardCount > 1) {
+            this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+            this.readOnlyTransaction.setReadOnly(true);
+            AtomicInteger threads = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(shardCount, task -> {
+                Thread thread = new Thread(task, "order-shard-query-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.readOnlyTransaction = null;
+            this.executor = null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * Returns the shard holding a customer's orders.
+     *
+     * @param customerId the customer ID
+     * @return the shard number
+     */
+    public int shardForCustomer(String customerId) {
+        if (shardCount == 1) {
+            return 0;
+        }
+        int hash = customerId.hashCode();
+        hash = (hash ^ (hash >>> 16)) * 0x45d9f3b;
+        hash ^= hash >>> 16;
+        return Math.floorMod(hash, shardCount);
+    }
+
+    /**
+     * Returns the shard holding an order.
+     * IDs not issued by a sharded store (such as client-supplied IDs) map to some
+     * valid shard, where they are simply not found.
+     *
+     * @param orderId the order ID
+     * @return the shard number
+     */
+    public int shardForOrder(long orderId) {
+        return shardCount == 1 ? 0 : shardOf(orderId) % shardCount;
+    }
+
+    /**
+     * Returns the Snowflake node ID an instance uses for orders on a shard.
+     *
+     * @param shard the shard number
+     * @param instanceNodeId the instance's configured node ID
+     * @return the node ID to encode in IDs
+     */
+    public static long nodeIdFor(int shard, long instanceNodeId) {
+        return ((long) shard << INSTANCE_BITS) | instanceNodeId;
+    }
+
+    /**
+     * Extracts the shard encoded in an order ID.
+     *
+     * @param orderId the order ID
+     * @return the shard number
+     */
+    public static int shardOf(long orderId) {
+        return (int) (SnowflakeIdGenerator.nodeOf(orderId) >>> INSTANCE_BITS);
+    }
+
+    /**
+     * Runs work against one shard on the calling thread.
+     *
+     * @param shard the shard number
+     * @param work the work, typically repository calls or a transaction
+     * @return the work's result
+     */
+    public <T> T onShard(int shard, Supplier<T> work) {
+        if (shardCount == 1) {
+            return work.get();
+        }
+        boolean exit = ShardContext.enter(shard);
+        try {
+            return work.get();
+        } finally {
+            if (exit) {
+                ShardContext.exit();
+            }
+        }
+    }
+
+    /**
+     * Runs a query on every shard in parallel and concatenates the results.
+     *
+     * @param query the query to run on each shard
+     * @return the results of all shards, in shard order
+     */
+    public <T> List<T> onAllShards(Supplier<? extends Collection<T>> query) {
+        Map<Integer, Supplier<? extends Collection<T>>> tasks = new TreeMap<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            tasks.put(shard, query);
+        }
+        return scatterGather(tasks);
+    }
+
+    /**
+     * Splits order IDs by shard, runs a query for each group in parallel and
+     * concatenates the results.
+     *
+     * @param orderIds the order IDs
+     * @param query the query receiving the IDs that live on one shard
+     * @return the results of all groups, in shard order
+     */
+    public <T> List<T> forOrderIds(Collection<Long> orderIds, Function<List<Long>, ? extends Collection<T>> query) {
+        if (shardCount == 1) {
+            return new ArrayList<>(query.apply(new ArrayList<>(orderIds)));
+        }
+        Map<Integer, List<Long>> idsByShard = new TreeMap<>();
+        for (Long orderId : orderIds) {
+            idsByShard.computeIfAbsent(shardForOrder(orderId), shard -> new ArrayList<>()).add(orderId);
+        }
+        Map<Integer, Supplier<? extends Collection<T>>> tasks = new TreeMap<>();
+        idsByShard.forEach((shard, ids) -> tasks.put(shard, () -> query.apply(ids)));
+        return scatterGather(tasks);
+    }
+
+    private <T> List<T> scatterGather(Map<Integer, Supplier<? extends Collection<T>>> tasks) {
+        List<T> results = new ArrayList<>();
+        if (tasks.size() == 1) {
+            Map.Entry<Integer, Supplier<? extends Collection<T>>> task = tasks.entrySet().iterator().next();
+            results.addAll(onShard(task.getKey(), task.getValue()));
+            return results;
+        }
+        List<Future<? extends Collection<T>>> futures = new ArrayList<>(tasks.size());
+        tasks.forEach((shard, task) -> futures.add(executor.submit(
+            () -> onShard(shard, () -> readOnlyTransaction.execute(status -> task.get())))));
+        for (Future<? extends Collection<T>> future : futures) {
+            results.addAll(await(future));
+        }
+        return results;
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a shard query", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Shard query failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.quantiphi.orderservice.shard;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Holds the shard the current thread is working on.
+ * <p>
+ * A JPA transaction runs on one connection and therefore on exactly one shard.
+ * The first shard entered inside a transaction stays bound until the transaction
+ * completes, so statements flushed at commit still reach the right database;
+ * entering a different shard before then is an error.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private static final TransactionSynchronization UNBIND_ON_COMPLETION = new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+            CURRENT.remove();
+        }
+    };
+
+    private ShardContext() {
+    }
+
+    /**
+     * Returns the shard bound to the current thread.
+     *
+     * @return the shard number, or null if none is bound
+     */
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds a shard to the current thread.
+     *
+     * @param shard the shard to work on
+     * @return true if the caller must {@link #exit()} afterwards; false if the shard
+     *         was already bound or is now bound until the current transaction completes
+     * @throws IllegalStateException if a different shard is already bound
+     */
+    static boolean enter(int shard) {
+        Integer current = CURRENT.get();
+        if (current != null) {
+            if (current != shard) {
+                throw new IllegalStateException(String.format(
+                    "Cannot access shard %d while bound to shard %d", shard, current));
+            }
+            return false;
+        }
+        CURRENT.set(shard);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(UNBIND_ON_COMPLETION);
+            return false;
+        }
+        return true;
+    }
+
+    static void exit() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,15 @@
+package com.quantiphi.orderservice.shard;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Data source that hands out connections of the shard bound in {@link ShardContext}.
+ * Without a bound shard (schema setup, metadata queries) the first shard is used.
+ */
+class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+}
@@ -0,0 +1,84 @@
+package com.quantiphi.orderservice.shard;
+
+import com.quantiphi.orderservice.domain.Order;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+
+/**
+ * Routes {@code OrderRepository} calls to the shard their arguments belong to.
+ * Orders route by customer ID and {@code Long} arguments are order IDs unless marked
+ * {@link NotAnOrderId}; collections of either must all belong to one shard. Calls without such arguments (full scans)
+ * run on the shard already bound, for example through {@link OrderShards#onAllShards}.
+ */
+class ShardRoutingInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<OrderShards> orderShards;
+
+    ShardRoutingInterceptor(ObjectProvider<OrderShards> orderShards) {
+        this.orderShards = orderShards;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (invocation.getMethod().getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        Integer shard = resolveShard(invocation.getArguments(), invocation.getMethod());
+        if (shard == null) {
+            if (ShardContext.current() == null) {
+                throw new IllegalStateException("No shard selected for " + invocation.getMethod().getName()
+                    + "; run it through OrderShards");
+            }
+            return invocation.proceed();
+        }
+        boolean exit = ShardContext.enter(shard);
+        try {
+            return invocation.proceed();
+        } finally {
+            if (exit) {
+                ShardContext.exit();
+            }
+        }
+    }
+
+    private Integer resolveShard(Object[] arguments, Method method) {
+        Parameter[] parameters = method.getParameters();
+        Integer shard = null;
+        for (int i = 0; i < arguments.length; i++) {
+            Object argument = arguments[i];
+            if (parameters[i].isAnnotationPresent(NotAnOrderId.class)) {
+                continue;
+            }
+            if (argument instanceof Iterable<?> values) {
+                for (Object value : values) {
+                    shard = merge(shard, shardOf(value));
+                }
+            } else {
+                shard = merge(shard, shardOf(argument));
+            }
+        }
+        return shard;
+    }
+
+    private Integer shardOf(Object value) {
+        if (value instanceof Order order) {
+            return orderShards.getObject().shardForCustomer(order.getCustomerId());
+        }
+        if (value instanceof Long orderId) {
+            return orderShards.getObject().shardForOrder(orderId);
+        }
+        return null;
+    }
+
+    private static Integer merge(Integer shard, Integer next) {
+        if (shard != null && next != null && !shard.equals(next)) {
+            throw new IllegalStateException(String.format(
+                "Repository call spans shards %d and %d; split it with OrderShards", shard, next));
+        }
+        return shard != null ? shard : next;
+    }
+}
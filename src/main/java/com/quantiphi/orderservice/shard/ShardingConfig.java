@@ -0,0 +1,112 @@
+package com.quantiphi.orderservice.shard;
+
+import com.quantiphi.orderservice.datasource.ConnectionPoolProperties;
+import com.quantiphi.orderservice.datasource.ConnectionPools;
+import com.quantiphi.orderservice.repository.OrderRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the single order database with one connection pool per shard.
+ * <p>
+ * The routing data source is wrapped in a {@link LazyConnectionDataSourceProxy}, so a
+ * transaction only takes a physical connection at its first statement, by which time
+ * the repository call has bound the shard. {@link OrderRepository} is wrapped with
+ * {@link ShardRoutingInterceptor} to do that binding. Every shard pool takes the
+ * {@code spring.datasource.hikari.*} settings and is sized like the single pool.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "orders.sharding", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardingConfig.class);
+
+    @Bean
+    public DataSource dataSource(ShardingProperties properties, @Value("${orders.id.node-id:0}") long nodeId,
+                                 ConnectionPoolProperties poolProperties, Environment environment) {
+        if (nodeId >= 1L << OrderShards.INSTANCE_BITS) {
+            throw new IllegalStateException(String.format(
+                "orders.id.node-id must be below %d when sharding is enabled", 1L << OrderShards.INSTANCE_BITS));
+        }
+        List<ShardingProperties.Shard> shards = properties.getShards();
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            ShardingProperties.Shard shard = shards.get(i);
+            HikariDataSource pool = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(shard.getUrl())
+                .username(shard.getUsername())
+                .password(shard.getPassword())
+                .build();
+            Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+            ConnectionPools.size(pool, poolProperties, environment);
+            pool.setPoolName("orders-shard-" + i);
+            targets.put(i, pool);
+        }
+        ShardRoutingDataSource routing = new ShardRoutingDataSource();
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(targets.get(0));
+        routing.setLenientFallback(false);
+        routing.afterPropertiesSet();
+        log.info("Order store sharded across {} databases", shards.size());
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public static BeanPostProcessor shardRoutingRepositoryPostProcessor(ObjectProvider<OrderShards> orderShards) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof OrderRepository)) {
+                    return bean;
+                }
+                ProxyFactory proxy = new ProxyFactory();
+                proxy.setTarget(bean);
+                proxy.addInterface(OrderRepository.class);
+                proxy.addAdvice(new ShardRoutingInterceptor(orderShards));
+                return proxy.getProxy();
+            }
+        };
+    }
+
+    @Bean
+    public SmartInitializingSingleton shardSchemaInitializer(ShardingProperties properties,
+                                                             EntityManagerFactory entityManagerFactory,
+                                                             OrderShards orderShards) {
+        return () -> {
+            if (!properties.isCreateSchema()) {
+                return;
+            }
+            SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+            for (int shard = 1; shard < orderShards.getShardCount(); shard++) {
+                orderShards.onShard(shard, () -> {
+                    sessionFactory.getSchemaManager().exportMappedObjects(false);
+                    return null;
+                });
+            }
+        };
+    }
+}
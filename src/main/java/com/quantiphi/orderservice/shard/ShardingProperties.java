@@ -0,0 +1,82 @@
+package com.quantiphi.orderservice.shard;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration for splitting the order store across several databases by customer.
+ */
+@ConfigurationProperties(prefix = "orders.sharding")
+public class ShardingProperties {
+
+    /** Whether orders are routed across the configured shards instead of the single spring.datasource. */
+    private boolean enabled = false;
+
+    /**
+     * Whether the mapped tables are created on every shard but the first at startup.
+     * Shard 0 follows spring.jpa.hibernate.ddl-auto.
+     */
+    private boolean createSchema = true;
+
+    /** The shard databases; the list position is the shard number and must not change. */
+    private List<Shard> shards = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isCreateSchema() {
+        return createSchema;
+    }
+
+    public void setCreateSchema(boolean createSchema) {
+        this.createSchema = createSchema;
+    }
+
+    public List<Shard> getShards() {
+        return shards;
+    }
+
+    public void setShards(List<Shard> shards) {
+        this.shards = shards;
+    }
+
+    public static class Shard {
+
+        private String url;
+
+        private String username = "sa";
+
+        private String password = "";
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+    }
+}
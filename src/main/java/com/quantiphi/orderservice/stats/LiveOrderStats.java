@@ -0,0 +1,93 @@
+package com.quantiphi.orderservice.stats;
+
+import com.quantiphi.orderservice.domain.Order;
+import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.dto.LiveOrderStatsResponse;
+import com.quantiphi.orderservice.event.OrderCreatedEvent;
+import com.quantiphi.orderservice.event.OrderStatusChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Rolling statistics of order creation, revenue and status transitions over the
+ * last minute and the last hour, kept in memory so that dashboards can poll them
+ * without querying the database. Orders are counted once their creation or status
+ * change has committed. Counts are per instance and start from zero on restart.
+ * Per-second buckets cover the last minute and per-minute buckets the last hour;
+ * each window includes the current, still incomplete second or minute.
+ */
+@Component
+public class LiveOrderStats {
+
+    static final int SECONDS_PER_MINUTE = 60;
+    static final int MINUTES_PER_HOUR = 60;
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private final RollingWindow seconds = new RollingWindow(1_000, SECONDS_PER_MINUTE);
+    private final RollingWindow minutes = new RollingWindow(60_000, MINUTES_PER_HOUR);
+    private final LongSupplier clock;
+
+    public LiveOrderStats() {
+        this(System::currentTimeMillis);
+    }
+
+    LiveOrderStats(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        Order order = event.getOrder();
+        long revenueCents = order.getTotalPrice().movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue();
+        long now = clock.getAsLong();
+        record(seconds.bucketAt(now), revenueCents);
+        record(minutes.bucketAt(now), revenueCents);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        int status = event.getNewStatus().ordinal();
+        long now = clock.getAsLong();
+        seconds.bucketAt(now).transitions[status].increment();
+        minutes.bucketAt(now).transitions[status].increment();
+    }
+
+    /**
+     * Returns the current statistics.
+     *
+     * @return totals for the last minute and hour, and orders created in each of the last 60 seconds
+     */
+    public LiveOrderStatsResponse snapshot() {
+        long now = clock.getAsLong();
+        LiveOrderStatsResponse response = new LiveOrderStatsResponse();
+        response.setAsOf(LocalDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneId.systemDefault()));
+        response.setLastMinute(window(seconds.sum(now, seconds.size()), SECONDS_PER_MINUTE));
+        response.setLastHour(window(minutes.sum(now, minutes.size()), MINUTES_PER_HOUR * SECONDS_PER_MINUTE));
+        response.setOrdersCreatedPerSecond(seconds.createdPerPeriod(now, seconds.size()));
+        return response;
+    }
+
+    private static void record(RollingWindow.Bucket bucket, long revenueCents) {
+        bucket.created.increment();
+        bucket.revenueCents.add(revenueCents);
+    }
+
+    private static LiveOrderStatsResponse.Window window(RollingWindow.Totals totals, int windowSeconds) {
+        Map<OrderStatus, Long> transitions = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : STATUSES) {
+            transitions.put(status, totals.transitions[status.ordinal()]);
+        }
+        return new LiveOrderStatsResponse.Window(windowSeconds, totals.created,
+            BigDecimal.valueOf(totals.revenueCents, 2), (double) totals.created / windowSeconds, transitions);
+    }
+}
@@ -0,0 +1,126 @@
+package com.quantiphi.orderservice.stats;
+
+import com.quantiphi.orderservice.domain.OrderStatus;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ring of fixed-width time buckets holding order counters. Writers never lock:
+ * the bucket for the current period is found by index, and a bucket left over
+ * from a previous lap of the ring is replaced by a fresh one with a single
+ * compare-and-set. Counters are striped {@link LongAdder}s, so concurrent
+ * writers to the same bucket do not contend on one cache line.
+ */
+class RollingWindow {
+
+    private static final int STATUS_COUNT = OrderStatus.values().length;
+
+    private final long bucketMillis;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    RollingWindow(long bucketMillis, int bucketCount) {
+        this.bucketMillis = bucketMillis;
+        this.buckets = new AtomicReferenceArray<>(bucketCount);
+    }
+
+    /**
+     * Counters of one period. A bucket is only ever written during its own period.
+     */
+    static final class Bucket {
+
+        final long period;
+        final LongAdder created = new LongAdder();
+        final LongAdder revenueCents = new LongAdder();
+        final LongAdder[] transitions = new LongAdder[STATUS_COUNT];
+
+        private Bucket(long period) {
+            this.period = period;
+            for (int i = 0; i < STATUS_COUNT; i++) {
+                transitions[i] = new LongAdder();
+            }
+        }
+    }
+
+    /**
+     * Returns the bucket of the period containing a point in time, starting it if needed.
+     *
+     * @param nowMillis the time in epoch milliseconds
+     * @return the bucket to count into
+     */
+    Bucket bucketAt(long nowMillis) {
+        long period = nowMillis / bucketMillis;
+        int index = index(period);
+        Bucket bucket = buckets.get(index);
+        while (bucket == null || bucket.period < period) {
+            Bucket fresh = new Bucket(period);
+            if (buckets.compareAndSet(index, bucket, fresh)) {
+                return fresh;
+            }
+            bucket = buckets.get(index);
+        }
+        // A writer delayed past a whole lap of the ring counts into the newer period
+        return bucket;
+    }
+
+    /**
+     * Adds up the most recent periods, the current, still incomplete one included.
+     *
+     * @param nowMillis the time in epoch milliseconds
+     * @param periods how many periods to add up; at most the ring size
+     * @return the totals
+     */
+    Totals sum(long nowMillis, int periods) {
+        long current = nowMillis / bucketMillis;
+        Totals totals = new Totals();
+        for (long period = current - periods + 1; period <= current; period++) {
+            Bucket bucket = buckets.get(index(period));
+            if (bucket != null && bucket.period == period) {
+                totals.created += bucket.created.sum();
+                totals.revenueCents += bucket.revenueCents.sum();
+                for (int i = 0; i < STATUS_COUNT; i++) {
+                    totals.transitions[i] += bucket.transitions[i].sum();
+                }
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * Returns the orders created in each of the most recent periods, oldest first.
+     *
+     * @param nowMillis the time in epoch milliseconds
+     * @param periods how many periods to return; at most the ring size
+     * @return the created counts, the current period last
+     */
+    long[] createdPerPeriod(long nowMillis, int periods) {
+        long current = nowMillis / bucketMillis;
+        long[] created = new long[periods];
+        for (int i = 0; i < periods; i++) {
+            long period = current - periods + 1 + i;
+            Bucket bucket = buckets.get(index(period));
+            if (bucket != null && bucket.period == period) {
+                created[i] = bucket.created.sum();
+            }
+        }
+        return created;
+    }
+
+    int size() {
+        return buckets.length();
+    }
+
+    private int index(long period) {
+        return (int) Math.floorMod(period, (long) buckets.length());
+    }
+
+    /**
+     * Sums over a range of periods.
+     */
+    static final class Totals {
+
+        long created;
+        long revenueCents;
+        final long[] transitions = new long[STATUS_COUNT];
+    }
+}
@@ -0,0 +1,167 @@
+package com.quantiphi.orderservice.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.dto.CreateOrderRequest;
+import com.quantiphi.orderservice.dto.OrderItemRequest;
+import com.quantiphi.orderservice.dto.OrderResponse;
+import com.quantiphi.orderservice.repository.OrderRepository;
+import com.quantiphi.orderservice.service.OrderService;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs synthetic orders through the hot paths before the instance reports ready:
+ * request binding and validation, {@link OrderService#createOrder}, {@link OrderService#getOrder},
+ * {@link OrderService#updateOrderStatus} and serialization of the {@link OrderResponse}.
+ * <p>
+ * Spring Boot reports readiness only after all application runners have returned, so
+ * while this runs the readiness probe keeps the instance out of the load balancer. Each
+ * lifecycle runs in its own transaction that is rolled back, against the real schema and
+ * connection pool: statements are parsed and cached, connections are opened and the JIT
+ * compiles the code real requests run, yet no order is kept and no order event is
+ * delivered, since listeners only see committed changes. Stores that cannot roll back
+ * have the synthetic orders deleted instead. The warm-up never fails startup.
+ */
+@Component
+@EnableConfigurationProperties(WarmupProperties.class)
+public class OrderWarmup implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderWarmup.class);
+
+    private static final String CUSTOMER_PREFIX = "warmup-";
+
+    private final OrderService orderService;
+    private final OrderRepository orderRepository;
+    private final ObjectProvider<EntityManager> entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final WarmupProperties properties;
+    private final TransactionTemplate rolledBackTransaction;
+    private final AtomicInteger completedIterations = new AtomicInteger();
+
+    public OrderWarmup(OrderService orderService,
+                       OrderRepository orderRepository,
+                       ObjectProvider<EntityManager> entityManager,
+                       ObjectMapper objectMapper,
+                       Validator validator,
+                       WarmupProperties properties,
+                       PlatformTransactionManager transactionManager) {
+        this.orderService = orderService;
+        this.orderRepository = orderRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.properties = properties;
+        this.rolledBackTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long start = System.nanoTime();
+        long deadline = start + properties.getMaxDuration().toNanos();
+        int threads = Math.max(1, properties.getThreads());
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "order-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            AtomicInteger started = new AtomicInteger();
+            List<Future<?>> workers = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                workers.add(executor.submit(() -> {
+                    int iteration;
+                    while ((iteration = started.getAndIncrement()) < properties.getIterations()
+                            && System.nanoTime() < deadline) {
+                        runLifecycle(iteration);
+                        completedIterations.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get(Math.max(0, deadline - System.nanoTime()) + TimeUnit.SECONDS.toNanos(5), TimeUnit.NANOSECONDS);
+            }
+            log.info("Warm-up ran {} order lifecycles on {} threads in {} ms", completedIterations.get(), threads,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Warm-up stopped after {} order lifecycles; accepting traffic anyway",
+                completedIterations.get(), e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the number of synthetic order lifecycles run so far.
+     *
+     * @return the completed iterations
+     */
+    public int getCompletedIterations() {
+        return completedIterations.get();
+    }
+
+    private void runLifecycle(int iteration) throws IOException {
+        CreateOrderRequest request = objectMapper.readValue(
+            objectMapper.writeValueAsBytes(syntheticRequest(iteration)), CreateOrderRequest.class);
+        Set<ConstraintViolation<CreateOrderRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException("Synthetic warm-up order is invalid: " + violations);
+        }
+        OrderResponse updated = rolledBackTransaction.execute(status -> {
+            status.setRollbackOnly();
+            OrderResponse created = orderService.createOrder(request);
+            // Written and evicted, so the read below goes to the database
+            detach(status);
+            orderService.getOrder(created.getId());
+            OrderResponse response = orderService.updateOrderStatus(created.getId(), OrderStatus.PROCESSING);
+            status.flush();
+            return response;
+        });
+        objectMapper.writeValueAsBytes(updated);
+        if (orderRepository.existsById(updated.getId())) {
+            orderRepository.deleteById(updated.getId());
+        }
+    }
+
+    private void detach(TransactionStatus status) {
+        status.flush();
+        entityManager.ifAvailable(EntityManager::clear);
+    }
+
+    private CreateOrderRequest syntheticRequest(int iteration) {
+        List<OrderItemRequest> items = new ArrayList<>(properties.getItemsPerOrder());
+        for (int i = 0; i < properties.getItemsPerOrder(); i++) {
+            items.add(new OrderItemRequest("WARMUP-" + (iteration + i) % 64, 1 + i % 3, BigDecimal.valueOf(9.99)));
+        }
+        return new CreateOrderRequest(CUSTOMER_PREFIX + iteration % 16, items);
+    }
+}
@@ -0,0 +1,67 @@
+package com.quantiphi.orderservice.warmup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for exercising the order hot paths before the instance reports ready.
+ */
+@ConfigurationProperties(prefix = "orders.warmup")
+public class WarmupProperties {
+
+    /** Whether readiness is held back until the warm-up has run. */
+    private boolean enabled = false;
+
+    /** Number of synthetic order lifecycles to run, across all threads. */
+    private int iterations = 2000;
+
+    /** Number of threads running lifecycles concurrently, each with its own connection. */
+    private int threads = 4;
+
+    /** Items in each synthetic order. */
+    private int itemsPerOrder = 5;
+
+    /** Upper bound on the warm-up; the instance reports ready once it has passed, warm or not. */
+    private Duration maxDuration = Duration.ofSeconds(60);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public void setIterations(int iterations) {
+        this.iterations = iterations;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getItemsPerOrder() {
+        return itemsPerOrder;
+    }
+
+    public void setItemsPerOrder(int itemsPerOrder) {
+        this.itemsPerOrder = itemsPerOrder;
+    }
+
+    public Duration getMaxDuration() {
+        return maxDuration;
+    }
+
+    public void setMaxDuration(Duration maxDuration) {
+        this.maxDuration = maxDuration;
+    }
+}
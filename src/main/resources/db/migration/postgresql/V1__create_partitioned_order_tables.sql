@@ -0,0 +1,40 @@
+-- Orders and their items, range-partitioned by creation month.
+--
+-- Order IDs are Snowflake IDs whose top bits count milliseconds since 2024-01-01 UTC, so the
+-- orders created in a month form one contiguous ID range. Partitioning orders by id on month
+-- boundaries is partitioning by creation month, without created_at in the primary key: lookups
+-- and updates by ID are pruned to a single partition. Items are partitioned by order_id on the
+-- same boundaries, so an order and its items always sit in partitions of the same month and
+-- item lookups by order ID are pruned too.
+--
+-- Partitions are named <table>_pYYYY_MM and created ahead of time by OrderPartitionMaintenance
+-- (orders.partitioning), which also detaches old ones. There is deliberately no default
+-- partition: it would have to be scanned whenever a partition is added.
+
+CREATE TABLE orders (
+    id          BIGINT         NOT NULL,
+    customer_id VARCHAR(255)   NOT NULL,
+    total_price NUMERIC(10, 2) NOT NULL,
+    status      VARCHAR(255)   NOT NULL
+        CHECK (status IN ('CREATED', 'PROCESSING', 'COMPLETED', 'CANCELLED')),
+    created_at  TIMESTAMP(6)   NOT NULL,
+    updated_at  TIMESTAMP(6)   NOT NULL,
+    version     BIGINT,
+    PRIMARY KEY (id)
+) PARTITION BY RANGE (id);
+
+CREATE INDEX idx_orders_customer_status ON orders (customer_id, status);
+CREATE INDEX idx_orders_status_updated_at ON orders (status, updated_at);
+
+-- The primary key of a partitioned table must contain the partition key; item IDs are
+-- Snowflake IDs and unique on their own.
+CREATE TABLE order_items (
+    id         BIGINT         NOT NULL,
+    order_id   BIGINT         NOT NULL REFERENCES orders (id),
+    product_id VARCHAR(255)   NOT NULL,
+    quantity   INTEGER        NOT NULL,
+    price      NUMERIC(10, 2) NOT NULL,
+    PRIMARY KEY (order_id, id)
+) PARTITION BY RANGE (order_id);
+
+CREATE INDEX idx_order_items_product ON order_items (product_id);
@@ -0,0 +1,97 @@
+package com.quantiphi.orderservice.admission;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionControlFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private GradientConcurrencyLimiter limiter;
+    private AdmissionControlFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        AdmissionControlProperties properties = new AdmissionControlProperties();
+        properties.setInitialLimit(2);
+        properties.setMinLimit(2);
+        properties.setRetryAfter(Duration.ofSeconds(3));
+        limiter = new GradientConcurrencyLimiter(properties);
+        filter = new AdmissionControlFilter(limiter, properties, objectMapper);
+    }
+
+    @Test
+    void doFilter_PermitsSaturated_Returns503WithRetryAfter() throws Exception {
+        // Arrange
+        assertTrue(limiter.tryAcquire(true));
+        assertTrue(limiter.tryAcquire(true));
+        MockFilterChain writeChain = new MockFilterChain();
+        MockFilterChain readChain = new MockFilterChain();
+
+        // Act
+        MockHttpServletResponse write = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/orders"), write, writeChain);
+        MockHttpServletResponse read = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/orders/1"), read, readChain);
+
+        // Assert
+        assertEquals(503, write.getStatus());
+        assertEquals("3", write.getHeader("Retry-After"));
+        JsonNode body = objectMapper.readTree(write.getContentAsString());
+        assertEquals(503, body.get("status").asInt());
+        assertEquals("/api/v1/orders", body.get("path").asText());
+        assertNull(writeChain.getRequest());
+        assertEquals(503, read.getStatus());
+        assertEquals("3", read.getHeader("Retry-After"));
+        assertNull(readChain.getRequest());
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(2, limiter.getRejectedCount());
+    }
+
+    @Test
+    void doFilter_OnlyPriorityCapacityLeft_RejectsMultiGetButAdmitsCreate() throws Exception {
+        // Arrange
+        assertTrue(limiter.tryAcquire(false));
+        MockFilterChain multiGetChain = new MockFilterChain();
+        MockFilterChain createChain = new MockFilterChain();
+
+        // Act
+        MockHttpServletResponse multiGet = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/orders/_mget"), multiGet, multiGetChain);
+        MockHttpServletResponse create = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/orders"), create, createChain);
+
+        // Assert
+        assertEquals(503, multiGet.getStatus());
+        assertEquals("3", multiGet.getHeader("Retry-After"));
+        assertNull(multiGetChain.getRequest());
+        assertEquals(200, create.getStatus());
+        assertNotNull(createChain.getRequest());
+    }
+
+    @Test
+    void doFilter_PermitAvailable_AdmitsAndReleases() throws Exception {
+        // Arrange
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/orders/1"), response, chain);
+
+        // Assert
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+        assertNull(response.getHeader("Retry-After"));
+        assertEquals(0, limiter.getInFlight());
+    }
+}
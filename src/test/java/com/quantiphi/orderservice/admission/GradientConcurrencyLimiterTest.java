@@ -0,0 +1,59 @@
+package com.quantiphi.orderservice.admission;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GradientConcurrencyLimiterTest {
+
+    @Test
+    void tryAcquire_ReadsSaturated_StillAdmitsWrites() {
+        // Arrange
+        AdmissionControlProperties properties = new AdmissionControlProperties();
+        properties.setInitialLimit(10);
+        properties.setReadShare(0.5);
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(properties);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire(false));
+        }
+
+        // Assert
+        assertFalse(limiter.tryAcquire(false));
+        assertTrue(limiter.tryAcquire(true));
+        assertEquals(6, limiter.getInFlight());
+        assertEquals(1, limiter.getRejectedCount());
+    }
+
+    @Test
+    void release_LatencyRisesUnderLoad_ShrinksLimit() {
+        // Arrange
+        AdmissionControlProperties properties = new AdmissionControlProperties();
+        properties.setInitialLimit(100);
+        properties.setMinLimit(10);
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(properties);
+        saturate(limiter, 100, 1_000_000L, 200);
+        int steadyLimit = limiter.getLimit();
+
+        // Act
+        saturate(limiter, steadyLimit, 20_000_000L, 3);
+
+        // Assert
+        assertTrue(limiter.getLimit() < steadyLimit,
+            "limit should shrink from " + steadyLimit + " but was " + limiter.getLimit());
+        assertTrue(limiter.getLimit() >= properties.getMinLimit());
+    }
+
+    private static void saturate(GradientConcurrencyLimiter limiter, int concurrency, long rttNanos, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            int admitted = 0;
+            while (admitted < concurrency && limiter.tryAcquire(true)) {
+                admitted++;
+            }
+            for (int i = 0; i < admitted; i++) {
+                limiter.release(rttNanos);
+            }
+        }
+    }
+}
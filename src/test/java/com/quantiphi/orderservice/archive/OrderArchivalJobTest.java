@@ -0,0 +1,132 @@
+package com.quantiphi.orderservice.archive;
+
+import com.quantiphi.orderservice.domain.Order;
+import com.quantiphi.orderservice.event.OrdersArchivedEvent;
+import com.quantiphi.orderservice.repository.OrderRepository;
+import com.quantiphi.orderservice.shard.OrderShards;
+import com.quantiphi.orderservice.shard.ShardingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderArchivalJobTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2026, 9, 1, 0, 0);
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderArchive orderArchive;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TransactionStatus transaction;
+
+    private OrderArchivalJob job;
+
+    @BeforeEach
+    void setUp() {
+        ArchiveProperties properties = new ArchiveProperties();
+        properties.setSegmentSize(2);
+        when(transactionManager.getTransaction(any())).thenReturn(transaction);
+        job = new OrderArchivalJob(orderRepository, orderArchive, new OrderShards(new ShardingProperties(), null),
+            properties, eventPublisher, transactionManager);
+    }
+
+    @Test
+    void archiveOrdersUpdatedBefore_MoreThanOneSegment_ArchivesInBatchesUntilShortBatch() {
+        // Arrange
+        when(orderRepository.findIdsByStatusInAndUpdatedAtBefore(anyCollection(), eq(CUTOFF), anyLong(),
+                eq(PageRequest.of(0, 2))))
+            .thenReturn(List.of(1L, 2L))
+            .thenReturn(List.of(3L, 4L))
+            .thenReturn(List.of(5L));
+        when(orderRepository.findAllWithItemsByIdIn(anyCollection()))
+            .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).stream().map(OrderArchivalJobTest::order).toList());
+
+        // Act
+        int archived = job.archiveOrdersUpdatedBefore(CUTOFF);
+
+        // Assert
+        assertEquals(5, archived);
+        verify(orderArchive, times(3)).append(anyList());
+        verify(orderRepository).deleteAllByIdIn(List.of(1L, 2L));
+        verify(orderRepository).deleteAllByIdIn(List.of(3L, 4L));
+        verify(orderRepository).deleteAllByIdIn(List.of(5L));
+        verify(transactionManager, times(3)).commit(transaction);
+        verify(eventPublisher, times(3)).publishEvent(any(OrdersArchivedEvent.class));
+    }
+
+    @Test
+    void archiveOrdersUpdatedBefore_DeletesOnlyAfterTheSegmentIsWritten() {
+        // Arrange
+        when(orderRepository.findIdsByStatusInAndUpdatedAtBefore(anyCollection(), eq(CUTOFF), anyLong(), any()))
+            .thenReturn(List.of(1L));
+        List<Order> orders = List.of(order(1L));
+        when(orderRepository.findAllWithItemsByIdIn(List.of(1L))).thenReturn(orders);
+
+        // Act
+        job.archiveOrdersUpdatedBefore(CUTOFF);
+
+        // Assert
+        InOrder inOrder = inOrder(orderArchive, orderRepository, transactionManager);
+        inOrder.verify(orderArchive).append(orders);
+        inOrder.verify(orderRepository).deleteItemsByOrderIdIn(List.of(1L));
+        inOrder.verify(orderRepository).deleteAllByIdIn(List.of(1L));
+        inOrder.verify(transactionManager).commit(transaction);
+    }
+
+    @Test
+    void archiveOrdersUpdatedBefore_SegmentWriteFailsMidRun_KeepsThatBatchInTheDatabase() {
+        // Arrange
+        when(orderRepository.findIdsByStatusInAndUpdatedAtBefore(anyCollection(), eq(CUTOFF), anyLong(), any()))
+            .thenReturn(List.of(1L, 2L))
+            .thenReturn(List.of(3L, 4L));
+        when(orderRepository.findAllWithItemsByIdIn(anyCollection()))
+            .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).stream().map(OrderArchivalJobTest::order).toList());
+        doNothing()
+            .doThrow(new UncheckedIOException("disk full", new IOException("disk full")))
+            .when(orderArchive).append(anyList());
+
+        // Act & Assert
+        assertThrows(UncheckedIOException.class, () -> job.archiveOrdersUpdatedBefore(CUTOFF));
+        verify(orderRepository).deleteAllByIdIn(List.of(1L, 2L));
+        verify(orderRepository, never()).deleteItemsByOrderIdIn(List.of(3L, 4L));
+        verify(orderRepository, never()).deleteAllByIdIn(List.of(3L, 4L));
+        verify(transactionManager).commit(transaction);
+        verify(transactionManager).rollback(transaction);
+        verify(eventPublisher, times(1)).publishEvent(any(OrdersArchivedEvent.class));
+    }
+
+    private static Order order(Long id) {
+        Order order = new Order("customer-" + id);
+        order.assignIdentity(id, 0L, () -> 0L);
+        return order;
+    }
+}
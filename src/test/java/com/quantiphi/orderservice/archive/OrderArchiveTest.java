@@ -0,0 +1,140 @@
+package com.quantiphi.orderservice.archive;
+
+import com.quantiphi.orderservice.domain.Order;
+import com.quantiphi.orderservice.domain.OrderItem;
+import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.dto.OrderResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderArchiveTest {
+
+    @TempDir
+    Path directory;
+
+    private ArchiveProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ArchiveProperties();
+        properties.setDirectory(directory.toString());
+    }
+
+    @Test
+    void find_AfterAppend_ReturnsArchivedOrderWithItems() {
+        // Arrange
+        OrderArchive archive = new OrderArchive(properties);
+        archive.loadIndex();
+        Order completed = order(300L, "customer-1", OrderStatus.COMPLETED,
+            new OrderItem("A1", 2, new BigDecimal("10.50")), new OrderItem("B2", 1, new BigDecimal("3.00")));
+        Order cancelled = order(100L, "customer-2", OrderStatus.CANCELLED,
+            new OrderItem("A1", 4, new BigDecimal("10.50")));
+
+        // Act
+        archive.append(List.of(completed, cancelled));
+        Optional<OrderResponse> found = archive.find(300L);
+
+        // Assert
+        assertTrue(found.isPresent());
+        OrderResponse response = found.get();
+        assertEquals("customer-1", response.getCustomerId());
+        assertEquals(OrderStatus.COMPLETED, response.getStatus());
+        assertEquals(new BigDecimal("24.00"), response.getTotalPrice());
+        assertEquals(completed.getCreatedAt(), response.getCreatedAt());
+        assertEquals(2, response.getItems().size());
+        assertEquals("B2", response.getItems().get(1).getProductId());
+        assertEquals(new BigDecimal("21.00"), response.getItems().get(0).getSubtotal());
+        assertEquals(OrderStatus.CANCELLED, archive.find(100L).orElseThrow().getStatus());
+    }
+
+    @Test
+    void find_IdInsideRangeButNotArchived_ReturnsEmpty() {
+        // Arrange
+        OrderArchive archive = new OrderArchive(properties);
+        archive.append(List.of(order(100L, "customer-1", OrderStatus.COMPLETED),
+            order(300L, "customer-1", OrderStatus.COMPLETED)));
+
+        // Act & Assert
+        assertTrue(archive.find(200L).isEmpty());
+        assertTrue(archive.find(400L).isEmpty());
+    }
+
+    @Test
+    void loadIndex_ExistingSegments_AreFoundAfterRestart() {
+        // Arrange
+        new OrderArchive(properties).append(List.of(order(7L, "customer-1", OrderStatus.COMPLETED)));
+        OrderArchive reopened = new OrderArchive(properties);
+
+        // Act
+        reopened.loadIndex();
+
+        // Assert
+        assertEquals(1, reopened.getSegmentCount());
+        assertEquals("customer-1", reopened.find(7L).orElseThrow().getCustomerId());
+    }
+
+    @Test
+    void find_OverlappingSegments_FindsEachOrder() {
+        // Arrange
+        OrderArchive archive = new OrderArchive(properties);
+        archive.append(List.of(order(100L, "customer-1", OrderStatus.COMPLETED),
+            order(500L, "customer-1", OrderStatus.COMPLETED)));
+        archive.append(List.of(order(200L, "customer-2", OrderStatus.CANCELLED),
+            order(300L, "customer-2", OrderStatus.CANCELLED)));
+        archive.append(List.of(order(50L, "customer-3", OrderStatus.COMPLETED),
+            order(150L, "customer-3", OrderStatus.COMPLETED)));
+
+        // Act & Assert
+        assertEquals("customer-1", archive.find(500L).orElseThrow().getCustomerId());
+        assertEquals("customer-2", archive.find(300L).orElseThrow().getCustomerId());
+        assertEquals("customer-3", archive.find(150L).orElseThrow().getCustomerId());
+        assertEquals("customer-3", archive.find(50L).orElseThrow().getCustomerId());
+        assertTrue(archive.find(250L).isEmpty());
+        assertTrue(archive.find(10L).isEmpty());
+        assertTrue(archive.find(600L).isEmpty());
+    }
+
+    @Test
+    void find_IdInsideRangeButNotArchived_DecodesNoSegment() throws IOException {
+        // Arrange
+        OrderArchive archive = new OrderArchive(properties);
+        archive.append(List.of(order(100L, "customer-1", OrderStatus.COMPLETED),
+            order(300L, "customer-1", OrderStatus.COMPLETED)));
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+
+        // Act & Assert
+        assertTrue(archive.find(200L).isEmpty());
+        assertThrows(UncheckedIOException.class, () -> archive.find(300L));
+    }
+
+    private static Order order(Long id, String customerId, OrderStatus status, OrderItem... items) {
+        Order order = new Order(customerId);
+        for (OrderItem item : items) {
+            order.addItem(item);
+        }
+        if (status == OrderStatus.COMPLETED) {
+            order.updateStatus(OrderStatus.PROCESSING);
+        }
+        order.updateStatus(status);
+        ReflectionTestUtils.setField(order, "id", id);
+        ReflectionTestUtils.setField(order, "version", 3L);
+        return order;
+    }
+}
@@ -0,0 +1,133 @@
+package com.quantiphi.orderservice.benchmark;
+
+import com.quantiphi.orderservice.OrderProcessingApplication;
+import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.dto.CreateOrderRequest;
+import com.quantiphi.orderservice.dto.OrderItemRequest;
+import com.quantiphi.orderservice.service.OrderService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency and response size of order reads over the embedded server, with HTTP/2,
+ * response compression and the serialized terminal-order cache all on or all off.
+ * The large order is a completed B2B order with thousands of items; the small
+ * request is a conditional poll of an open order answered with 304.
+ * The {@code bytes} and {@code requests} counters give the body size received per
+ * request; savings from HTTP/2 header compression are not visible to the client API
+ * and not counted.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class HttpCompressionBenchmark {
+
+    private static final int LARGE_ORDER_ITEMS = 5_000;
+
+    @Param({"true", "false"})
+    public boolean optimized;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private URI largeOrder;
+    private URI smallOrder;
+    private String smallOrderETag;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Transfer {
+        public long bytes;
+        public long requests;
+    }
+
+    @Setup(Level.Trial)
+    public void startService() throws Exception {
+        // Passed as command-line arguments so that they override application.yml
+        List<String> args = new ArrayList<>();
+        args.add("--server.port=0");
+        args.add("--server.http2.enabled=" + optimized);
+        args.add("--server.compression.enabled=" + optimized);
+        args.add("--orders.cache.serialized.enabled=" + optimized);
+        args.add("--orders.admission.enabled=false");
+        args.add("--orders.rate-limit.enabled=false");
+        args.add("--logging.level.root=WARN");
+        context = new SpringApplicationBuilder(OrderProcessingApplication.class)
+            .run(args.toArray(String[]::new));
+        OrderService orderService = context.getBean(OrderService.class);
+        String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+            + "/api/v1/orders/";
+
+        List<OrderItemRequest> items = new ArrayList<>(LARGE_ORDER_ITEMS);
+        for (int i = 0; i < LARGE_ORDER_ITEMS; i++) {
+            items.add(new OrderItemRequest("SKU-" + (100_000 + i), 1 + i % 10, BigDecimal.valueOf(12.75)));
+        }
+        Long largeId = orderService.createOrder(new CreateOrderRequest("customer-b2b", items)).getId();
+        orderService.updateOrderStatus(largeId, OrderStatus.PROCESSING);
+        orderService.updateOrderStatus(largeId, OrderStatus.COMPLETED);
+        largeOrder = URI.create(baseUrl + largeId);
+
+        Long smallId = orderService.createOrder(new CreateOrderRequest("customer-poll", List.of(
+            new OrderItemRequest("SKU-1", 1, BigDecimal.valueOf(5.00))))).getId();
+        smallOrder = URI.create(baseUrl + smallId);
+
+        client = HttpClient.newBuilder()
+            .version(optimized ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+            .build();
+        smallOrderETag = send(HttpRequest.newBuilder(smallOrder)).headers().firstValue("ETag").orElseThrow();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopService() {
+        context.close();
+    }
+
+    @Benchmark
+    public int getLargeCompletedOrder(Transfer transfer) throws Exception {
+        HttpResponse<byte[]> response = send(HttpRequest.newBuilder(largeOrder).header("Accept-Encoding", "gzip"));
+        transfer.bytes += response.body().length;
+        transfer.requests++;
+        return response.statusCode();
+    }
+
+    @Benchmark
+    public int pollUnchangedSmallOrder(Transfer transfer) throws Exception {
+        HttpResponse<byte[]> response = send(HttpRequest.newBuilder(smallOrder)
+            .header("Accept-Encoding", "gzip")
+            .header("If-None-Match", smallOrderETag));
+        transfer.bytes += response.body().length;
+        transfer.requests++;
+        return response.statusCode();
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest.Builder request) throws Exception {
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
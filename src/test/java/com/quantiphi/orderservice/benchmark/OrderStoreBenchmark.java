@@ -0,0 +1,99 @@
+package com.quantiphi.orderservice.benchmark;
+
+import com.quantiphi.orderservice.OrderProcessingApplication;
+import com.quantiphi.orderservice.dto.CreateOrderRequest;
+import com.quantiphi.orderservice.dto.OrderItemRequest;
+import com.quantiphi.orderservice.service.OrderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order creation and reads through {@link OrderService} on the JPA store (H2) and on
+ * the in-memory store. The in-memory run is what the service, events, indexes and
+ * DTO mapping cost on their own; the difference to the JPA run is the persistence cost.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class OrderStoreBenchmark {
+
+    private static final int PRELOADED_ORDERS = 5_000;
+    private static final int ITEMS_PER_ORDER = 5;
+
+    @Param({"jpa", "in-memory"})
+    public String store;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private long[] orderIds;
+
+    @Setup(Level.Trial)
+    public void startService() {
+        // Passed as command-line arguments so that they override application.yml
+        List<String> args = new ArrayList<>();
+        if (store.equals("in-memory")) {
+            args.add("--spring.profiles.active=in-memory");
+        }
+        args.add("--orders.rate-limit.enabled=false");
+        args.add("--logging.level.root=WARN");
+        context = new SpringApplicationBuilder(OrderProcessingApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(args.toArray(String[]::new));
+        orderService = context.getBean(OrderService.class);
+
+        List<Long> ids = new ArrayList<>(PRELOADED_ORDERS);
+        for (int i = 0; i < PRELOADED_ORDERS; i++) {
+            ids.add(orderService.createOrder(newOrder()).getId());
+        }
+        orderIds = ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopService() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object createOrder() {
+        return orderService.createOrder(newOrder());
+    }
+
+    @Benchmark
+    public Object getOrder() {
+        return orderService.getOrder(orderIds[ThreadLocalRandom.current().nextInt(orderIds.length)]);
+    }
+
+    private static CreateOrderRequest newOrder() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<OrderItemRequest> items = new ArrayList<>(ITEMS_PER_ORDER);
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            items.add(new OrderItemRequest("PROD-" + random.nextInt(500), 1 + random.nextInt(3), BigDecimal.valueOf(9.99)));
+        }
+        return new CreateOrderRequest("customer-" + random.nextInt(1_000), items);
+    }
+}
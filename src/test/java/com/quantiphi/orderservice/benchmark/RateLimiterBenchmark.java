@@ -0,0 +1,76 @@
+package com.quantiphi.orderservice.benchmark;
+
+import com.quantiphi.orderservice.exception.RateLimitExceededException;
+import com.quantiphi.orderservice.ratelimit.OrderRateLimiter;
+import com.quantiphi.orderservice.ratelimit.RateLimitProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limit decisions on order creation per second, across 8 threads; the target
+ * is a small fraction of one core at 50k requests per second.
+ * With {@code admitted} the tier is generous enough that every request passes;
+ * otherwise each customer gets one request per second, so nearly every call is a
+ * rejection, which is what a client in a tight loop costs. {@code customers=1}
+ * puts all threads on the same bucket, the worst case for contention.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+    @Param({"1", "10000", "1000000"})
+    public int customers;
+
+    @Param({"true", "false"})
+    public boolean admitted;
+
+    private OrderRateLimiter rateLimiter;
+    private String[] customerIds;
+
+    @Setup(Level.Trial)
+    public void createLimiter() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getTiers().put("standard", admitted
+            ? new RateLimitProperties.Tier(1e9, 1_000_000)
+            : new RateLimitProperties.Tier(1, 1));
+        rateLimiter = new OrderRateLimiter(properties);
+        customerIds = new String[customers];
+        for (int i = 0; i < customers; i++) {
+            customerIds[i] = "customer-" + i;
+            try {
+                rateLimiter.acquireCreate(customerIds[i]);
+            } catch (RateLimitExceededException e) {
+                // Bucket created; nothing else to prepare
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean acquireCreate() {
+        try {
+            rateLimiter.acquireCreate(customerIds[ThreadLocalRandom.current().nextInt(customers)]);
+            return true;
+        } catch (RateLimitExceededException e) {
+            return false;
+        }
+    }
+}
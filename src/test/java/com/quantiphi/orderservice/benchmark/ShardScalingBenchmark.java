@@ -0,0 +1,97 @@
+package com.quantiphi.orderservice.benchmark;
+
+import com.quantiphi.orderservice.OrderProcessingApplication;
+import com.quantiphi.orderservice.dto.CreateOrderRequest;
+import com.quantiphi.orderservice.dto.OrderItemRequest;
+import com.quantiphi.orderservice.service.OrderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order throughput against 1, 2, 4 and 8 shards, each an in-memory H2 database.
+ * All shards share this machine, so the numbers show the routing overhead and the
+ * relief from per-database contention rather than the gain from separate hosts.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class ShardScalingBenchmark {
+
+    private static final int CUSTOMERS = 10_000;
+    private static final int PRELOADED_ORDERS = 20_000;
+
+    @Param({"1", "2", "4", "8"})
+    public int shards;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private long[] orderIds;
+
+    @Setup(Level.Trial)
+    public void startService() {
+        // Passed as command-line arguments so that they override application.yml
+        List<String> args = new ArrayList<>();
+        args.add("--orders.sharding.enabled=true");
+        for (int i = 0; i < shards; i++) {
+            args.add("--orders.sharding.shards[" + i + "].url=jdbc:h2:mem:bench-shard-" + i);
+        }
+        args.add("--logging.level.root=WARN");
+        context = new SpringApplicationBuilder(OrderProcessingApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(args.toArray(String[]::new));
+        orderService = context.getBean(OrderService.class);
+
+        List<Long> ids = new ArrayList<>(PRELOADED_ORDERS);
+        for (int i = 0; i < PRELOADED_ORDERS; i++) {
+            ids.add(orderService.createOrder(newOrder()).getId());
+        }
+        orderIds = ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopService() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object createOrder() {
+        return orderService.createOrder(newOrder());
+    }
+
+    @Benchmark
+    public Object getOrder() {
+        return orderService.getOrder(orderIds[ThreadLocalRandom.current().nextInt(orderIds.length)]);
+    }
+
+    private static CreateOrderRequest newOrder() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new CreateOrderRequest("customer-" + random.nextInt(CUSTOMERS), List.of(
+            new OrderItemRequest("PROD-" + random.nextInt(500), 1 + random.nextInt(3), BigDecimal.valueOf(9.99)),
+            new OrderItemRequest("PROD-" + random.nextInt(500), 1, BigDecimal.valueOf(24.50))));
+    }
+}
@@ -0,0 +1,66 @@
+package com.quantiphi.orderservice.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.DatagramSocket;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvalidationTransportTest {
+
+    @Test
+    void loopback_Publish_ReachesOtherReplicasOnly() {
+        // Arrange
+        BlockingQueue<Long> first = new LinkedBlockingQueue<>();
+        BlockingQueue<Long> second = new LinkedBlockingQueue<>();
+        LoopbackInvalidationTransport publisher = new LoopbackInvalidationTransport();
+        LoopbackInvalidationTransport replica = new LoopbackInvalidationTransport();
+        publisher.start(first::add);
+        replica.start(second::add);
+
+        try {
+            // Act
+            publisher.publish(42L);
+
+            // Assert
+            assertEquals(42L, second.poll());
+            assertTrue(first.isEmpty());
+        } finally {
+            publisher.stop();
+            replica.stop();
+        }
+    }
+
+    @Test
+    void multicast_Publish_ReachesOtherReplicasOnly() throws Exception {
+        // Arrange
+        CacheInvalidationProperties.Multicast properties = new CacheInvalidationProperties.Multicast();
+        properties.setInterfaceName("lo");
+        try (DatagramSocket socket = new DatagramSocket(0)) {
+            properties.setPort(socket.getLocalPort());
+        }
+        BlockingQueue<Long> first = new LinkedBlockingQueue<>();
+        BlockingQueue<Long> second = new LinkedBlockingQueue<>();
+        MulticastInvalidationTransport publisher = new MulticastInvalidationTransport(properties);
+        MulticastInvalidationTransport replica = new MulticastInvalidationTransport(properties);
+        publisher.start(first::add);
+        replica.start(second::add);
+
+        try {
+            // Act
+            publisher.publish(42L);
+            publisher.publish(Long.MAX_VALUE);
+
+            // Assert
+            assertEquals(42L, second.poll(5, TimeUnit.SECONDS));
+            assertEquals(Long.MAX_VALUE, second.poll(5, TimeUnit.SECONDS));
+            assertNull(first.poll(100, TimeUnit.MILLISECONDS));
+        } finally {
+            publisher.stop();
+            replica.stop();
+        }
+    }
+}
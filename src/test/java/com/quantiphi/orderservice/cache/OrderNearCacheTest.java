@@ -0,0 +1,103 @@
+package com.quantiphi.orderservice.cache;
+
+import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.dto.OrderResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderNearCacheTest {
+
+    private NearCacheProperties properties;
+    private OrderNearCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new NearCacheProperties();
+        cache = new OrderNearCache(properties);
+    }
+
+    @Test
+    void get_AfterPut_ReturnsCachedResponse() {
+        // Arrange
+        OrderResponse response = order(1L, OrderStatus.CREATED);
+
+        // Act
+        cache.put(response, cache.startLoad());
+
+        // Assert
+        assertSame(response, cache.get(1L).orElseThrow());
+        assertTrue(cache.get(2L).isEmpty());
+    }
+
+    @Test
+    void put_InvalidatedWhileLoading_IsRefused() {
+        // Arrange
+        cache.put(order(1L, OrderStatus.CREATED), cache.startLoad());
+        long staleLoad = cache.startLoad();
+
+        // Act
+        cache.invalidate(1L);
+        cache.put(order(1L, OrderStatus.CREATED), staleLoad);
+
+        // Assert
+        assertTrue(cache.get(1L).isEmpty());
+        cache.put(order(1L, OrderStatus.PROCESSING), cache.startLoad());
+        assertEquals(OrderStatus.PROCESSING, cache.get(1L).orElseThrow().getStatus());
+    }
+
+    @Test
+    void put_BeyondMaxEntries_EvictsLeastRecentlyUsed() {
+        // Arrange
+        properties.setMaxEntries(2);
+        cache = new OrderNearCache(properties);
+        cache.put(order(1L, OrderStatus.CREATED), cache.startLoad());
+        cache.put(order(2L, OrderStatus.CREATED), cache.startLoad());
+        cache.get(1L);
+
+        // Act
+        cache.put(order(3L, OrderStatus.CREATED), cache.startLoad());
+
+        // Assert
+        assertEquals(2, cache.size());
+        assertTrue(cache.get(1L).isPresent());
+        assertTrue(cache.get(2L).isEmpty());
+    }
+
+    @Test
+    void get_AfterTimeToLive_ReturnsEmpty() {
+        // Arrange
+        properties.setTimeToLive(Duration.ZERO);
+        cache = new OrderNearCache(properties);
+
+        // Act
+        cache.put(order(1L, OrderStatus.CREATED), cache.startLoad());
+
+        // Assert
+        assertTrue(cache.get(1L).isEmpty());
+    }
+
+    @Test
+    void put_Disabled_CachesNothing() {
+        // Arrange
+        properties.setEnabled(false);
+
+        // Act
+        cache.put(order(1L, OrderStatus.CREATED), cache.startLoad());
+
+        // Assert
+        assertTrue(cache.get(1L).isEmpty());
+        assertEquals(0, cache.size());
+    }
+
+    private static OrderResponse order(Long id, OrderStatus status) {
+        OrderResponse response = new OrderResponse();
+        response.setId(id);
+        response.setStatus(status);
+        response.setVersion(0L);
+        return response;
+    }
+}
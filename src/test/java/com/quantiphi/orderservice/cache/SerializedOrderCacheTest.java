@@ -0,0 +1,145 @@
+package com.quantiphi.orderservice.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.dto.OrderItemResponse;
+import com.quantiphi.orderservice.dto.OrderResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SerializedOrderCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private SerializedOrderCacheProperties properties;
+    private SerializedOrderCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SerializedOrderCacheProperties();
+        cache = new SerializedOrderCache(objectMapper, properties);
+    }
+
+    @Test
+    void putIfTerminal_LargeCompletedOrder_StoresGzippedJson() throws Exception {
+        // Arrange
+        OrderResponse response = order(1L, OrderStatus.COMPLETED, 200);
+
+        // Act
+        cache.putIfTerminal(response);
+
+        // Assert
+        SerializedOrderCache.CachedResponse cached = cache.get(1L).orElseThrow();
+        assertTrue(cached.gzipped());
+        assertEquals(2L, cached.version());
+        assertTrue(cached.body().isDirect());
+        byte[] body = bytes(cached.body());
+        byte[] json = new GZIPInputStream(new ByteArrayInputStream(body)).readAllBytes();
+        assertArrayEquals(objectMapper.writeValueAsBytes(response), json);
+        assertTrue(body.length < json.length);
+    }
+
+    @Test
+    void putIfTerminal_SmallCancelledOrder_StoresPlainJson() throws Exception {
+        // Arrange
+        OrderResponse response = order(1L, OrderStatus.CANCELLED, 1);
+
+        // Act
+        cache.putIfTerminal(response);
+
+        // Assert
+        SerializedOrderCache.CachedResponse cached = cache.get(1L).orElseThrow();
+        assertFalse(cached.gzipped());
+        assertArrayEquals(objectMapper.writeValueAsBytes(response), bytes(cached.body()));
+    }
+
+    @Test
+    void get_ConsumedBody_DoesNotAffectLaterReads() throws Exception {
+        // Arrange
+        OrderResponse response = order(1L, OrderStatus.COMPLETED, 1);
+        cache.putIfTerminal(response);
+
+        // Act
+        bytes(cache.get(1L).orElseThrow().body());
+        ByteBuffer body = cache.get(1L).orElseThrow().body();
+
+        // Assert
+        assertArrayEquals(objectMapper.writeValueAsBytes(response), bytes(body));
+    }
+
+    @Test
+    void putIfTerminal_OpenOrder_IsNotCached() {
+        cache.putIfTerminal(order(1L, OrderStatus.PROCESSING, 1));
+
+        assertTrue(cache.get(1L).isEmpty());
+    }
+
+    @Test
+    void putIfTerminal_BeyondMaxSize_EvictsLeastRecentlyUsed() throws Exception {
+        // Arrange
+        long entrySize = objectMapper.writeValueAsBytes(order(1L, OrderStatus.COMPLETED, 1)).length;
+        properties.setMaxSize(DataSize.ofBytes(entrySize * 2));
+        cache.putIfTerminal(order(1L, OrderStatus.COMPLETED, 1));
+        cache.putIfTerminal(order(2L, OrderStatus.COMPLETED, 1));
+        cache.get(1L);
+
+        // Act
+        cache.putIfTerminal(order(3L, OrderStatus.COMPLETED, 1));
+
+        // Assert
+        assertTrue(cache.get(1L).isPresent());
+        assertTrue(cache.get(2L).isEmpty());
+        assertTrue(cache.get(3L).isPresent());
+        assertEquals(entrySize * 2, cache.getCachedBytes());
+    }
+
+    @Test
+    void putIfTerminal_BodyLargerThanMaxSize_IsNotCached() {
+        // Arrange
+        properties.setMaxSize(DataSize.ofBytes(16));
+
+        // Act
+        cache.putIfTerminal(order(1L, OrderStatus.COMPLETED, 1));
+
+        // Assert
+        assertTrue(cache.get(1L).isEmpty());
+        assertEquals(0, cache.getCachedBytes());
+    }
+
+    private static OrderResponse order(Long id, OrderStatus status, int itemCount) {
+        OrderResponse response = new OrderResponse();
+        response.setId(id);
+        response.setCustomerId("customer-1");
+        response.setStatus(status);
+        response.setTotalPrice(BigDecimal.TEN);
+        response.setVersion(2L);
+        List<OrderItemResponse> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            OrderItemResponse item = new OrderItemResponse();
+            item.setProductId("PROD-" + i);
+            item.setQuantity(1);
+            item.setPrice(BigDecimal.ONE);
+            item.setSubtotal(BigDecimal.ONE);
+            items.add(item);
+        }
+        response.setItems(items);
+        return response;
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,62 @@
+package com.quantiphi.orderservice.config;
+
+import com.quantiphi.orderservice.domain.Order;
+import com.quantiphi.orderservice.dto.CreateOrderRequest;
+import com.quantiphi.orderservice.dto.LiveOrderStatsResponse;
+import com.quantiphi.orderservice.dto.MultiGetOrdersRequest;
+import com.quantiphi.orderservice.dto.MultiGetOrdersResponse;
+import com.quantiphi.orderservice.dto.OrderResponse;
+import com.quantiphi.orderservice.dto.OrderStatusEventResponse;
+import com.quantiphi.orderservice.dto.OrderSummaryResponse;
+import com.quantiphi.orderservice.repository.ProductOrderRef;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.data.projection.TargetAware;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderRuntimeHintsTest {
+
+    @Test
+    void registerHints_CoversEntitiesDtosAndProjections() {
+        // Arrange
+        RuntimeHints hints = new RuntimeHints();
+
+        // Act
+        new OrderRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // Assert
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Order.class)
+            .withMemberCategory(MemberCategory.DECLARED_FIELDS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(CreateOrderRequest.class)
+            .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(OrderResponse.class)
+            .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS).test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(
+            ProductOrderRef.class, TargetAware.class, SpringProxy.class, DecoratingProxy.class).test(hints));
+    }
+
+    @Test
+    void registerHints_CoversDtosAddedAfterTheOriginalEndpoints() {
+        // Arrange
+        RuntimeHints hints = new RuntimeHints();
+
+        // Act
+        new OrderRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // Assert
+        for (Class<?> dto : List.of(MultiGetOrdersRequest.class, MultiGetOrdersResponse.class,
+                LiveOrderStatsResponse.class, LiveOrderStatsResponse.Window.class,
+                OrderStatusEventResponse.class, OrderSummaryResponse.class)) {
+            assertTrue(RuntimeHintsPredicates.reflection().onType(dto)
+                .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS).test(hints), dto.getName());
+        }
+    }
+}
@@ -1,12 +1,20 @@
 package com.quantiphi.orderservice.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quantiphi.orderservice.cache.OrderNearCache;
+import com.quantiphi.orderservice.cache.SerializedOrderCache;
 import com.quantiphi.orderservice.domain.OrderStatus;
 import com.quantiphi.orderservice.dto.CreateOrderRequest;
+import com.quantiphi.orderservice.dto.MultiGetOrdersRequest;
+import com.quantiphi.orderservice.dto.MultiGetOrdersResponse;
 import com.quantiphi.orderservice.dto.OrderItemRequest;
 import com.quantiphi.orderservice.dto.OrderResponse;
 import com.quantiphi.orderservice.dto.UpdateOrderStatusRequest;
 import com.quantiphi.orderservice.exception.OrderNotFoundException;
+import com.quantiphi.orderservice.exception.RateLimitExceededException;
+import com.quantiphi.orderservice.ingest.StreamingOrderParser;
+import com.quantiphi.orderservice.ratelimit.OrderRateLimiter;
+import com.quantiphi.orderservice.service.OrderCreateCoalescer;
 import com.quantiphi.orderservice.service.OrderService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,11 +24,19 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -37,6 +53,21 @@ class OrderControllerTest {
     @MockBean
     private OrderService orderService;
 
+    @MockBean
+    private OrderCreateCoalescer createCoalescer;
+
+    @MockBean
+    private StreamingOrderParser streamingOrderParser;
+
+    @MockBean
+    private SerializedOrderCache serializedOrderCache;
+
+    @MockBean
+    private OrderNearCache nearCache;
+
+    @MockBean
+    private OrderRateLimiter rateLimiter;
+
     @Test
     void createOrder_ValidRequest_ReturnsCreated() throws Exception {
         // Arrange
@@ -65,6 +96,72 @@ class OrderControllerTest {
             .andExpect(jsonPath("$.status").value("CREATED"));
     }
 
+    @Test
+    void createOrder_GroupCommitEnabled_ReturnsCreatedFromCoalescer() throws Exception {
+        // Arrange
+        CreateOrderRequest request = new CreateOrderRequest(
+            "customer-123",
+            List.of(new OrderItemRequest("A1", 2, BigDecimal.valueOf(10.0)))
+        );
+
+        OrderResponse response = new OrderResponse();
+        response.setId(7L);
+        response.setCustomerId("customer-123");
+        response.setStatus(OrderStatus.CREATED);
+
+        when(createCoalescer.isEnabled()).thenReturn(true);
+        when(createCoalescer.submit(any(CreateOrderRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(response));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.id").value(7));
+        verify(orderService, never()).createOrder(any(CreateOrderRequest.class));
+    }
+
+    @Test
+    void createOrder_CustomerOverRateLimit_ReturnsTooManyRequests() throws Exception {
+        // Arrange
+        CreateOrderRequest request = new CreateOrderRequest(
+            "customer-123",
+            List.of(new OrderItemRequest("A1", 2, BigDecimal.valueOf(10.0)))
+        );
+        doThrow(new RateLimitExceededException("Order creation rate limit exceeded", Duration.ofMillis(1500)))
+            .when(rateLimiter).acquireCreate("customer-123");
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().string("Retry-After", "2"))
+            .andExpect(jsonPath("$.error").value("Too Many Requests"));
+        verify(orderService, never()).createOrder(any(CreateOrderRequest.class));
+    }
+
+    @Test
+    void createOrderStreaming_ClientOverRateLimit_RejectsBeforeParsing() throws Exception {
+        // Arrange
+        doThrow(new RateLimitExceededException("Streamed order creation rate limit exceeded", Duration.ofSeconds(1)))
+            .when(rateLimiter).acquireStreamingCreate("10.0.0.1");
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/orders/stream")
+                .with(request -> {
+                    request.setRemoteAddr("10.0.0.1");
+                    return request;
+                })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"customerId\":\"customer-123\",\"items\":[]}"))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().string("Retry-After", "1"));
+        verifyNoInteractions(streamingOrderParser);
+        verify(rateLimiter, never()).acquireCreate(any());
+    }
+
     @Test
     void createOrder_MissingCustomerId_ReturnsBadRequest() throws Exception {
         // Arrange
@@ -109,6 +206,125 @@ class OrderControllerTest {
             .andExpect(jsonPath("$.customerId").value("customer-123"));
     }
 
+    @Test
+    void getOrder_ExistingOrder_ReturnsETag() throws Exception {
+        // Arrange
+        OrderResponse response = new OrderResponse();
+        response.setId(1L);
+        response.setVersion(3L);
+
+        when(orderService.getOrder(1L)).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/orders/1"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "W/\"1-3\""));
+    }
+
+    @Test
+    void getOrder_MatchingIfNoneMatch_ReturnsNotModifiedWithoutLoadingOrder() throws Exception {
+        // Arrange
+        when(orderService.getOrderVersion(1L)).thenReturn(3L);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/orders/1").header("If-None-Match", "\"1-3\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", "W/\"1-3\""));
+        verify(orderService, never()).getOrder(1L);
+    }
+
+    @Test
+    void getOrder_NearCachedOrder_ServesWithoutLoadingOrder() throws Exception {
+        // Arrange
+        OrderResponse response = new OrderResponse();
+        response.setId(1L);
+        response.setCustomerId("customer-123");
+        response.setVersion(2L);
+        when(nearCache.get(1L)).thenReturn(Optional.of(response));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/orders/1"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "W/\"1-2\""))
+            .andExpect(jsonPath("$.customerId").value("customer-123"));
+        mockMvc.perform(get("/api/v1/orders/1").header("If-None-Match", "W/\"1-2\""))
+            .andExpect(status().isNotModified());
+        verify(orderService, never()).getOrder(1L);
+        verify(orderService, never()).getOrderVersion(1L);
+    }
+
+    @Test
+    void getOrder_CachedTerminalOrder_ServesCompressedBodyWithoutLoadingOrder() throws Exception {
+        // Arrange
+        byte[] body = {31, -117, 8, 0};
+        ByteBuffer offHeapBody = ByteBuffer.allocateDirect(body.length).put(body).flip();
+        when(serializedOrderCache.get(1L))
+            .thenReturn(Optional.of(new SerializedOrderCache.CachedResponse(offHeapBody, true, 4L)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/orders/1").header("Accept-Encoding", "gzip, deflate"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Encoding", "gzip"))
+            .andExpect(header().string("ETag", "W/\"1-4\""))
+            .andExpect(content().bytes(body));
+        verify(orderService, never()).getOrder(1L);
+    }
+
+    @Test
+    void getOrder_CachedCompressedOrderWithoutGzipSupport_LoadsOrder() throws Exception {
+        // Arrange
+        OrderResponse response = new OrderResponse();
+        response.setId(1L);
+        response.setVersion(4L);
+        when(serializedOrderCache.get(1L))
+            .thenReturn(Optional.of(
+                new SerializedOrderCache.CachedResponse(ByteBuffer.wrap(new byte[] {31, -117}), true, 4L)));
+        when(orderService.getOrder(1L)).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/orders/1").header("Accept-Encoding", "gzip;q=0"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("Content-Encoding"))
+            .andExpect(jsonPath("$.id").value(1));
+    }
+
+    @Test
+    void getOrder_GzipRefusedDespiteWildcard_LoadsOrder() throws Exception {
+        // Arrange
+        OrderResponse response = new OrderResponse();
+        response.setId(1L);
+        response.setVersion(4L);
+        when(serializedOrderCache.get(1L))
+            .thenReturn(Optional.of(
+                new SerializedOrderCache.CachedResponse(ByteBuffer.wrap(new byte[] {31, -117}), true, 4L)));
+        when(orderService.getOrder(1L)).thenReturn(response);
+
+        // Act & Assert
+        for (String acceptEncoding : List.of("*, gzip;q=0", "gzip; q=0.000, *;q=1", "deflate, *;q=0", "gzip;q=x")) {
+            mockMvc.perform(get("/api/v1/orders/1").header("Accept-Encoding", acceptEncoding))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(jsonPath("$.id").value(1));
+        }
+    }
+
+    @Test
+    void getOrder_GzipAcceptedWithWeight_ServesCompressedBody() throws Exception {
+        // Arrange
+        byte[] body = {31, -117, 8, 0};
+        when(serializedOrderCache.get(1L)).thenAnswer(invocation -> Optional.of(
+            new SerializedOrderCache.CachedResponse(ByteBuffer.wrap(body), true, 4L)));
+
+        // Act & Assert
+        for (String acceptEncoding : List.of("gzip;q=0.5", "GZIP;Q=0.001", "deflate, *;q=0.8", "*;q=0, gzip")) {
+            mockMvc.perform(get("/api/v1/orders/1").header("Accept-Encoding", acceptEncoding))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(content().bytes(body));
+        }
+        verify(orderService, never()).getOrder(1L);
+    }
+
     @Test
     void getOrder_NonExistingOrder_ReturnsNotFound() throws Exception {
         // Arrange
@@ -148,4 +364,50 @@ class OrderControllerTest {
                 .content("{}"))
             .andExpect(status().isBadRequest());
     }
+
+    @Test
+    void searchOrders_ByProduct_ReturnsOk() throws Exception {
+        // Arrange
+        OrderResponse response = new OrderResponse();
+        response.setId(1L);
+        response.setCustomerId("customer-123");
+
+        when(orderService.searchOrders("A1", null, null, 100)).thenReturn(List.of(response));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/orders/search").param("productId", "A1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").value(1))
+            .andExpect(jsonPath("$[0].customerId").value("customer-123"));
+    }
+
+    @Test
+    void getOrders_SomeMissing_ReturnsFoundAndMissing() throws Exception {
+        // Arrange
+        OrderResponse response = new OrderResponse();
+        response.setId(1L);
+        response.setCustomerId("customer-123");
+
+        when(orderService.getOrders(List.of(1L, 2L)))
+            .thenReturn(new MultiGetOrdersResponse(List.of(response), List.of(2L)));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/orders/_mget")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new MultiGetOrdersRequest(List.of(1L, 2L)))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.orders[0].id").value(1))
+            .andExpect(jsonPath("$.missing[0]").value(2));
+    }
+
+    @Test
+    void getOrders_EmptyIds_ReturnsBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/orders/_mget")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\":[]}"))
+            .andExpect(status().isBadRequest());
+
+        verify(orderService, never()).getOrders(any());
+    }
 }
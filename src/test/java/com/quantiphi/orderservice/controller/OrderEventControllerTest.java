@@ -0,0 +1,148 @@
+package com.quantiphi.orderservice.controller;
+
+import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.event.OrderStatusChangedEvent;
+import com.quantiphi.orderservice.event.OrderStatusEventBus;
+import com.quantiphi.orderservice.exception.OrderNotFoundException;
+import com.quantiphi.orderservice.service.OrderService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(OrderEventController.class)
+@Import(OrderStatusEventBus.class)
+class OrderEventControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderStatusEventBus eventBus;
+
+    @MockBean
+    private OrderService orderService;
+
+    @Test
+    void subscribe_KnownOrder_StreamsStatusEvents() throws Exception {
+        // Arrange
+        when(orderService.getOrderVersion(1L)).thenReturn(0L);
+        MvcResult result = mockMvc.perform(get("/api/v1/orders/1/events"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Act
+        eventBus.onOrderStatusChanged(new OrderStatusChangedEvent(
+            1L, "customer-1", OrderStatus.CREATED, OrderStatus.PROCESSING, LocalDateTime.now()));
+
+        // Assert
+        String stream = awaitContent(result, "PROCESSING");
+        assertTrue(stream.contains("event:status"));
+        assertTrue(stream.contains("id:1-PROCESSING"));
+        assertEquals(MediaType.TEXT_EVENT_STREAM_VALUE, result.getResponse().getContentType());
+    }
+
+    @Test
+    void subscribe_StreamCompleted_RemovesSubscription() throws Exception {
+        // Arrange
+        when(orderService.getOrderVersion(1L)).thenReturn(0L);
+        int before = eventBus.getSubscriptionCount();
+        MvcResult result = mockMvc.perform(get("/api/v1/orders/1/events"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        assertEquals(before + 1, eventBus.getSubscriptionCount());
+
+        // Act
+        result.getRequest().getAsyncContext().complete();
+
+        // Assert
+        assertEquals(before, eventBus.getSubscriptionCount());
+    }
+
+    @Test
+    void subscribe_UnknownOrder_ReturnsNotFound() throws Exception {
+        // Arrange
+        when(orderService.getOrderVersion(99L)).thenThrow(new OrderNotFoundException(99L));
+        int before = eventBus.getSubscriptionCount();
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/orders/99/events"))
+            .andExpect(status().isNotFound());
+        assertEquals(before, eventBus.getSubscriptionCount());
+    }
+
+    @Test
+    void subscribeAll_SeveralOrders_StartsOneStream() throws Exception {
+        // Arrange
+        int before = eventBus.getSubscriptionCount();
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/v1/orders/events").param("ids", "1,2,2"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        eventBus.onOrderStatusChanged(new OrderStatusChangedEvent(
+            2L, "customer-1", OrderStatus.CREATED, OrderStatus.CANCELLED, LocalDateTime.now()));
+
+        // Assert
+        assertEquals(before + 1, eventBus.getSubscriptionCount());
+        assertTrue(awaitContent(result, "CANCELLED").contains("id:2-CANCELLED"));
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    void subscribeAll_MissingIds_ReturnsBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/orders/events"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("A subscription must watch between 1 and 100 orders"));
+    }
+
+    @Test
+    void subscribeAll_TooManyIds_ReturnsBadRequest() throws Exception {
+        // Arrange
+        String ids = LongStream.rangeClosed(1, 101).mapToObj(Long::toString).collect(Collectors.joining(","));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/orders/events").param("ids", ids))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("A subscription must watch between 1 and 100 orders"));
+    }
+
+    @Test
+    void subscribeAll_MalformedId_ReturnsBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/orders/events").param("ids", "1,abc"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Invalid order ID: abc"));
+        mockMvc.perform(get("/api/v1/orders/events").param("ids", "1,-2"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Invalid order ID: -2"));
+    }
+
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            content = result.getResponse().getContentAsString();
+        }
+        assertTrue(content.contains(expected), "Stream did not deliver " + expected + ": " + content);
+        return content;
+    }
+}
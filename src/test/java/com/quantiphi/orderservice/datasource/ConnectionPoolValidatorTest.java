@@ -0,0 +1,100 @@
+package com.quantiphi.orderservice.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionPoolValidatorTest {
+
+    private ConnectionPoolProperties properties;
+    private MockEnvironment environment;
+    private ConnectionPoolValidator validator;
+    private HikariDataSource pool;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ConnectionPoolProperties();
+        properties.setDbCores(4);
+        properties.setEffectiveSpindles(1);
+        environment = new MockEnvironment();
+        validator = new ConnectionPoolValidator(
+            new StaticListableBeanFactory().getBeanProvider(DataSource.class), properties, environment);
+        pool = new HikariDataSource();
+        pool.setLeakDetectionThreshold(30_000);
+        pool.setConnectionTimeout(5_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    void size_NoExplicitSettings_UsesDatabaseCoresAndFixedSize() {
+        // Act
+        ConnectionPools.size(pool, properties, environment);
+
+        // Assert
+        assertEquals(9, pool.getMaximumPoolSize());
+        assertEquals(9, pool.getMinimumIdle());
+        assertTrue(validator.check(pool).isEmpty());
+    }
+
+    @Test
+    void size_ExplicitMaximumPoolSize_IsKept() {
+        // Arrange
+        environment.setProperty(ConnectionPools.MAXIMUM_POOL_SIZE, "12");
+        pool.setMaximumPoolSize(12);
+
+        // Act
+        ConnectionPools.size(pool, properties, environment);
+
+        // Assert
+        assertEquals(12, pool.getMaximumPoolSize());
+        assertEquals(12, pool.getMinimumIdle());
+    }
+
+    @Test
+    void check_PathologicalSettings_ReportsEachProblem() {
+        // Arrange
+        environment.setProperty("server.tomcat.threads.max", "50");
+        pool.setMaximumPoolSize(80);
+        pool.setMinimumIdle(5);
+        pool.setLeakDetectionThreshold(0);
+        pool.setConnectionTimeout(60_000);
+
+        // Act
+        List<String> problems = validator.check(pool);
+
+        // Assert
+        assertEquals(5, problems.size(), problems::toString);
+        assertTrue(problems.get(0).contains("more than twice"));
+        assertTrue(problems.get(1).contains("request threads"));
+        assertTrue(problems.get(2).contains("minimum-idle"));
+        assertTrue(problems.get(3).contains("leak-detection-threshold"));
+        assertTrue(problems.get(4).contains("connection-timeout"));
+    }
+
+    @Test
+    void check_LeakThresholdBeyondMaxLifetime_ReportsIneffectiveLeakDetection() {
+        // Arrange
+        ConnectionPools.size(pool, properties, environment);
+        pool.setMaxLifetime(60_000);
+        pool.setLeakDetectionThreshold(120_000);
+
+        // Act
+        List<String> problems = validator.check(pool);
+
+        // Assert
+        assertEquals(1, problems.size());
+        assertTrue(problems.get(0).contains("max-lifetime"));
+    }
+}
@@ -0,0 +1,118 @@
+package com.quantiphi.orderservice.event;
+
+import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.dto.OrderStatusEventResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderStatusEventBusTest {
+
+    private OrderStatusEventBus eventBus;
+
+    @BeforeEach
+    void setUp() {
+        OrderEventsProperties properties = new OrderEventsProperties();
+        properties.setBufferSize(2);
+        eventBus = new OrderStatusEventBus(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventBus.shutdown();
+    }
+
+    @Test
+    void onOrderStatusChanged_DeliversOnlyToSubscribersOfThatOrder() throws Exception {
+        // Arrange
+        RecordingSink watching = new RecordingSink();
+        RecordingSink other = new RecordingSink();
+        eventBus.subscribe(List.of(1L, 2L), watching);
+        eventBus.subscribe(List.of(3L), other);
+
+        // Act
+        eventBus.onOrderStatusChanged(changed(2L, OrderStatus.PROCESSING));
+
+        // Assert
+        OrderStatusEventResponse event = watching.events.poll(5, TimeUnit.SECONDS);
+        assertNotNull(event);
+        assertEquals(2L, event.getOrderId());
+        assertEquals(OrderStatus.PROCESSING, event.getStatus());
+        assertTrue(other.events.isEmpty());
+    }
+
+    @Test
+    void onOrderStatusChanged_SlowSubscriberOverflows_IsDisconnected() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSink slow = new RecordingSink(release);
+        eventBus.subscribe(List.of(1L), slow);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            eventBus.onOrderStatusChanged(changed(1L, OrderStatus.PROCESSING));
+        }
+        release.countDown();
+
+        // Assert
+        assertTrue(slow.closed.await(5, TimeUnit.SECONDS));
+        assertEquals(0, eventBus.getSubscriptionCount());
+    }
+
+    @Test
+    void unsubscribe_StopsDelivery() {
+        // Arrange
+        RecordingSink sink = new RecordingSink();
+        OrderStatusEventBus.Subscription subscription = eventBus.subscribe(List.of(1L), sink);
+
+        // Act
+        eventBus.unsubscribe(subscription);
+        eventBus.onOrderStatusChanged(changed(1L, OrderStatus.CANCELLED));
+
+        // Assert
+        assertEquals(0, eventBus.getSubscriptionCount());
+        assertTrue(sink.events.isEmpty());
+    }
+
+    private static OrderStatusChangedEvent changed(Long orderId, OrderStatus newStatus) {
+        return new OrderStatusChangedEvent(orderId, "customer-1", OrderStatus.CREATED, newStatus, LocalDateTime.now());
+    }
+
+    private static class RecordingSink implements OrderStatusEventBus.EventSink {
+        private final BlockingQueue<OrderStatusEventResponse> events = new LinkedBlockingQueue<>();
+        private final CountDownLatch closed = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        RecordingSink() {
+            this(new CountDownLatch(0));
+        }
+
+        RecordingSink(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(OrderStatusEventResponse event) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            events.add(event);
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+    }
+}
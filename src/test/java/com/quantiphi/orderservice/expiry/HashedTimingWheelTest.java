@@ -0,0 +1,84 @@
+package com.quantiphi.orderservice.expiry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    void advance_ExpiresEntryOnlyOnceItsDeadlineHasPassed() {
+        // Arrange
+        HashedTimingWheel wheel = new HashedTimingWheel(100, 8, START);
+        wheel.schedule(1L, START + 250);
+        List<Long> expired = new ArrayList<>();
+
+        // Act
+        wheel.advance(START + 200, expired::add);
+        List<Long> early = List.copyOf(expired);
+        wheel.advance(START + 300, expired::add);
+
+        // Assert
+        assertTrue(early.isEmpty());
+        assertEquals(List.of(1L), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void advance_DeadlineBeyondOneRotation_WaitsForItsRound() {
+        // Arrange
+        HashedTimingWheel wheel = new HashedTimingWheel(100, 8, START);
+        wheel.schedule(1L, START + 100);
+        wheel.schedule(2L, START + 900);
+        List<Long> expired = new ArrayList<>();
+
+        // Act
+        wheel.advance(START + 100, expired::add);
+        wheel.advance(START + 800, expired::add);
+        List<Long> beforeSecondRound = List.copyOf(expired);
+        wheel.advance(START + 900, expired::add);
+
+        // Assert
+        assertEquals(List.of(1L), beforeSecondRound);
+        assertEquals(List.of(1L, 2L), expired);
+    }
+
+    @Test
+    void advance_AfterLongPause_ExpiresEverythingDue() {
+        // Arrange
+        HashedTimingWheel wheel = new HashedTimingWheel(100, 8, START);
+        for (long id = 0; id < 50; id++) {
+            wheel.schedule(id, START + id * 70);
+        }
+        wheel.schedule(99L, START + 1_000_000);
+        List<Long> expired = new ArrayList<>();
+
+        // Act
+        wheel.advance(START + 10_000, expired::add);
+
+        // Assert
+        assertEquals(50, expired.size());
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    void schedule_DeadlineInThePast_ExpiresOnNextTick() {
+        // Arrange
+        HashedTimingWheel wheel = new HashedTimingWheel(100, 8, START);
+        wheel.advance(START + 500, id -> { });
+        wheel.schedule(1L, START - 5_000);
+        List<Long> expired = new ArrayList<>();
+
+        // Act
+        wheel.advance(START + 500, expired::add);
+        wheel.advance(START + 600, expired::add);
+
+        // Assert
+        assertEquals(List.of(1L), expired);
+    }
+}
@@ -0,0 +1,150 @@
+package com.quantiphi.orderservice.expiry;
+
+import com.quantiphi.orderservice.domain.Order;
+import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.event.OrderCreatedEvent;
+import com.quantiphi.orderservice.event.OrderStatusChangedEvent;
+import com.quantiphi.orderservice.repository.OrderRepository;
+import com.quantiphi.orderservice.shard.OrderShards;
+import com.quantiphi.orderservice.shard.ShardingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderExpirySchedulerTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrderExpiryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        OrderExpiryProperties properties = new OrderExpiryProperties();
+        properties.setEnabled(true);
+        properties.setCreatedTimeout(Duration.ofMinutes(5));
+        properties.setProcessingTimeout(Duration.ofHours(1));
+        properties.setTick(Duration.ofMillis(10));
+        scheduler = new OrderExpiryScheduler(orderRepository, new OrderShards(new ShardingProperties(), null),
+            properties, eventPublisher, transactionManager);
+    }
+
+    @Test
+    void tick_OrderPastTimeout_IsCancelled() throws InterruptedException {
+        // Arrange
+        Order stale = order(1L, OrderStatus.CREATED, LocalDateTime.now().minusMinutes(10));
+        scheduler.onOrderCreated(new OrderCreatedEvent(stale));
+        when(orderRepository.findAllById(anyList())).thenReturn(List.of(stale));
+
+        // Act
+        awaitNextTick();
+        scheduler.tick();
+
+        // Assert
+        assertEquals(OrderStatus.CANCELLED, stale.getStatus());
+        verify(orderRepository).saveAll(List.of(stale));
+        ArgumentCaptor<OrderStatusChangedEvent> event = ArgumentCaptor.forClass(OrderStatusChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(OrderStatus.CREATED, event.getValue().getPreviousStatus());
+        assertEquals(OrderStatus.CANCELLED, event.getValue().getNewStatus());
+    }
+
+    @Test
+    void tick_OrderPastTimeout_RecordsTransitionEvent(@TempDir Path directory) throws Exception {
+        // Arrange
+        Order stale = order(7L, OrderStatus.PROCESSING, LocalDateTime.now().minusHours(2));
+        scheduler.onOrderCreated(new OrderCreatedEvent(stale));
+        when(orderRepository.findAllById(anyList())).thenReturn(List.of(stale));
+        Path file = directory.resolve("expiry.jfr");
+
+        // Act
+        try (Recording recording = new Recording()) {
+            recording.enable("com.quantiphi.orders.StatusTransition").withThreshold(Duration.ZERO);
+            recording.start();
+            awaitNextTick();
+            scheduler.tick();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Assert
+        List<String> transitions = RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().equals("com.quantiphi.orders.StatusTransition"))
+            .filter(event -> event.getLong("orderId") == 7L)
+            .map(event -> event.getString("fromStatus") + "->" + event.getString("toStatus")
+                + ":" + event.getString("outcome"))
+            .toList();
+        assertEquals(List.of("PROCESSING->CANCELLED:APPLIED"), transitions);
+    }
+
+    @Test
+    void tick_OrderMovedOnSinceScheduled_IsLeftAlone() throws InterruptedException {
+        // Arrange
+        Order order = order(1L, OrderStatus.CREATED, LocalDateTime.now().minusMinutes(10));
+        scheduler.onOrderCreated(new OrderCreatedEvent(order));
+        order.updateStatus(OrderStatus.PROCESSING);
+        when(orderRepository.findAllById(anyList())).thenReturn(List.of(order));
+
+        // Act
+        awaitNextTick();
+        scheduler.tick();
+
+        // Assert
+        assertEquals(OrderStatus.PROCESSING, order.getStatus());
+        verify(orderRepository, never()).saveAll(anyList());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void tick_NothingDue_DoesNotQueryOrders() throws InterruptedException {
+        // Arrange
+        Order fresh = order(1L, OrderStatus.CREATED, LocalDateTime.now());
+        scheduler.onOrderCreated(new OrderCreatedEvent(fresh));
+
+        // Act
+        awaitNextTick();
+        scheduler.tick();
+
+        // Assert
+        verifyNoInteractions(orderRepository);
+    }
+
+    private static void awaitNextTick() throws InterruptedException {
+        Thread.sleep(25);
+    }
+
+    private static Order order(Long id, OrderStatus status, LocalDateTime updatedAt) {
+        Order order = new Order("customer-1");
+        if (status != OrderStatus.CREATED) {
+            order.updateStatus(status);
+        }
+        ReflectionTestUtils.setField(order, "id", id);
+        ReflectionTestUtils.setField(order, "updatedAt", updatedAt);
+        return order;
+    }
+}
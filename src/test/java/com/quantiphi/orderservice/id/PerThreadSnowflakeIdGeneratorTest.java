@@ -0,0 +1,102 @@
+package com.quantiphi.orderservice.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerThreadSnowflakeIdGeneratorTest {
+
+    private static final long NOW = Instant.parse("2026-02-13T10:30:00Z").toEpochMilli();
+
+    @Test
+    void nextId_WithinBlock_DrawsFromSharedSequenceOncePerBlock() {
+        // Arrange
+        SnowflakeIdGenerator shared = new SnowflakeIdGenerator(3, () -> NOW);
+        PerThreadSnowflakeIdGenerator generator = new PerThreadSnowflakeIdGenerator(shared);
+
+        // Act
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < PerThreadSnowflakeIdGenerator.BLOCK_SIZE; i++) {
+            ids.add(generator.nextId());
+        }
+        long fromShared = shared.nextId();
+
+        // Assert
+        for (int i = 1; i < ids.size(); i++) {
+            assertEquals(ids.get(i - 1) + 1, ids.get(i));
+        }
+        assertEquals(3, SnowflakeIdGenerator.nodeOf(ids.get(0)));
+        assertEquals(ids.get(ids.size() - 1) + 1, fromShared);
+    }
+
+    @Test
+    void nextId_ClockMovesOn_GivesUpTheBlock() {
+        // Arrange
+        AtomicLong clock = new AtomicLong(NOW);
+        PerThreadSnowflakeIdGenerator generator = new PerThreadSnowflakeIdGenerator(new SnowflakeIdGenerator(1, clock::get));
+        long first = generator.nextId();
+
+        // Act
+        clock.addAndGet(1);
+        long second = generator.nextId();
+
+        // Assert
+        assertEquals(Instant.ofEpochMilli(NOW), SnowflakeIdGenerator.timestampOf(first));
+        assertEquals(Instant.ofEpochMilli(NOW + 1), SnowflakeIdGenerator.timestampOf(second));
+    }
+
+    @Test
+    void nextId_ConcurrentThreads_NeverCollideWithEachOtherOrTheSharedStrategy() throws InterruptedException {
+        // Arrange
+        SnowflakeIdGenerator shared = new SnowflakeIdGenerator(7);
+        PerThreadSnowflakeIdGenerator generator = new PerThreadSnowflakeIdGenerator(shared);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        AtomicLong outOfOrder = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        for (int t = 0; t < 8; t++) {
+            boolean perThread = t % 2 == 0;
+            executor.execute(() -> {
+                long previous = 0;
+                for (int i = 0; i < 20_000; i++) {
+                    long id = perThread ? generator.nextId() : shared.nextId();
+                    if (id <= previous) {
+                        outOfOrder.incrementAndGet();
+                    }
+                    previous = id;
+                    ids.add(id);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        // Assert
+        assertEquals(160_000, ids.size());
+        assertEquals(0, outOfOrder.get());
+    }
+
+    @Test
+    void idStrategy_FromConfigurationName_ReturnsGeneratorsSharingTheNodeSequence() {
+        // Act
+        OrderIdGenerator perThread = IdStrategy.from("per-thread").forNode(900);
+        OrderIdGenerator shared = IdStrategy.from("shared").forNode(900);
+
+        // Assert
+        assertSame(PerThreadSnowflakeIdGenerator.forNode(900), perThread);
+        assertSame(SnowflakeIdGenerator.forNode(900), shared);
+        assertNotEquals(perThread.nextId(), shared.nextId());
+        assertThrows(IllegalArgumentException.class, () -> IdStrategy.from("random"));
+    }
+}
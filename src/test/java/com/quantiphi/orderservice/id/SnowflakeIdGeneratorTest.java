@@ -0,0 +1,105 @@
+package com.quantiphi.orderservice.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = Instant.parse("2026-02-13T10:30:00Z").toEpochMilli();
+
+    @Test
+    void nextId_EncodesNodeAndTimestamp() {
+        // Arrange
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(42, () -> NOW);
+
+        // Act
+        long id = generator.nextId();
+
+        // Assert
+        assertTrue(id > 0);
+        assertEquals(42, SnowflakeIdGenerator.nodeOf(id));
+        assertEquals(Instant.ofEpochMilli(NOW), SnowflakeIdGenerator.timestampOf(id));
+    }
+
+    @Test
+    void lowestIdAt_BoundsIdsAllocatedFromThatMillisecond() {
+        // Arrange
+        long earlier = new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID, () -> NOW - 1).nextId();
+        long atNow = new SnowflakeIdGenerator(0, () -> NOW).nextId();
+
+        // Act
+        long bound = SnowflakeIdGenerator.lowestIdAt(Instant.ofEpochMilli(NOW));
+
+        // Assert
+        assertTrue(earlier < bound);
+        assertEquals(bound, atNow);
+        assertEquals(0, SnowflakeIdGenerator.lowestIdAt(Instant.EPOCH));
+    }
+
+    @Test
+    void nextId_ClockMovesBackwards_StaysIncreasing() {
+        // Arrange
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::get);
+        long before = generator.nextId();
+
+        // Act
+        clock.set(NOW - 5_000);
+        long after = generator.nextId();
+
+        // Assert
+        assertTrue(after > before);
+    }
+
+    @Test
+    void nextId_SequenceExhaustedWithinMillisecond_CarriesIntoTimestamp() {
+        // Arrange
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, () -> NOW);
+        long previous = generator.nextId();
+
+        // Act & Assert
+        for (int i = 0; i < 10_000; i++) {
+            long next = generator.nextId();
+            assertTrue(next > previous);
+            previous = next;
+        }
+        assertTrue(SnowflakeIdGenerator.timestampOf(previous).isAfter(Instant.ofEpochMilli(NOW)));
+    }
+
+    @Test
+    void nextId_ConcurrentCallers_NeverCollide() throws InterruptedException {
+        // Arrange
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        for (int t = 0; t < 8; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    ids.add(generator.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        // Assert
+        assertEquals(160_000, ids.size());
+    }
+
+    @Test
+    void constructor_NodeIdOutOfRange_Throws() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(1024));
+    }
+}
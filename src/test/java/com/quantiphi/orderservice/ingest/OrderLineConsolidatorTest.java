@@ -0,0 +1,139 @@
+package com.quantiphi.orderservice.ingest;
+
+import com.quantiphi.orderservice.domain.Order;
+import com.quantiphi.orderservice.domain.OrderItem;
+import com.quantiphi.orderservice.exception.InvalidOrderPayloadException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderLineConsolidatorTest {
+
+    private LineConsolidationProperties properties;
+    private OrderLineConsolidator consolidator;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LineConsolidationProperties();
+        consolidator = new OrderLineConsolidator(properties);
+    }
+
+    @Test
+    void add_RepeatedProductAtSamePrice_MergesQuantities() {
+        // Arrange
+        Order order = new Order("customer-1");
+        OrderLineConsolidator.Lines lines = consolidator.open(order, 3);
+
+        // Act
+        lines.add(new OrderItem("A1", 2, new BigDecimal("10.00")), 0);
+        lines.add(new OrderItem("B2", 1, new BigDecimal("5.00")), 1);
+        lines.add(new OrderItem("A1", 3, new BigDecimal("10.0")), 2);
+
+        // Assert
+        assertEquals(2, order.getItems().size());
+        OrderItem merged = order.getItems().get(0);
+        assertEquals("A1", merged.getProductId());
+        assertEquals(5, merged.getQuantity());
+        assertEquals(0, new BigDecimal("55.00").compareTo(order.getTotalPrice()));
+    }
+
+    @Test
+    void add_ConflictingPriceWithKeepSeparate_KeepsOneItemPerPrice() {
+        // Arrange
+        Order order = new Order("customer-1");
+        OrderLineConsolidator.Lines lines = consolidator.open(order, 4);
+
+        // Act
+        lines.add(new OrderItem("A1", 1, new BigDecimal("10.00")), 0);
+        lines.add(new OrderItem("A1", 1, new BigDecimal("8.00")), 1);
+        lines.add(new OrderItem("A1", 2, new BigDecimal("8.00")), 2);
+        lines.add(new OrderItem("A1", 1, new BigDecimal("10.00")), 3);
+
+        // Assert
+        assertEquals(2, order.getItems().size());
+        assertEquals(2, order.getItems().get(0).getQuantity());
+        assertEquals(3, order.getItems().get(1).getQuantity());
+        assertEquals(0, new BigDecimal("44.00").compareTo(order.getTotalPrice()));
+    }
+
+    @Test
+    void add_ConflictingPriceWithReject_ReportsTheLine() {
+        // Arrange
+        properties.setPriceConflict(PriceConflictPolicy.REJECT);
+        Order order = new Order("customer-1");
+        OrderLineConsolidator.Lines lines = consolidator.open(order, 2);
+        lines.add(new OrderItem("A1", 1, new BigDecimal("10.00")), 0);
+
+        // Act & Assert
+        InvalidOrderPayloadException exception = assertThrows(InvalidOrderPayloadException.class,
+            () -> lines.add(new OrderItem("A1", 1, new BigDecimal("9.99")), 1));
+        assertTrue(exception.getValidationErrors().containsKey("items[1].price"));
+    }
+
+    @Test
+    void add_ConflictingPriceWithLowest_MergesAtLowestPrice() {
+        // Arrange
+        properties.setPriceConflict(PriceConflictPolicy.LOWEST);
+        Order order = new Order("customer-1");
+        OrderLineConsolidator.Lines lines = consolidator.open(order, 3);
+
+        // Act
+        lines.add(new OrderItem("A1", 1, new BigDecimal("10.00")), 0);
+        lines.add(new OrderItem("A1", 2, new BigDecimal("8.00")), 1);
+        lines.add(new OrderItem("A1", 1, new BigDecimal("9.00")), 2);
+
+        // Assert
+        assertEquals(1, order.getItems().size());
+        assertEquals(4, order.getItems().get(0).getQuantity());
+        assertEquals(0, new BigDecimal("8.00").compareTo(order.getItems().get(0).getPrice()));
+        assertEquals(0, new BigDecimal("32.00").compareTo(order.getTotalPrice()));
+    }
+
+    @Test
+    void add_MergedQuantityOverflows_ReportsTheLine() {
+        // Arrange
+        Order order = new Order("customer-1");
+        OrderLineConsolidator.Lines lines = consolidator.open(order, 2);
+        lines.add(new OrderItem("A1", Integer.MAX_VALUE, new BigDecimal("1.00")), 0);
+
+        // Act & Assert
+        InvalidOrderPayloadException exception = assertThrows(InvalidOrderPayloadException.class,
+            () -> lines.add(new OrderItem("A1", 1, new BigDecimal("1.00")), 1));
+        assertTrue(exception.getValidationErrors().containsKey("items[1].quantity"));
+    }
+
+    @Test
+    void add_Disabled_KeepsEveryLine() {
+        // Arrange
+        properties.setEnabled(false);
+        Order order = new Order("customer-1");
+        OrderLineConsolidator.Lines lines = consolidator.open(order, 2);
+
+        // Act
+        lines.add(new OrderItem("A1", 1, new BigDecimal("10.00")), 0);
+        lines.add(new OrderItem("A1", 1, new BigDecimal("10.00")), 1);
+
+        // Assert
+        assertEquals(2, order.getItems().size());
+    }
+
+    @Test
+    void add_ManyProductsWithUnknownCount_MergesEachProduct() {
+        // Arrange
+        Order order = new Order("customer-1");
+        OrderLineConsolidator.Lines lines = consolidator.open(order, -1);
+
+        // Act
+        for (int i = 0; i < 30_000; i++) {
+            lines.add(new OrderItem("P-" + (i % 10_000), 1, new BigDecimal("0.50")), i);
+        }
+
+        // Assert
+        assertEquals(10_000, order.getItems().size());
+        assertTrue(order.getItems().stream().allMatch(item -> item.getQuantity() == 3));
+        assertEquals(0, new BigDecimal("15000.00").compareTo(order.getTotalPrice()));
+    }
+}
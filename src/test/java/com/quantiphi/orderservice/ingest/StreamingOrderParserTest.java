@@ -0,0 +1,140 @@
+package com.quantiphi.orderservice.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quantiphi.orderservice.domain.Order;
+import com.quantiphi.orderservice.exception.InvalidOrderPayloadException;
+import com.quantiphi.orderservice.exception.PayloadTooLargeException;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingOrderParserTest {
+
+    private OrderIngestProperties properties;
+    private StreamingOrderParser parser;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OrderIngestProperties();
+        parser = new StreamingOrderParser(new ObjectMapper(),
+            Validation.buildDefaultValidatorFactory().getValidator(), properties,
+            new OrderLineConsolidator(new LineConsolidationProperties()));
+    }
+
+    @Test
+    void parse_ValidPayload_BuildsOrderWithItemsAndTotal() {
+        // Arrange
+        String json = "{\"customerId\":\"customer-1\",\"note\":{\"ignored\":[1,2]},\"items\":["
+            + "{\"productId\":\"A1\",\"quantity\":2,\"price\":10.00},"
+            + "{\"productId\":\"B2\",\"quantity\":1,\"price\":5.50}]}";
+
+        // Act
+        Order order = parser.parse(body(json), json.length());
+
+        // Assert
+        assertEquals("customer-1", order.getCustomerId());
+        assertEquals(2, order.getItems().size());
+        assertEquals(0, new BigDecimal("25.50").compareTo(order.getTotalPrice()));
+        assertSame(order, order.getItems().get(0).getOrder());
+    }
+
+    @Test
+    void parse_ItemsBeforeCustomerId_BuildsOrder() {
+        // Arrange
+        String json = "{\"items\":[{\"productId\":\"A1\",\"quantity\":3,\"price\":1.00}],\"customerId\":\"customer-2\"}";
+
+        // Act
+        Order order = parser.parse(body(json), -1);
+
+        // Assert
+        assertEquals("customer-2", order.getCustomerId());
+        assertEquals(1, order.getItems().size());
+        assertEquals(0, new BigDecimal("3.00").compareTo(order.getTotalPrice()));
+    }
+
+    @Test
+    void parse_RepeatedProductAcrossCustomerId_MergesLines() {
+        // Arrange
+        String json = "{\"items\":[{\"productId\":\"A1\",\"quantity\":1,\"price\":2.00}],"
+            + "\"customerId\":\"customer-3\",\"items\":[{\"productId\":\"A1\",\"quantity\":2,\"price\":2.00}]}";
+
+        // Act
+        Order order = parser.parse(body(json), -1);
+
+        // Assert
+        assertEquals(1, order.getItems().size());
+        assertEquals(3, order.getItems().get(0).getQuantity());
+        assertEquals(0, new BigDecimal("6.00").compareTo(order.getTotalPrice()));
+    }
+
+    @Test
+    void parse_InvalidItem_ReportsItemIndexAndField() {
+        // Arrange
+        String json = "{\"customerId\":\"customer-1\",\"items\":["
+            + "{\"productId\":\"A1\",\"quantity\":1,\"price\":1.00},"
+            + "{\"productId\":\"A2\",\"quantity\":1,\"price\":0}]}";
+
+        // Act
+        InvalidOrderPayloadException ex = assertThrows(InvalidOrderPayloadException.class,
+            () -> parser.parse(body(json), -1));
+
+        // Assert
+        assertTrue(ex.getValidationErrors().containsKey("items[1].price"));
+    }
+
+    @Test
+    void parse_MissingCustomerOrItems_ReportsValidationErrors() {
+        InvalidOrderPayloadException noCustomer = assertThrows(InvalidOrderPayloadException.class,
+            () -> parser.parse(body("{\"items\":[{\"productId\":\"A1\",\"quantity\":1,\"price\":1.00}]}"), -1));
+        InvalidOrderPayloadException noItems = assertThrows(InvalidOrderPayloadException.class,
+            () -> parser.parse(body("{\"customerId\":\"customer-1\",\"items\":[]}"), -1));
+
+        assertTrue(noCustomer.getValidationErrors().containsKey("customerId"));
+        assertTrue(noItems.getValidationErrors().containsKey("items"));
+    }
+
+    @Test
+    void parse_MalformedJson_ThrowsInvalidPayload() {
+        assertThrows(InvalidOrderPayloadException.class,
+            () -> parser.parse(body("{\"customerId\":\"customer-1\",\"items\":[{"), -1));
+        assertThrows(InvalidOrderPayloadException.class,
+            () -> parser.parse(body("[]"), -1));
+    }
+
+    @Test
+    void parse_TooManyItems_ThrowsPayloadTooLarge() {
+        // Arrange
+        properties.setMaxItems(1);
+        String json = "{\"customerId\":\"customer-1\",\"items\":["
+            + "{\"productId\":\"A1\",\"quantity\":1,\"price\":1.00},"
+            + "{\"productId\":\"A2\",\"quantity\":1,\"price\":1.00}]}";
+
+        // Act & Assert
+        assertThrows(PayloadTooLargeException.class, () -> parser.parse(body(json), -1));
+    }
+
+    @Test
+    void parse_PayloadLargerThanLimit_ThrowsPayloadTooLarge() {
+        // Arrange
+        properties.setMaxPayloadSize(DataSize.ofBytes(64));
+        String json = "{\"customerId\":\"customer-1\",\"items\":["
+            + "{\"productId\":\"A1\",\"quantity\":1,\"price\":1.00},"
+            + "{\"productId\":\"A2\",\"quantity\":1,\"price\":1.00}]}";
+
+        // Act & Assert
+        assertThrows(PayloadTooLargeException.class, () -> parser.parse(body(json), json.length()));
+        assertThrows(PayloadTooLargeException.class, () -> parser.parse(body(json), -1));
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,91 @@
+package com.quantiphi.orderservice.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quantiphi.orderservice.cache.LoopbackInvalidationTransport;
+import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.dto.CreateOrderRequest;
+import com.quantiphi.orderservice.dto.OrderItemRequest;
+import com.quantiphi.orderservice.dto.UpdateOrderStatusRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for keeping cached orders coherent across replicas.
+ * A status change made by another replica is simulated by updating the database
+ * directly and publishing its invalidation through a second loopback transport.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class CacheCoherenceIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void getOrder_StatusChangedOnThisReplica_ServesNewStatus() throws Exception {
+        long orderId = createOrder("customer-coherence-local");
+        getOrder(orderId).andExpect(jsonPath("$.status").value("CREATED"));
+
+        mockMvc.perform(patch("/api/v1/orders/" + orderId + "/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new UpdateOrderStatusRequest(OrderStatus.PROCESSING))))
+            .andExpect(status().isOk());
+
+        getOrder(orderId).andExpect(jsonPath("$.status").value("PROCESSING"));
+    }
+
+    @Test
+    void getOrder_StatusChangedOnOtherReplica_ServesNewStatusOnceInvalidated() throws Exception {
+        long orderId = createOrder("customer-coherence-remote");
+        getOrder(orderId).andExpect(jsonPath("$.status").value("CREATED"));
+
+        // Another replica commits a transition; this one has not heard of it yet
+        jdbcTemplate.update("update orders set status = 'PROCESSING', version = version + 1 where id = ?", orderId);
+        getOrder(orderId).andExpect(jsonPath("$.status").value("CREATED"));
+
+        LoopbackInvalidationTransport otherReplica = new LoopbackInvalidationTransport();
+        otherReplica.start(id -> { });
+        try {
+            otherReplica.publish(orderId);
+        } finally {
+            otherReplica.stop();
+        }
+
+        getOrder(orderId)
+            .andExpect(jsonPath("$.status").value("PROCESSING"))
+            .andExpect(header().string("ETag", "W/\"" + orderId + "-1\""));
+    }
+
+    private long createOrder(String customerId) throws Exception {
+        CreateOrderRequest request = new CreateOrderRequest(customerId,
+            List.of(new OrderItemRequest("PROD-COHERENCE", 1, BigDecimal.valueOf(3.00))));
+        String created = mockMvc.perform(post("/api/v1/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(created).get("id").asLong();
+    }
+
+    private ResultActions getOrder(long orderId) throws Exception {
+        return mockMvc.perform(get("/api/v1/orders/" + orderId)).andExpect(status().isOk());
+    }
+}
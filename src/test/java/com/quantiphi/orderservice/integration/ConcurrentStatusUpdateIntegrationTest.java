@@ -0,0 +1,122 @@
+package com.quantiphi.orderservice.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.dto.CreateOrderRequest;
+import com.quantiphi.orderservice.dto.OrderItemRequest;
+import com.quantiphi.orderservice.dto.UpdateOrderStatusRequest;
+import com.quantiphi.orderservice.event.OrderStatusChangedEvent;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for two status updates of one order racing each other.
+ * A listener holds the first update's transaction open after it has read the
+ * order, so the second update commits in between.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ConcurrentStatusUpdateIntegrationTest {
+
+    private static final CountDownLatch firstUpdateRead = new CountDownLatch(1);
+    private static final CountDownLatch secondUpdateCommitted = new CountDownLatch(1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @TestConfiguration
+    static class PausingListenerConfig {
+
+        @EventListener
+        public void onStatusChanged(OrderStatusChangedEvent event) throws InterruptedException {
+            // Runs inside the updating transaction, before it commits
+            if (event.getNewStatus() == OrderStatus.PROCESSING) {
+                firstUpdateRead.countDown();
+                secondUpdateCommitted.await(10, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    @Test
+    void updateStatus_ConcurrentUpdateCommittedFirst_Returns409(@TempDir Path directory) throws Exception {
+        // Arrange
+        CreateOrderRequest request = new CreateOrderRequest("customer-race",
+            List.of(new OrderItemRequest("PROD-RACE", 1, BigDecimal.TEN)));
+        MvcResult created = mockMvc.perform(post("/api/v1/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andReturn();
+        long orderId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+
+        Path file = directory.resolve("race.jfr");
+        MvcResult second;
+        MvcResult lost;
+        try (Recording recording = new Recording()) {
+            recording.enable("com.quantiphi.orders.StatusTransition").withThreshold(Duration.ZERO);
+            recording.start();
+
+            // Act
+            CompletableFuture<MvcResult> first =
+                CompletableFuture.supplyAsync(() -> updateStatus(orderId, OrderStatus.PROCESSING));
+            assertTrue(firstUpdateRead.await(10, TimeUnit.SECONDS));
+            second = updateStatus(orderId, OrderStatus.CANCELLED);
+            secondUpdateCommitted.countDown();
+            lost = first.get(10, TimeUnit.SECONDS);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Assert
+        assertEquals(200, second.getResponse().getStatus());
+        assertEquals(409, lost.getResponse().getStatus());
+        assertEquals("Conflict", objectMapper.readTree(lost.getResponse().getContentAsString()).get("error").asText());
+        mockMvc.perform(get("/api/v1/orders/" + orderId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("CANCELLED"));
+        List<String> outcomes = RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().equals("com.quantiphi.orders.StatusTransition"))
+            .filter(event -> event.getLong("orderId") == orderId)
+            .map(event -> event.getString("toStatus") + ":" + event.getString("outcome"))
+            .sorted()
+            .toList();
+        assertEquals(List.of("CANCELLED:APPLIED", "PROCESSING:FAILED"), outcomes);
+    }
+
+    private MvcResult updateStatus(long orderId, OrderStatus status) {
+        try {
+            return mockMvc.perform(patch("/api/v1/orders/" + orderId + "/status")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new UpdateOrderStatusRequest(status))))
+                .andReturn();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.quantiphi.orderservice.integration;
+
+import com.quantiphi.orderservice.datasource.ConnectionPoolProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for connection pool sizing and metrics.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ConnectionPoolIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ConnectionPoolProperties properties;
+
+    @Test
+    void connectionPool_IsSizedFromDatabaseCoresAndPublishesMetrics() throws Exception {
+        HikariDataSource pool = assertInstanceOf(HikariDataSource.class, dataSource);
+        assertEquals("orders", pool.getPoolName());
+        assertEquals(properties.recommendedPoolSize(), pool.getMaximumPoolSize());
+        assertEquals(pool.getMaximumPoolSize(), pool.getMinimumIdle());
+        assertEquals(30_000, pool.getLeakDetectionThreshold());
+
+        mockMvc.perform(get("/actuator/metrics/hikaricp.connections.max").param("tag", "pool:orders"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.measurements[0].value").value((double) properties.recommendedPoolSize()));
+    }
+}
@@ -0,0 +1,84 @@
+package com.quantiphi.orderservice.integration;
+
+import com.quantiphi.orderservice.domain.Order;
+import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.dto.CreateOrderRequest;
+import com.quantiphi.orderservice.dto.OrderItemRequest;
+import com.quantiphi.orderservice.dto.OrderResponse;
+import com.quantiphi.orderservice.service.OrderService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the second-level cache of orders and items.
+ */
+@SpringBootTest
+class EntityCacheIntegrationTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getOrder_RepeatedAcrossTransactions_IsServedWithoutQueries() {
+        // Arrange
+        Long orderId = orderService.createOrder(new CreateOrderRequest("customer-cache", List.of(
+            new OrderItemRequest("CACHE-1", 2, BigDecimal.valueOf(5.00)),
+            new OrderItemRequest("CACHE-2", 1, BigDecimal.valueOf(7.50))))).getId();
+        orderService.getOrder(orderId);
+        statistics.clear();
+
+        // Act
+        OrderResponse response = orderService.getOrder(orderId);
+
+        // Assert
+        assertEquals(2, response.getItems().size());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getDomainDataRegionStatistics(Order.CACHE_REGION).getHitCount() > 0);
+        assertTrue(statistics.getDomainDataRegionStatistics(Order.ITEMS_CACHE_REGION).getHitCount() > 0);
+    }
+
+    @Test
+    void updateOrderStatus_CachedOrder_ReturnsNewStatusOnNextRead() {
+        // Arrange
+        Long orderId = orderService.createOrder(new CreateOrderRequest("customer-cache", List.of(
+            new OrderItemRequest("CACHE-3", 1, BigDecimal.valueOf(3.00))))).getId();
+        orderService.getOrder(orderId);
+
+        // Act
+        orderService.updateOrderStatus(orderId, OrderStatus.PROCESSING);
+
+        // Assert
+        assertEquals(OrderStatus.PROCESSING, orderService.getOrder(orderId).getStatus());
+    }
+
+    @Test
+    void metrics_ExposeHitRatioPerRegion() {
+        assertNotNull(meterRegistry.find("orders.cache.entity.hit.ratio").tag("region", Order.CACHE_REGION).gauge());
+        assertNotNull(meterRegistry.find("orders.cache.entity.hits").tag("region", Order.ITEMS_CACHE_REGION)
+            .functionCounter());
+    }
+}
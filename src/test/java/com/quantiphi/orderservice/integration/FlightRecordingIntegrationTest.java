@@ -0,0 +1,129 @@
+package com.quantiphi.orderservice.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.dto.CreateOrderRequest;
+import com.quantiphi.orderservice.dto.OrderItemRequest;
+import com.quantiphi.orderservice.dto.UpdateOrderStatusRequest;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the order Flight Recorder events and the recording endpoint.
+ */
+@SpringBootTest(properties = {
+    "orders.profiling.recording.dump-directory=target/test-recordings",
+    "management.endpoints.web.exposure.include=health,flightrecording"
+})
+@AutoConfigureMockMvc
+class FlightRecordingIntegrationTest {
+
+    private static final List<String> ORDER_EVENTS = List.of(
+        "com.quantiphi.orders.OrderCreation",
+        "com.quantiphi.orders.StatusTransition",
+        "com.quantiphi.orders.RepositoryCall",
+        "com.quantiphi.orders.ResponseMapping");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void orderLifecycle_EmitsOrderEvents(@TempDir Path directory) throws Exception {
+        // Arrange
+        Path file = directory.resolve("orders.jfr");
+        long orderId;
+        try (Recording recording = new Recording()) {
+            for (String event : ORDER_EVENTS) {
+                recording.enable(event).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+
+            // Act
+            CreateOrderRequest request = new CreateOrderRequest("customer-jfr", List.of(
+                new OrderItemRequest("PROD-1", 2, BigDecimal.valueOf(7.50)),
+                new OrderItemRequest("PROD-2", 1, BigDecimal.valueOf(5.00))));
+            String created = mockMvc.perform(post("/api/v1/orders")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+            orderId = objectMapper.readTree(created).get("id").asLong();
+            updateStatus(orderId, OrderStatus.PROCESSING).andExpect(status().isOk());
+            updateStatus(orderId, OrderStatus.CREATED).andExpect(status().isBadRequest());
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Assert
+        long createdId = orderId;
+        Map<String, List<RecordedEvent>> events = RecordingFile.readAllEvents(file).stream()
+            .collect(Collectors.groupingBy(event -> event.getEventType().getName()));
+        RecordedEvent creation = events.get("com.quantiphi.orders.OrderCreation").stream()
+            .filter(event -> event.getLong("orderId") == createdId)
+            .findFirst().orElseThrow();
+        assertEquals("customer-jfr", creation.getString("customerId"));
+        assertEquals(2, creation.getInt("itemCount"));
+        assertEquals(20.0, creation.getDouble("totalPrice"), 0.001);
+        List<String> outcomes = events.get("com.quantiphi.orders.StatusTransition").stream()
+            .filter(event -> event.getLong("orderId") == createdId)
+            .map(event -> event.getString("fromStatus") + "->" + event.getString("toStatus")
+                + ":" + event.getString("outcome"))
+            .collect(Collectors.toList());
+        assertEquals(List.of("CREATED->PROCESSING:APPLIED", "PROCESSING->CREATED:REJECTED"), outcomes);
+        assertTrue(events.get("com.quantiphi.orders.RepositoryCall").stream()
+            .anyMatch(event -> event.getString("method").equals("save")));
+        assertTrue(events.get("com.quantiphi.orders.ResponseMapping").stream()
+            .anyMatch(event -> event.getLong("orderId") == createdId && event.getInt("itemCount") == 2));
+    }
+
+    @Test
+    void flightRecordingEndpoint_StartDumpAndStop() throws Exception {
+        mockMvc.perform(post("/actuator/flightrecording/start"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.running").value(true));
+
+        String dump = mockMvc.perform(post("/actuator/flightrecording/dump"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        Path file = Path.of(objectMapper.readTree(dump).get("file").asText());
+        assertTrue(Files.size(file) > 0);
+        assertFalse(RecordingFile.readAllEvents(file).isEmpty());
+
+        mockMvc.perform(delete("/actuator/flightrecording"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.running").value(false));
+        mockMvc.perform(post("/actuator/flightrecording/dump"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private ResultActions updateStatus(long orderId, OrderStatus status) throws Exception {
+        return mockMvc.perform(patch("/api/v1/orders/" + orderId + "/status")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new UpdateOrderStatusRequest(status))));
+    }
+}
@@ -0,0 +1,96 @@
+package com.quantiphi.orderservice.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.dto.CreateOrderRequest;
+import com.quantiphi.orderservice.dto.OrderItemRequest;
+import com.quantiphi.orderservice.service.OrderService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for HTTP/2 and response compression against the embedded server.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class HttpCompressionIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build();
+
+    @Test
+    void getOrder_LargeCompletedOrder_IsServedGzippedOverHttp2() throws Exception {
+        // Arrange
+        Long orderId = createOrder(300);
+        orderService.updateOrderStatus(orderId, OrderStatus.PROCESSING);
+        orderService.updateOrderStatus(orderId, OrderStatus.COMPLETED);
+
+        // Act
+        HttpResponse<byte[]> first = get(orderId, "gzip");
+        HttpResponse<byte[]> cached = get(orderId, "gzip");
+
+        // Assert
+        assertEquals(HttpClient.Version.HTTP_2, first.version());
+        for (HttpResponse<byte[]> response : List.of(first, cached)) {
+            assertEquals(200, response.statusCode());
+            assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElse(null));
+            JsonNode order = objectMapper.readTree(new GZIPInputStream(new ByteArrayInputStream(response.body())));
+            assertEquals(300, order.get("items").size());
+            assertEquals("COMPLETED", order.get("status").asText());
+        }
+        assertEquals(first.headers().firstValue("ETag"), cached.headers().firstValue("ETag"));
+    }
+
+    @Test
+    void getOrder_WithoutAcceptEncoding_IsNotCompressed() throws Exception {
+        // Arrange
+        Long orderId = createOrder(300);
+
+        // Act
+        HttpResponse<byte[]> response = get(orderId, null);
+
+        // Assert
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Encoding").isEmpty());
+        assertEquals(300, objectMapper.readTree(response.body()).get("items").size());
+    }
+
+    private Long createOrder(int itemCount) {
+        List<OrderItemRequest> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new OrderItemRequest("BULK-" + i, 1 + i % 5, BigDecimal.valueOf(4.99)));
+        }
+        return orderService.createOrder(new CreateOrderRequest("customer-compression", items)).getId();
+    }
+
+    private HttpResponse<byte[]> get(Long orderId, String acceptEncoding) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(
+            URI.create("http://localhost:" + port + "/api/v1/orders/" + orderId));
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
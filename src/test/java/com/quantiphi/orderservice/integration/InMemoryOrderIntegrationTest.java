@@ -0,0 +1,79 @@
+package com.quantiphi.orderservice.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.dto.CreateOrderRequest;
+import com.quantiphi.orderservice.dto.OrderItemRequest;
+import com.quantiphi.orderservice.dto.UpdateOrderStatusRequest;
+import com.quantiphi.orderservice.repository.OrderRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the order API on the in-memory order store.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("in-memory")
+class InMemoryOrderIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Test
+    void orderLifecycle_RunsWithoutADatabase() throws Exception {
+        // Arrange
+        assertTrue(context.getBeanProvider(DataSource.class).stream().findAny().isEmpty());
+        CreateOrderRequest request = new CreateOrderRequest("customer-in-memory", List.of(
+            new OrderItemRequest("PROD-MEM-001", 2, BigDecimal.valueOf(15.50)),
+            new OrderItemRequest("PROD-MEM-002", 1, BigDecimal.valueOf(25.00))));
+
+        // Act
+        String created = mockMvc.perform(post("/api/v1/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.totalPrice").value(56.00))
+            .andReturn().getResponse().getContentAsString();
+        long orderId = objectMapper.readTree(created).get("id").asLong();
+
+        mockMvc.perform(patch("/api/v1/orders/" + orderId + "/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new UpdateOrderStatusRequest(OrderStatus.PROCESSING))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("PROCESSING"));
+
+        // Assert
+        mockMvc.perform(get("/api/v1/orders/" + orderId))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "W/\"" + orderId + "-1\""))
+            .andExpect(jsonPath("$.items.length()").value(2));
+        mockMvc.perform(get("/api/v1/orders/search").param("productId", "PROD-MEM-002"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").value(orderId));
+        assertEquals(OrderStatus.PROCESSING, orderRepository.findById(orderId).orElseThrow().getStatus());
+    }
+}
@@ -1,10 +1,13 @@
 package com.quantiphi.orderservice.integration;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.quantiphi.orderservice.domain.OrderStatus;
 import com.quantiphi.orderservice.dto.CreateOrderRequest;
+import com.quantiphi.orderservice.dto.MultiGetOrdersRequest;
 import com.quantiphi.orderservice.dto.OrderItemRequest;
 import com.quantiphi.orderservice.dto.UpdateOrderStatusRequest;
+import com.quantiphi.orderservice.event.OrderStatusEventBus;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -14,8 +17,13 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -33,6 +41,9 @@ class OrderIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private OrderStatusEventBus eventBus;
+
     @Test
     void completeOrderLifecycle_CreateRetrieveAndUpdateStatus_Success() throws Exception {
         // Step 1: Create an order
@@ -88,6 +99,44 @@ class OrderIntegrationTest {
             .andExpect(jsonPath("$.status").value("COMPLETED"));
     }
 
+    @Test
+    void getOrder_IfNoneMatch_ReturnsNotModifiedUntilStatusChanges() throws Exception {
+        // Create an order
+        CreateOrderRequest createRequest = new CreateOrderRequest(
+            "customer-etag-test",
+            List.of(new OrderItemRequest("PROD-001", 1, BigDecimal.valueOf(10.00)))
+        );
+
+        MvcResult createResult = mockMvc.perform(post("/api/v1/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createRequest)))
+            .andExpect(status().isCreated())
+            .andReturn();
+
+        Long orderId = objectMapper.readTree(createResult.getResponse().getContentAsString()).get("id").asLong();
+
+        // First retrieval returns the ETag
+        String eTag = mockMvc.perform(get("/api/v1/orders/" + orderId))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("ETag"))
+            .andReturn().getResponse().getHeader("ETag");
+
+        // Unchanged order is not re-sent
+        mockMvc.perform(get("/api/v1/orders/" + orderId).header("If-None-Match", eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+
+        // A status change invalidates the ETag
+        mockMvc.perform(patch("/api/v1/orders/" + orderId + "/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new UpdateOrderStatusRequest(OrderStatus.PROCESSING))))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/orders/" + orderId).header("If-None-Match", eTag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("PROCESSING"));
+    }
+
     @Test
     void invalidStatusTransition_ReturnsBadRequest() throws Exception {
         // Create an order
@@ -136,4 +185,218 @@ class OrderIntegrationTest {
             .andExpect(status().isBadRequest())
             .andExpect(jsonPath("$.validationErrors").exists());
     }
+
+    @Test
+    void createOrder_RepeatedProduct_ReturnsOneItemPerProduct() throws Exception {
+        CreateOrderRequest createRequest = new CreateOrderRequest(
+            "customer-repeated-lines",
+            List.of(
+                new OrderItemRequest("PROD-REPEAT-001", 2, BigDecimal.valueOf(4.00)),
+                new OrderItemRequest("PROD-REPEAT-002", 1, BigDecimal.valueOf(10.00)),
+                new OrderItemRequest("PROD-REPEAT-001", 3, BigDecimal.valueOf(4.00))
+            )
+        );
+
+        mockMvc.perform(post("/api/v1/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createRequest)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.items.length()").value(2))
+            .andExpect(jsonPath("$.items[0].productId").value("PROD-REPEAT-001"))
+            .andExpect(jsonPath("$.items[0].quantity").value(5))
+            .andExpect(jsonPath("$.items[0].subtotal").value(20.00))
+            .andExpect(jsonPath("$.totalPrice").value(30.00));
+    }
+
+    @Test
+    void createOrderStreaming_LargeOrder_ReturnsSummaryAndPersistsAllItems() throws Exception {
+        // Arrange
+        int itemCount = 2_000;
+        StringBuilder payload = new StringBuilder("{\"items\":[");
+        for (int i = 0; i < itemCount; i++) {
+            if (i > 0) {
+                payload.append(',');
+            }
+            payload.append("{\"productId\":\"BULK-").append(i).append("\",\"quantity\":1,\"price\":0.50}");
+        }
+        payload.append("],\"customerId\":\"customer-streamed\"}");
+
+        // Act
+        MvcResult result = mockMvc.perform(post("/api/v1/orders/stream")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(payload.toString()))
+            .andExpect(status().isCreated())
+            .andExpect(header().exists("Location"))
+            .andExpect(jsonPath("$.customerId").value("customer-streamed"))
+            .andExpect(jsonPath("$.itemCount").value(itemCount))
+            .andExpect(jsonPath("$.totalPrice").value(1000.00))
+            .andExpect(jsonPath("$.items").doesNotExist())
+            .andReturn();
+
+        // Assert
+        Long orderId = objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+        mockMvc.perform(get("/api/v1/orders/" + orderId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items.length()").value(itemCount));
+    }
+
+    @Test
+    void createOrderStreaming_InvalidItem_ReturnsBadRequestNamingTheItem() throws Exception {
+        String payload = "{\"customerId\":\"customer-streamed\",\"items\":["
+            + "{\"productId\":\"PROD-001\",\"quantity\":1,\"price\":10.00},"
+            + "{\"productId\":\"PROD-002\",\"quantity\":0,\"price\":10.00}]}";
+
+        mockMvc.perform(post("/api/v1/orders/stream")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(payload))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.validationErrors['items[1].quantity']").exists());
+    }
+
+    @Test
+    void searchOrders_ByProductAndCustomerStatus_ReturnsIndexedOrders() throws Exception {
+        // Create an order containing a product no other test uses
+        CreateOrderRequest createRequest = new CreateOrderRequest(
+            "customer-search-test",
+            List.of(new OrderItemRequest("PROD-SEARCH-001", 3, BigDecimal.valueOf(5.00)))
+        );
+
+        MvcResult createResult = mockMvc.perform(post("/api/v1/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createRequest)))
+            .andExpect(status().isCreated())
+            .andReturn();
+
+        Long orderId = objectMapper.readTree(createResult.getResponse().getContentAsString()).get("id").asLong();
+
+        mockMvc.perform(get("/api/v1/orders/search").param("productId", "PROD-SEARCH-001"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].id").value(orderId));
+
+        mockMvc.perform(get("/api/v1/orders/search")
+                .param("customerId", "customer-search-test")
+                .param("status", "CANCELLED"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(0));
+
+        mockMvc.perform(get("/api/v1/orders/search"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getOrders_MixOfExistingAndUnknownIds_ReturnsOrdersAndMissing() throws Exception {
+        List<Long> orderIds = new ArrayList<>();
+        for (int i = 1; i <= 2; i++) {
+            CreateOrderRequest createRequest = new CreateOrderRequest(
+                "customer-mget-test",
+                List.of(new OrderItemRequest("PROD-MGET-" + i, i, BigDecimal.valueOf(4.00)),
+                    new OrderItemRequest("PROD-MGET-X", 1, BigDecimal.valueOf(1.00)))
+            );
+            MvcResult createResult = mockMvc.perform(post("/api/v1/orders")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(createRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+            orderIds.add(objectMapper.readTree(createResult.getResponse().getContentAsString()).get("id").asLong());
+        }
+
+        MultiGetOrdersRequest request = new MultiGetOrdersRequest(List.of(orderIds.get(1), 999999L, orderIds.get(0)));
+        mockMvc.perform(post("/api/v1/orders/_mget")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.orders.length()").value(2))
+            .andExpect(jsonPath("$.orders[0].id").value(orderIds.get(1)))
+            .andExpect(jsonPath("$.orders[0].items.length()").value(2))
+            .andExpect(jsonPath("$.orders[1].id").value(orderIds.get(0)))
+            .andExpect(jsonPath("$.orders[1].items[0].productId").value("PROD-MGET-1"))
+            .andExpect(jsonPath("$.missing[0]").value(999999));
+
+        mockMvc.perform(post("/api/v1/orders/_mget")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\":[]}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getLiveStats_AfterCreateAndTransition_CountsBoth() throws Exception {
+        CreateOrderRequest createRequest = new CreateOrderRequest(
+            "customer-stats-test",
+            List.of(new OrderItemRequest("PROD-STATS-001", 2, BigDecimal.valueOf(12.50)))
+        );
+        MvcResult createResult = mockMvc.perform(post("/api/v1/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createRequest)))
+            .andExpect(status().isCreated())
+            .andReturn();
+        Long orderId = objectMapper.readTree(createResult.getResponse().getContentAsString()).get("id").asLong();
+        mockMvc.perform(patch("/api/v1/orders/" + orderId + "/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new UpdateOrderStatusRequest(OrderStatus.CANCELLED))))
+            .andExpect(status().isOk());
+
+        String stats = mockMvc.perform(get("/api/v1/orders/stats/live"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.lastMinute.seconds").value(60))
+            .andExpect(jsonPath("$.lastHour.seconds").value(3600))
+            .andExpect(jsonPath("$.ordersCreatedPerSecond.length()").value(60))
+            .andReturn().getResponse().getContentAsString();
+        JsonNode lastMinute = objectMapper.readTree(stats).get("lastMinute");
+        assertTrue(lastMinute.get("ordersCreated").asLong() >= 1);
+        assertTrue(lastMinute.get("revenue").decimalValue().compareTo(BigDecimal.valueOf(25)) >= 0);
+        assertTrue(lastMinute.get("transitions").get("CANCELLED").asLong() >= 1);
+    }
+
+    @Test
+    void flightRecordingEndpoint_NotExposedByDefault() throws Exception {
+        mockMvc.perform(get("/actuator"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$._links.health").exists())
+            .andExpect(jsonPath("$._links.flightrecording").doesNotExist());
+    }
+
+    @Test
+    void subscribeToStatusEvents_DeliversOnlyCommittedChanges() throws Exception {
+        // Create an order and subscribe to it
+        CreateOrderRequest createRequest = new CreateOrderRequest(
+            "customer-events",
+            List.of(new OrderItemRequest("PROD-001", 1, BigDecimal.valueOf(10.00)))
+        );
+        MvcResult createResult = mockMvc.perform(post("/api/v1/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createRequest)))
+            .andExpect(status().isCreated())
+            .andReturn();
+        Long orderId = objectMapper.readTree(createResult.getResponse().getContentAsString()).get("id").asLong();
+
+        int subscriptionsBefore = eventBus.getSubscriptionCount();
+        MvcResult stream = mockMvc.perform(get("/api/v1/orders/" + orderId + "/events"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        assertEquals(subscriptionsBefore + 1, eventBus.getSubscriptionCount());
+
+        // A rejected transition is not delivered; a committed one is
+        mockMvc.perform(patch("/api/v1/orders/" + orderId + "/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new UpdateOrderStatusRequest(OrderStatus.COMPLETED))))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(patch("/api/v1/orders/" + orderId + "/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new UpdateOrderStatusRequest(OrderStatus.PROCESSING))))
+            .andExpect(status().isOk());
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String events = stream.getResponse().getContentAsString();
+        while (!events.contains("PROCESSING") && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            events = stream.getResponse().getContentAsString();
+        }
+        assertTrue(events.contains("id:" + orderId + "-PROCESSING"), events);
+        assertFalse(events.contains("COMPLETED"), events);
+
+        // Closing the stream releases the subscription
+        stream.getRequest().getAsyncContext().complete();
+        assertEquals(subscriptionsBefore, eventBus.getSubscriptionCount());
+    }
 }
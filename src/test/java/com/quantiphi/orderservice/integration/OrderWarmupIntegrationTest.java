@@ -0,0 +1,50 @@
+package com.quantiphi.orderservice.integration;
+
+import com.quantiphi.orderservice.repository.CustomerOrderRef;
+import com.quantiphi.orderservice.repository.OrderRepository;
+import com.quantiphi.orderservice.warmup.OrderWarmup;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the warm-up run before the instance reports ready.
+ */
+@SpringBootTest(properties = {
+    "orders.warmup.enabled=true",
+    "orders.warmup.iterations=40",
+    "orders.warmup.threads=2"
+})
+@AutoConfigureMockMvc
+class OrderWarmupIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderWarmup orderWarmup;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Test
+    void warmup_RunsBeforeReadyAndLeavesNoOrdersBehind() throws Exception {
+        assertEquals(40, orderWarmup.getCompletedIterations());
+        assertTrue(orderRepository.findAllCustomerOrderRefs().stream()
+            .map(CustomerOrderRef::getCustomerId)
+            .noneMatch(customerId -> customerId.startsWith("warmup-")));
+
+        mockMvc.perform(get("/api/v1/orders/search").param("productId", "WARMUP-1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(0));
+        mockMvc.perform(get("/actuator/health/readiness"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("UP"));
+    }
+}
@@ -0,0 +1,104 @@
+package com.quantiphi.orderservice.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quantiphi.orderservice.archive.OrderArchivalJob;
+import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.dto.CreateOrderRequest;
+import com.quantiphi.orderservice.dto.OrderItemRequest;
+import com.quantiphi.orderservice.dto.UpdateOrderStatusRequest;
+import com.quantiphi.orderservice.shard.OrderShards;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration test for archiving terminal orders held on several shards.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("sharded")
+class ShardedOrderArchivalIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OrderShards orderShards;
+
+    @Autowired
+    private OrderArchivalJob archivalJob;
+
+    @DynamicPropertySource
+    static void archiveDirectory(DynamicPropertyRegistry registry) throws IOException {
+        String directory = Files.createTempDirectory("sharded-archive").toString();
+        registry.add("orders.archive.directory", () -> directory);
+    }
+
+    @Test
+    void archiveOrdersUpdatedBefore_OrdersOnSeveralShards_ArchivesEveryShard() throws Exception {
+        // Arrange
+        Map<Long, String> customersByOrder = new LinkedHashMap<>();
+        Set<Integer> usedShards = new HashSet<>();
+        for (int i = 0; i < 8; i++) {
+            String customerId = "archived-sharded-customer-" + i;
+            long orderId = createOrder(customerId);
+            mockMvc.perform(patch("/api/v1/orders/{id}/status", orderId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new UpdateOrderStatusRequest(OrderStatus.CANCELLED))))
+                .andExpect(status().isOk());
+            customersByOrder.put(orderId, customerId);
+            usedShards.add(orderShards.shardForCustomer(customerId));
+        }
+        assertTrue(usedShards.stream().anyMatch(shard -> shard > 0));
+
+        // Act
+        int archived = archivalJob.archiveOrdersUpdatedBefore(LocalDateTime.now().plusMinutes(1));
+
+        // Assert
+        assertTrue(archived >= customersByOrder.size());
+        for (Map.Entry<Long, String> order : customersByOrder.entrySet()) {
+            mockMvc.perform(get("/api/v1/orders/{id}", order.getKey()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.customerId").value(order.getValue()))
+                .andExpect(jsonPath("$.status").value("CANCELLED"));
+        }
+        mockMvc.perform(patch("/api/v1/orders/{id}/status", customersByOrder.keySet().iterator().next())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new UpdateOrderStatusRequest(OrderStatus.PROCESSING))))
+            .andExpect(status().isBadRequest());
+    }
+
+    private long createOrder(String customerId) throws Exception {
+        CreateOrderRequest request = new CreateOrderRequest(customerId,
+            List.of(new OrderItemRequest("ARCHIVE-PROD", 1, BigDecimal.valueOf(5.00))));
+        String body = mockMvc.perform(post("/api/v1/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+}
@@ -0,0 +1,111 @@
+package com.quantiphi.orderservice.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quantiphi.orderservice.datasource.ConnectionPools;
+import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.dto.CreateOrderRequest;
+import com.quantiphi.orderservice.dto.OrderItemRequest;
+import com.quantiphi.orderservice.dto.UpdateOrderStatusRequest;
+import com.quantiphi.orderservice.shard.OrderShards;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the order API on four sharded H2 databases.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("sharded")
+class ShardedOrderIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OrderShards orderShards;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void createAndUpdateOrders_RouteToCustomerShardAndSearchAcrossShards() throws Exception {
+        // Arrange
+        Set<Integer> usedShards = new HashSet<>();
+        for (int i = 0; i < 8; i++) {
+            String customerId = "sharded-customer-" + i;
+
+            // Act
+            long orderId = createOrder(customerId, "SHARD-PROD");
+
+            // Assert
+            int shard = orderShards.shardForCustomer(customerId);
+            assertEquals(shard, OrderShards.shardOf(orderId));
+            usedShards.add(shard);
+
+            mockMvc.perform(patch("/api/v1/orders/{id}/status", orderId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new UpdateOrderStatusRequest(OrderStatus.PROCESSING))))
+                .andExpect(status().isOk());
+            mockMvc.perform(get("/api/v1/orders/{id}", orderId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.customerId").value(customerId))
+                .andExpect(jsonPath("$.status").value("PROCESSING"));
+        }
+        assertTrue(usedShards.size() > 1);
+
+        mockMvc.perform(get("/api/v1/orders/search").param("productId", "SHARD-PROD"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(8)));
+    }
+
+    @Test
+    void getOrder_NonExistingId_ReturnsNotFound() throws Exception {
+        mockMvc.perform(get("/api/v1/orders/{id}", 123456789L))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shardPools_TakeHikariSettingsAndPublishMetrics() throws Exception {
+        List<HikariDataSource> pools = ConnectionPools.of(dataSource);
+        assertEquals(orderShards.getShardCount(), pools.size());
+        assertTrue(pools.stream().allMatch(pool -> pool.getLeakDetectionThreshold() == 30_000
+            && pool.getMinimumIdle() == pool.getMaximumPoolSize()));
+        for (int shard = 0; shard < orderShards.getShardCount(); shard++) {
+            mockMvc.perform(get("/actuator/metrics/hikaricp.connections.max").param("tag", "pool:orders-shard-" + shard))
+                .andExpect(status().isOk());
+        }
+        mockMvc.perform(get("/actuator/metrics/hikaricp.connections.timeout").param("tag", "pool:orders-shard-0"))
+            .andExpect(status().isOk());
+    }
+
+    private long createOrder(String customerId, String productId) throws Exception {
+        CreateOrderRequest request = new CreateOrderRequest(customerId,
+            List.of(new OrderItemRequest(productId, 1, BigDecimal.valueOf(5.00))));
+        String body = mockMvc.perform(post("/api/v1/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+}
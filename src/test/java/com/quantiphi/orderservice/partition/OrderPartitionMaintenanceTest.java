@@ -0,0 +1,163 @@
+package com.quantiphi.orderservice.partition;
+
+import com.quantiphi.orderservice.shard.OrderShards;
+import com.quantiphi.orderservice.shard.ShardingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderPartitionMaintenanceTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-18T12:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private PartitioningProperties properties;
+    private OrderPartitionMaintenance maintenance;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PartitioningProperties();
+        maintenance = new OrderPartitionMaintenance(jdbcTemplate, new OrderShards(new ShardingProperties(), null),
+            properties, CLOCK);
+    }
+
+    @Test
+    void run_NoPartitions_CreatesCurrentAndUpcomingMonths() {
+        // Arrange
+        properties.setPremakeMonths(2);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), anyString())).thenReturn(false);
+
+        // Act
+        maintenance.run();
+
+        // Assert
+        ArgumentCaptor<String> statements = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(6)).execute(statements.capture());
+        assertEquals(String.format(
+                "create table if not exists orders_p2026_10 partition of orders for values from (%d) to (%d)",
+                OrderPartitions.lowerBound(YearMonth.of(2026, 10)), OrderPartitions.lowerBound(YearMonth.of(2026, 11))),
+            statements.getAllValues().get(0));
+        assertTrue(statements.getAllValues().get(1).startsWith("create table if not exists order_items_p2026_10 "
+            + "partition of order_items for values from"));
+        assertTrue(statements.getAllValues().get(5).startsWith("create table if not exists order_items_p2026_12 "));
+    }
+
+    @Test
+    void run_PartitionsPastRetention_ReleasesItemsBeforeDetachingOrders() throws SQLException {
+        // Arrange
+        properties.setDetachAfterMonths(12);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), anyString())).thenReturn(true);
+        givenPartitions(OrderPartitions.ITEMS_TABLE, "order_items_p2025_10", "order_items_p2025_11");
+        givenPartitions(OrderPartitions.ORDERS_TABLE, "orders_p2025_10", "orders_p2025_11");
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("order_items_p2025_10")))
+            .thenReturn(List.of("order_items_order_id_fkey"));
+
+        // Act
+        maintenance.run();
+
+        // Assert
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute("alter table order_items detach partition order_items_p2025_10 concurrently");
+        inOrder.verify(jdbcTemplate).execute("alter table order_items_p2025_10 drop constraint order_items_order_id_fkey");
+        inOrder.verify(jdbcTemplate).execute("alter table orders detach partition orders_p2025_10 concurrently");
+        verify(jdbcTemplate, times(3)).execute(anyString());
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void run_DropDetached_DropsItemsBeforeDetachingOrders() throws SQLException {
+        // Arrange
+        properties.setDetachAfterMonths(12);
+        properties.setDropDetached(true);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), anyString())).thenReturn(true);
+        givenPartitions(OrderPartitions.ITEMS_TABLE, "order_items_p2025_10");
+        givenPartitions(OrderPartitions.ORDERS_TABLE, "orders_p2025_10");
+
+        // Act
+        maintenance.run();
+
+        // Assert
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute("alter table order_items detach partition order_items_p2025_10 concurrently");
+        inOrder.verify(jdbcTemplate).execute("drop table order_items_p2025_10");
+        inOrder.verify(jdbcTemplate).execute("alter table orders detach partition orders_p2025_10 concurrently");
+        inOrder.verify(jdbcTemplate).execute("drop table orders_p2025_10");
+    }
+
+    @Test
+    void run_ItemsDetachFails_KeepsOrdersPartitionAttached() throws SQLException {
+        // Arrange
+        properties.setDetachAfterMonths(12);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), anyString())).thenReturn(true);
+        givenPartitions(OrderPartitions.ITEMS_TABLE, "order_items_p2025_10");
+        givenPartitions(OrderPartitions.ORDERS_TABLE, "orders_p2025_10");
+        doThrow(new CannotAcquireLockException("lock timeout"))
+            .when(jdbcTemplate).execute("alter table order_items detach partition order_items_p2025_10 concurrently");
+
+        // Act
+        maintenance.run();
+
+        // Assert
+        verify(jdbcTemplate, never()).execute(startsWith("alter table orders "));
+        verify(jdbcTemplate, never()).execute(contains("drop constraint"));
+    }
+
+    @Test
+    void run_InterruptedDetach_FinalizesIt() throws SQLException {
+        // Arrange
+        properties.setDetachAfterMonths(12);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), anyString())).thenReturn(true);
+        givenPartitions(OrderPartitions.ITEMS_TABLE);
+        ResultSet pending = mock(ResultSet.class);
+        when(pending.getString(1)).thenReturn("orders_p2025_10");
+        when(pending.getBoolean(2)).thenReturn(true);
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(pending);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(OrderPartitions.ORDERS_TABLE));
+
+        // Act
+        maintenance.run();
+
+        // Assert
+        verify(jdbcTemplate).execute("alter table orders detach partition orders_p2025_10 finalize");
+    }
+
+    private void givenPartitions(String table, String... partitions) throws SQLException {
+        ResultSet row = mock(ResultSet.class);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (String partition : partitions) {
+                when(row.getString(1)).thenReturn(partition);
+                handler.processRow(row);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(table));
+    }
+}
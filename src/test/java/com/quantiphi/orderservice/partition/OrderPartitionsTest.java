@@ -0,0 +1,44 @@
+package com.quantiphi.orderservice.partition;
+
+import com.quantiphi.orderservice.id.SnowflakeIdGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderPartitionsTest {
+
+    @Test
+    void lowerBound_CoversIdsAllocatedDuringTheMonth() {
+        // Arrange
+        YearMonth month = YearMonth.of(2026, 10);
+
+        // Act
+        long lower = OrderPartitions.lowerBound(month);
+        long upper = OrderPartitions.lowerBound(month.plusMonths(1));
+
+        // Assert
+        assertEquals(Instant.parse("2026-10-01T00:00:00Z"), SnowflakeIdGenerator.timestampOf(lower));
+        assertEquals(Instant.parse("2026-09-30T23:59:59.999Z"), SnowflakeIdGenerator.timestampOf(lower - 1));
+        assertEquals(Instant.parse("2026-10-31T23:59:59.999Z"), SnowflakeIdGenerator.timestampOf(upper - 1));
+        assertEquals(Instant.parse("2026-11-01T00:00:00Z"), SnowflakeIdGenerator.timestampOf(upper));
+    }
+
+    @Test
+    void monthOf_PartitionName_RoundTrips() {
+        // Arrange
+        YearMonth month = YearMonth.of(2027, 1);
+
+        // Act
+        String name = OrderPartitions.name(OrderPartitions.ITEMS_TABLE, month);
+
+        // Assert
+        assertEquals("order_items_p2027_01", name);
+        assertEquals(Optional.of(month), OrderPartitions.monthOf(OrderPartitions.ITEMS_TABLE, name));
+        assertEquals(Optional.empty(), OrderPartitions.monthOf(OrderPartitions.ORDERS_TABLE, name));
+        assertEquals(Optional.empty(), OrderPartitions.monthOf(OrderPartitions.ORDERS_TABLE, "orders_archive"));
+    }
+}
@@ -0,0 +1,97 @@
+package com.quantiphi.orderservice.ratelimit;
+
+import com.quantiphi.orderservice.exception.RateLimitExceededException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private RateLimitProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setPerClientEnabled(true);
+        properties.getTiers().put("standard", new RateLimitProperties.Tier(1, 2));
+        properties.getTiers().put("read", new RateLimitProperties.Tier(1, 1));
+        properties.setAssignments(Map.of("customer-vip", "premium"));
+    }
+
+    @Test
+    void acquireCreate_BeyondTier_ThrowsWithRetryAfter() {
+        // Arrange
+        OrderRateLimiter limiter = new OrderRateLimiter(properties, clock::get);
+        limiter.acquireCreate("customer-1");
+        limiter.acquireCreate("customer-1");
+
+        // Act
+        RateLimitExceededException ex = assertThrows(RateLimitExceededException.class,
+            () -> limiter.acquireCreate("customer-1"));
+
+        // Assert
+        assertEquals(1, ex.getRetryAfterSeconds());
+    }
+
+    @Test
+    void acquireCreate_AssignedTier_UsesThatTier() {
+        // Arrange
+        OrderRateLimiter limiter = new OrderRateLimiter(properties, clock::get);
+
+        // Act & Assert
+        for (int i = 0; i < 200; i++) {
+            limiter.acquireCreate("customer-vip");
+        }
+        assertThrows(RateLimitExceededException.class, () -> limiter.acquireCreate("customer-vip"));
+    }
+
+    @Test
+    void acquireStreamingCreate_BeyondTier_ThrowsIndependentlyOfCustomers() {
+        // Arrange
+        OrderRateLimiter limiter = new OrderRateLimiter(properties, clock::get);
+        limiter.acquireStreamingCreate("10.0.0.1");
+        limiter.acquireStreamingCreate("10.0.0.1");
+
+        // Act & Assert
+        assertThrows(RateLimitExceededException.class, () -> limiter.acquireStreamingCreate("10.0.0.1"));
+        limiter.acquireStreamingCreate("10.0.0.2");
+        limiter.acquireCreate("customer-1");
+    }
+
+    @Test
+    void acquireCreate_Disabled_NeverThrows() {
+        // Arrange
+        properties.setEnabled(false);
+        OrderRateLimiter limiter = new OrderRateLimiter(properties, clock::get);
+
+        // Act & Assert
+        for (int i = 0; i < 10; i++) {
+            limiter.acquireCreate("customer-1");
+        }
+    }
+
+    @Test
+    void acquireRead_PerClientLimitsOffByDefault_NeverThrows() {
+        // Arrange
+        OrderRateLimiter limiter = new OrderRateLimiter(new RateLimitProperties(), clock::get);
+
+        // Act & Assert
+        for (int i = 0; i < 500; i++) {
+            limiter.acquireRead("10.0.0.1");
+            limiter.acquireStreamingCreate("10.0.0.1");
+        }
+    }
+
+    @Test
+    void constructor_UnknownTier_Fails() {
+        properties.setAssignments(Map.of("customer-1", "gold"));
+
+        assertThrows(IllegalStateException.class, () -> new OrderRateLimiter(properties, clock::get));
+    }
+}
@@ -0,0 +1,111 @@
+package com.quantiphi.orderservice.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadRateLimitFilterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private ReadRateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setPerClientEnabled(true);
+        properties.getTiers().put("read", new RateLimitProperties.Tier(1, 1));
+        filter = new ReadRateLimitFilter(new OrderRateLimiter(properties, clock::get),
+            new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    void doFilter_ClientOverLimit_Returns429AndLetsWritesThrough() throws Exception {
+        // Arrange
+        filter.doFilter(read("10.0.0.1"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Act
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(read("10.0.0.1"), rejected, new MockFilterChain());
+        MockHttpServletResponse otherClient = new MockHttpServletResponse();
+        filter.doFilter(read("10.0.0.2"), otherClient, new MockFilterChain());
+        MockHttpServletResponse write = new MockHttpServletResponse();
+        MockHttpServletRequest post = new MockHttpServletRequest("POST", "/api/v1/orders");
+        post.setRemoteAddr("10.0.0.1");
+        filter.doFilter(post, write, new MockFilterChain());
+
+        // Assert
+        assertEquals(429, rejected.getStatus());
+        assertEquals("1", rejected.getHeader("Retry-After"));
+        assertEquals(200, otherClient.getStatus());
+        assertEquals(200, write.getStatus());
+    }
+
+    @Test
+    void doFilter_ClientIdHeader_DoesNotSelectTheBucket() throws Exception {
+        // Arrange
+        MockHttpServletRequest first = read("10.0.0.1");
+        first.addHeader("X-Client-Id", "client-a");
+        filter.doFilter(first, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Act
+        MockHttpServletRequest second = read("10.0.0.1");
+        second.addHeader("X-Client-Id", "client-b");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(second, response, new MockFilterChain());
+
+        // Assert
+        assertEquals(429, response.getStatus());
+    }
+
+    @Test
+    void doFilter_AuthenticatedClients_AreLimitedPerPrincipal() throws Exception {
+        // Arrange
+        filter.doFilter(read("10.0.0.1", "alice"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Act
+        MockHttpServletResponse otherPrincipal = new MockHttpServletResponse();
+        filter.doFilter(read("10.0.0.1", "bob"), otherPrincipal, new MockFilterChain());
+        MockHttpServletResponse samePrincipal = new MockHttpServletResponse();
+        filter.doFilter(read("10.0.0.9", "alice"), samePrincipal, new MockFilterChain());
+
+        // Assert
+        assertEquals(200, otherPrincipal.getStatus());
+        assertEquals(429, samePrincipal.getStatus());
+    }
+
+    @Test
+    void doFilter_MultiGet_CountsAsRead() throws Exception {
+        // Arrange
+        filter.doFilter(read("10.0.0.1"), new MockHttpServletResponse(), new MockFilterChain());
+        MockHttpServletRequest multiGet = new MockHttpServletRequest("POST", "/api/v1/orders/_mget");
+        multiGet.setRemoteAddr("10.0.0.1");
+
+        // Act
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(multiGet, response, new MockFilterChain());
+
+        // Assert
+        assertEquals(429, response.getStatus());
+    }
+
+    private static MockHttpServletRequest read(String remoteAddress) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/orders/1");
+        request.setRemoteAddr(remoteAddress);
+        return request;
+    }
+
+    private static MockHttpServletRequest read(String remoteAddress, String principal) {
+        MockHttpServletRequest request = read(remoteAddress);
+        request.setUserPrincipal(() -> principal);
+        return request;
+    }
+}
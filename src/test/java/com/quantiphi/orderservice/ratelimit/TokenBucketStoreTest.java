@@ -0,0 +1,96 @@
+package com.quantiphi.orderservice.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketStoreTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(42 * SECOND);
+    private final TokenBucketStore store = new TokenBucketStore(
+        key -> key.startsWith("vip") ? new RateLimitProperties.Tier(100, 10) : new RateLimitProperties.Tier(2, 3),
+        clock::get, 1000);
+
+    @Test
+    void tryAcquire_WithinBurst_AdmitsThenReturnsWait() {
+        // Act & Assert
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, store.tryAcquire("customer-1"));
+        }
+        assertEquals(SECOND / 2, store.tryAcquire("customer-1"));
+    }
+
+    @Test
+    void tryAcquire_AfterRefill_AdmitsAgain() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            store.tryAcquire("customer-1");
+        }
+
+        // Act
+        clock.addAndGet(SECOND / 2);
+
+        // Assert
+        assertEquals(0, store.tryAcquire("customer-1"));
+        assertTrue(store.tryAcquire("customer-1") > 0);
+    }
+
+    @Test
+    void tryAcquire_KeysAndTiers_AreIndependent() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            store.tryAcquire("customer-1");
+        }
+
+        // Act & Assert
+        assertEquals(0, store.tryAcquire("customer-2"));
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, store.tryAcquire("vip-1"));
+        }
+        assertTrue(store.tryAcquire("vip-1") > 0);
+    }
+
+    @Test
+    void evictIdle_DropsOnlyBucketsFullForTheIdleTimeout() {
+        // Arrange
+        store.tryAcquire("idle");
+        clock.addAndGet(60 * SECOND);
+        for (int i = 0; i < 3; i++) {
+            store.tryAcquire("busy");
+        }
+
+        // Act
+        int evicted = store.evictIdle(Duration.ofSeconds(30));
+
+        // Assert
+        assertEquals(1, evicted);
+        assertEquals(1, store.size());
+        assertTrue(store.tryAcquire("busy") > 0);
+    }
+
+    @Test
+    void tryAcquire_AtCapacity_SharesOverflowBucketUntilFullBucketsAreSwept() {
+        // Arrange
+        TokenBucketStore capped = new TokenBucketStore(key -> new RateLimitProperties.Tier(2, 3), clock::get, 2);
+        for (int i = 0; i < 3; i++) {
+            capped.tryAcquire("client-a");
+            capped.tryAcquire("client-b");
+        }
+
+        // Act & Assert
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, capped.tryAcquire("client-c" + i));
+        }
+        assertTrue(capped.tryAcquire("client-d") > 0);
+        assertEquals(2, capped.size());
+
+        clock.addAndGet(2 * SECOND);
+        assertEquals(0, capped.tryAcquire("client-e"));
+        assertEquals(1, capped.size());
+    }
+}
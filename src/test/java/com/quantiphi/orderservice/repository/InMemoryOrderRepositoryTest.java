@@ -0,0 +1,181 @@
+package com.quantiphi.orderservice.repository;
+
+import com.quantiphi.orderservice.domain.Order;
+import com.quantiphi.orderservice.domain.OrderItem;
+import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.id.SnowflakeIdGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryOrderRepositoryTest {
+
+    private InMemoryOrderRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryOrderRepository(new SnowflakeIdGenerator(1));
+    }
+
+    @Test
+    void save_NewOrder_AssignsIdsAndVersionAndStoresACopy() {
+        // Arrange
+        Order order = newOrder("customer-1");
+
+        // Act
+        Order saved = repository.save(order);
+        order.updateStatus(OrderStatus.PROCESSING);
+
+        // Assert
+        assertNotNull(saved.getId());
+        assertEquals(0L, saved.getVersion());
+        assertTrue(saved.getItems().stream().allMatch(item -> item.getId() != null));
+        Order found = repository.findById(saved.getId()).orElseThrow();
+        assertEquals(OrderStatus.CREATED, found.getStatus());
+        assertEquals(2, found.getItems().size());
+        assertSame(found, found.getItems().get(0).getOrder());
+    }
+
+    @Test
+    void save_UpdatedOrder_IncrementsVersionAndMovesStatusIndex() {
+        // Arrange
+        Long id = repository.save(newOrder("customer-1")).getId();
+        Order order = repository.findById(id).orElseThrow();
+        order.updateStatus(OrderStatus.PROCESSING);
+
+        // Act
+        repository.save(order);
+
+        // Assert
+        assertEquals(Long.valueOf(1L), repository.findVersionById(id).orElseThrow());
+        assertTrue(repository.findPendingOrderRefs(OrderStatus.CREATED, PageRequest.of(0, 10)).isEmpty());
+        assertEquals(List.of(id), repository.findPendingOrderRefs(OrderStatus.PROCESSING, PageRequest.of(0, 10))
+            .stream().map(PendingOrderRef::getOrderId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void save_StaleVersion_ThrowsOptimisticLockingFailure() {
+        // Arrange
+        Long id = repository.save(newOrder("customer-1")).getId();
+        Order first = repository.findById(id).orElseThrow();
+        Order second = repository.findById(id).orElseThrow();
+        first.updateStatus(OrderStatus.PROCESSING);
+        repository.save(first);
+        second.updateStatus(OrderStatus.CANCELLED);
+
+        // Act & Assert
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> repository.save(second));
+        assertEquals(OrderStatus.PROCESSING, repository.findById(id).orElseThrow().getStatus());
+    }
+
+    @Test
+    void findPendingOrderRefs_PagesByUpdateTimeThenId() {
+        // Arrange
+        List<Long> ids = repository.saveAll(List.of(newOrder("a"), newOrder("b"), newOrder("c"))).stream()
+            .sorted(Comparator.comparing(Order::getUpdatedAt).thenComparing(Order::getId))
+            .map(Order::getId)
+            .collect(Collectors.toList());
+
+        // Act
+        List<PendingOrderRef> firstPage = repository.findPendingOrderRefs(OrderStatus.CREATED, PageRequest.of(0, 2));
+        PendingOrderRef last = firstPage.get(1);
+        List<PendingOrderRef> rest = repository.findPendingOrderRefsAfter(
+            OrderStatus.CREATED, last.getUpdatedAt(), last.getOrderId(), PageRequest.of(0, 2));
+
+        // Assert
+        assertEquals(ids.subList(0, 2), firstPage.stream().map(PendingOrderRef::getOrderId).collect(Collectors.toList()));
+        assertEquals(ids.subList(2, 3), rest.stream().map(PendingOrderRef::getOrderId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void deleteAllByIdIn_RemovesOrdersFromIndexes() {
+        // Arrange
+        Order kept = repository.save(newOrder("customer-1"));
+        Order removed = repository.save(newOrder("customer-2"));
+
+        // Act
+        int deleted = repository.deleteAllByIdIn(List.of(removed.getId()));
+
+        // Assert
+        assertEquals(1, deleted);
+        assertEquals(1, repository.count());
+        assertEquals(Set.of("customer-1"), repository.findAllCustomerOrderRefs().stream()
+            .map(CustomerOrderRef::getCustomerId).collect(Collectors.toSet()));
+        assertEquals(List.of(kept.getId()), repository.findIdsByStatusInAndUpdatedAtBefore(
+            Set.of(OrderStatus.CREATED), LocalDateTime.now().plusMinutes(1), Long.MAX_VALUE, PageRequest.of(0, 10)));
+        assertEquals(2, repository.findAllProductOrderRefs().size());
+    }
+
+    @Test
+    void findAll_ExampleWithStringMatcher_ReturnsMatchingOrdersSorted() {
+        // Arrange
+        repository.save(newOrder("retail-1"));
+        repository.save(newOrder("wholesale-1"));
+        repository.save(newOrder("retail-2"));
+        Order cancelled = newOrder("retail-3");
+        cancelled.updateStatus(OrderStatus.CANCELLED);
+        repository.save(cancelled);
+        Example<Order> example = Example.of(new Order("RETAIL"), ExampleMatcher.matching()
+            .withIgnorePaths("totalPrice", "createdAt", "updatedAt")
+            .withMatcher("customerId", match -> match.startsWith().ignoreCase()));
+
+        // Act
+        List<Order> found = repository.findAll(example, Sort.by("customerId").descending());
+
+        // Assert
+        assertEquals(List.of("retail-2", "retail-1"), found.stream().map(Order::getCustomerId).toList());
+        assertEquals(2, repository.count(example));
+        assertTrue(repository.exists(example));
+    }
+
+    @Test
+    void findBy_ExamplePagedAndCounted_FollowsFluentQuery() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            repository.save(newOrder("customer-" + i));
+        }
+        Example<Order> example = Example.of(new Order("customer-"), ExampleMatcher.matching()
+            .withIgnorePaths("status", "totalPrice", "createdAt", "updatedAt")
+            .withStringMatcher(ExampleMatcher.StringMatcher.STARTING));
+
+        // Act
+        Page<Order> page = repository.findBy(example, query -> query.sortBy(Sort.by(Sort.Direction.DESC, "customerId"))
+            .page(PageRequest.of(1, 2)));
+        Order first = repository.findBy(example, query -> query.sortBy(Sort.by("customerId")).firstValue());
+
+        // Assert
+        assertEquals(5, page.getTotalElements());
+        assertEquals(List.of("customer-2", "customer-1"), page.map(Order::getCustomerId).getContent());
+        assertEquals("customer-0", first.getCustomerId());
+        assertThrows(IncorrectResultSizeDataAccessException.class, () -> repository.findOne(example));
+    }
+
+    @Test
+    void findAll_SortedByUnknownProperty_IsRejected() {
+        // Act & Assert
+        assertThrows(PropertyReferenceException.class, () -> repository.findAll(Sort.by("shippingAddress")));
+    }
+
+    private static Order newOrder(String customerId) {
+        Order order = new Order(customerId);
+        order.addItem(new OrderItem("A1", 2, new BigDecimal("10.00")));
+        order.addItem(new OrderItem("B2", 1, new BigDecimal("5.00")));
+        return order;
+    }
+}
@@ -0,0 +1,95 @@
+package com.quantiphi.orderservice.search;
+
+import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.event.OrderStatusChangedEvent;
+import com.quantiphi.orderservice.repository.CustomerOrderRef;
+import com.quantiphi.orderservice.repository.OrderRepository;
+import com.quantiphi.orderservice.repository.ProductOrderRef;
+import com.quantiphi.orderservice.shard.OrderShards;
+import com.quantiphi.orderservice.shard.ShardingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderSearchIndexTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private OrderSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(orderRepository.findAllProductOrderRefs()).thenReturn(List.of(
+            productRef("A1", 1L), productRef("B2", 1L), productRef("A1", 2L)));
+        when(orderRepository.findAllCustomerOrderRefs()).thenReturn(List.of(
+            customerRef(1L, "customer-1", OrderStatus.CREATED),
+            customerRef(2L, "customer-2", OrderStatus.COMPLETED)));
+
+        searchIndex = new OrderSearchIndex(orderRepository, new OrderShards(new ShardingProperties(), null));
+        searchIndex.rebuild();
+    }
+
+    @Test
+    void search_ByProduct_ReturnsAllOrdersContainingProduct() {
+        // Act & Assert
+        assertEquals(Set.of(1L, 2L), searchIndex.search("A1", null, null));
+        assertEquals(Set.of(1L), searchIndex.search("B2", null, null));
+        assertTrue(searchIndex.search("C3", null, null).isEmpty());
+    }
+
+    @Test
+    void search_ByProductAndCustomer_IntersectsCandidates() {
+        // Act & Assert
+        assertEquals(Set.of(2L), searchIndex.search("A1", "customer-2", null));
+    }
+
+    @Test
+    void onOrderStatusChanged_MovesOrderToNewStatus() {
+        // Act
+        searchIndex.onOrderStatusChanged(new OrderStatusChangedEvent(
+            1L, "customer-1", OrderStatus.CREATED, OrderStatus.PROCESSING, LocalDateTime.now()));
+
+        // Assert
+        assertTrue(searchIndex.search(null, "customer-1", OrderStatus.CREATED).isEmpty());
+        assertEquals(Set.of(1L), searchIndex.search(null, "customer-1", OrderStatus.PROCESSING));
+    }
+
+    private static ProductOrderRef productRef(String productId, Long orderId) {
+        return new ProductOrderRef() {
+            public String getProductId() {
+                return productId;
+            }
+
+            public Long getOrderId() {
+                return orderId;
+            }
+        };
+    }
+
+    private static CustomerOrderRef customerRef(Long orderId, String customerId, OrderStatus status) {
+        return new CustomerOrderRef() {
+            public Long getOrderId() {
+                return orderId;
+            }
+
+            public String getCustomerId() {
+                return customerId;
+            }
+
+            public OrderStatus getStatus() {
+                return status;
+            }
+        };
+    }
+}
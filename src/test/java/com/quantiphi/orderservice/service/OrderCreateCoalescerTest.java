@@ -0,0 +1,195 @@
+package com.quantiphi.orderservice.service;
+
+import com.quantiphi.orderservice.dto.CreateOrderRequest;
+import com.quantiphi.orderservice.dto.OrderItemRequest;
+import com.quantiphi.orderservice.dto.OrderResponse;
+import com.quantiphi.orderservice.shard.OrderShards;
+import com.quantiphi.orderservice.shard.ShardingProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderCreateCoalescerTest {
+
+    @Mock
+    private OrderService orderService;
+
+    private OrderCreateCoalescer coalescer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (coalescer != null) {
+            coalescer.stop();
+        }
+    }
+
+    @Test
+    void submit_FullBatch_CommitsOnceAndCompletesEachCaller() throws Exception {
+        // Arrange
+        start(4, Duration.ofMinutes(1));
+        when(orderService.createOrders(anyList())).thenAnswer(invocation -> responses(invocation.getArgument(0)));
+
+        // Act
+        List<CompletableFuture<OrderResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(coalescer.submit(request("customer-" + i)));
+        }
+
+        // Assert
+        for (int i = 0; i < 4; i++) {
+            assertEquals("customer-" + i, futures.get(i).get(5, TimeUnit.SECONDS).getCustomerId());
+        }
+        verify(orderService, times(1)).createOrders(anyList());
+    }
+
+    @Test
+    void submit_PartialBatch_CommitsAfterMaxDelay() throws Exception {
+        // Arrange
+        start(4, Duration.ofMillis(20));
+        CountDownLatch committed = new CountDownLatch(1);
+        when(orderService.createOrders(anyList())).thenAnswer(invocation -> {
+            committed.countDown();
+            return responses(invocation.getArgument(0));
+        });
+
+        CreateOrderRequest request = request("customer-1");
+
+        // Act
+        CompletableFuture<OrderResponse> future = coalescer.submit(request);
+
+        // Assert
+        assertTrue(committed.await(5, TimeUnit.SECONDS));
+        assertEquals("customer-1", future.get(5, TimeUnit.SECONDS).getCustomerId());
+        verify(orderService).createOrders(List.of(request));
+    }
+
+    @Test
+    void submit_WhileBatchCommits_QueuesForNextBatch() throws Exception {
+        // Arrange
+        start(2, Duration.ofMinutes(1));
+        CountDownLatch committing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(orderService.createOrders(anyList())).thenAnswer(invocation -> {
+            committing.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return responses(invocation.getArgument(0));
+        });
+        List<CreateOrderRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            requests.add(request("customer-" + i));
+        }
+        List<CompletableFuture<OrderResponse>> futures = new ArrayList<>();
+        futures.add(coalescer.submit(requests.get(0)));
+        futures.add(coalescer.submit(requests.get(1)));
+        assertTrue(committing.await(5, TimeUnit.SECONDS));
+
+        // Act
+        futures.add(coalescer.submit(requests.get(2)));
+        futures.add(coalescer.submit(requests.get(3)));
+        release.countDown();
+
+        // Assert
+        for (int i = 0; i < 4; i++) {
+            assertEquals("customer-" + i, futures.get(i).get(5, TimeUnit.SECONDS).getCustomerId());
+        }
+        verify(orderService).createOrders(requests.subList(0, 2));
+        verify(orderService).createOrders(requests.subList(2, 4));
+    }
+
+    @Test
+    void submit_BatchFails_RetriesIndividuallyAndIsolatesFailure() throws Exception {
+        // Arrange
+        start(2, Duration.ofMinutes(1));
+        CreateOrderRequest good = request("customer-good");
+        CreateOrderRequest bad = request("customer-bad");
+        when(orderService.createOrders(anyList())).thenThrow(new IllegalStateException("constraint violated"));
+        when(orderService.createOrder(good)).thenReturn(response("customer-good"));
+        when(orderService.createOrder(bad)).thenThrow(new IllegalStateException("constraint violated"));
+
+        // Act
+        CompletableFuture<OrderResponse> goodFuture = coalescer.submit(good);
+        CompletableFuture<OrderResponse> badFuture = coalescer.submit(bad);
+
+        // Assert
+        assertEquals("customer-good", goodFuture.get(5, TimeUnit.SECONDS).getCustomerId());
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> badFuture.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+        verify(orderService, times(2)).createOrder(any(CreateOrderRequest.class));
+    }
+
+    @Test
+    void stop_PendingCreate_IsCommittedBeforeWriterExits() throws Exception {
+        // Arrange
+        start(4, Duration.ofMinutes(1));
+        when(orderService.createOrders(anyList())).thenAnswer(invocation -> responses(invocation.getArgument(0)));
+        CompletableFuture<OrderResponse> future = coalescer.submit(request("customer-1"));
+
+        // Act
+        coalescer.stop();
+
+        // Assert
+        assertTrue(future.isDone());
+        assertEquals("customer-1", future.get().getCustomerId());
+    }
+
+    @Test
+    void submit_AfterStop_IsRejected() throws Exception {
+        // Arrange
+        start(4, Duration.ofMinutes(1));
+        coalescer.stop();
+
+        // Act
+        CompletableFuture<OrderResponse> future = coalescer.submit(request("customer-1"));
+
+        // Assert
+        assertTrue(future.isCompletedExceptionally());
+        ExecutionException failure = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(RejectedExecutionException.class, failure.getCause());
+        verifyNoInteractions(orderService);
+    }
+
+    private void start(int maxBatchSize, Duration maxDelay) {
+        GroupCommitProperties properties = new GroupCommitProperties();
+        properties.setEnabled(true);
+        properties.setMaxBatchSize(maxBatchSize);
+        properties.setMaxDelay(maxDelay);
+        coalescer = new OrderCreateCoalescer(orderService, new OrderShards(new ShardingProperties(), null), properties);
+        coalescer.start();
+    }
+
+    private static List<OrderResponse> responses(List<CreateOrderRequest> requests) {
+        List<OrderResponse> responses = new ArrayList<>();
+        for (CreateOrderRequest request : requests) {
+            responses.add(response(request.getCustomerId()));
+        }
+        return responses;
+    }
+
+    private static CreateOrderRequest request(String customerId) {
+        return new CreateOrderRequest(customerId, List.of(new OrderItemRequest("A1", 1, BigDecimal.TEN)));
+    }
+
+    private static OrderResponse response(String customerId) {
+        OrderResponse response = new OrderResponse();
+        response.setCustomerId(customerId);
+        return response;
+    }
+}
@@ -1,25 +1,43 @@
 package com.quantiphi.orderservice.service;
 
+import com.quantiphi.orderservice.archive.OrderArchive;
 import com.quantiphi.orderservice.domain.Order;
+import com.quantiphi.orderservice.domain.OrderItem;
 import com.quantiphi.orderservice.domain.OrderStatus;
 import com.quantiphi.orderservice.dto.CreateOrderRequest;
+import com.quantiphi.orderservice.dto.MultiGetOrdersResponse;
 import com.quantiphi.orderservice.dto.OrderItemRequest;
 import com.quantiphi.orderservice.dto.OrderResponse;
+import com.quantiphi.orderservice.event.OrderCreatedEvent;
+import com.quantiphi.orderservice.event.OrderStatusChangedEvent;
 import com.quantiphi.orderservice.exception.InvalidOrderStatusTransitionException;
+import com.quantiphi.orderservice.exception.InvalidSearchCriteriaException;
 import com.quantiphi.orderservice.exception.OrderNotFoundException;
+import com.quantiphi.orderservice.ingest.LineConsolidationProperties;
+import com.quantiphi.orderservice.ingest.OrderLineConsolidator;
 import com.quantiphi.orderservice.repository.OrderRepository;
+import com.quantiphi.orderservice.search.OrderSearchIndex;
+import com.quantiphi.orderservice.shard.OrderShards;
+import com.quantiphi.orderservice.shard.ShardingProperties;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +46,21 @@ class OrderServiceTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private OrderSearchIndex searchIndex;
+
+    @Mock
+    private OrderArchive orderArchive;
+
+    @Spy
+    private OrderShards orderShards = new OrderShards(new ShardingProperties(), null);
+
+    @Spy
+    private OrderLineConsolidator lineConsolidator = new OrderLineConsolidator(new LineConsolidationProperties());
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -58,6 +91,7 @@ class OrderServiceTest {
         assertEquals(new BigDecimal("40.00"), response.getTotalPrice());
         assertEquals(OrderStatus.CREATED, response.getStatus());
         verify(orderRepository, times(1)).save(any(Order.class));
+        verify(eventPublisher, times(1)).publishEvent(any(OrderCreatedEvent.class));
     }
 
     @Test
@@ -89,6 +123,23 @@ class OrderServiceTest {
         verify(orderRepository, times(1)).findById(orderId);
     }
 
+    @Test
+    void getOrder_ArchivedOrder_ReturnsArchivedResponse() {
+        // Arrange
+        Long orderId = 42L;
+        OrderResponse archived = new OrderResponse();
+        archived.setId(orderId);
+        archived.setStatus(OrderStatus.COMPLETED);
+        when(orderRepository.findById(orderId)).thenReturn(Optional.empty());
+        when(orderArchive.find(orderId)).thenReturn(Optional.of(archived));
+
+        // Act
+        OrderResponse response = orderService.getOrder(orderId);
+
+        // Assert
+        assertSame(archived, response);
+    }
+
     @Test
     void updateOrderStatus_ValidTransition_UpdatesStatus() {
         // Arrange
@@ -104,6 +155,7 @@ class OrderServiceTest {
         assertEquals(OrderStatus.PROCESSING, response.getStatus());
         verify(orderRepository, times(1)).findById(orderId);
         verify(orderRepository, times(1)).save(mockOrder);
+        verify(eventPublisher, times(1)).publishEvent(any(OrderStatusChangedEvent.class));
     }
 
     @Test
@@ -135,4 +187,95 @@ class OrderServiceTest {
         verify(orderRepository, times(1)).findById(orderId);
         verify(orderRepository, never()).save(any());
     }
+
+    @Test
+    void updateOrderStatus_ArchivedOrder_ThrowsInvalidTransition() {
+        // Arrange
+        Long orderId = 42L;
+        OrderResponse archived = new OrderResponse();
+        archived.setStatus(OrderStatus.COMPLETED);
+        when(orderRepository.findById(orderId)).thenReturn(Optional.empty());
+        when(orderArchive.find(orderId)).thenReturn(Optional.of(archived));
+
+        // Act & Assert
+        assertThrows(InvalidOrderStatusTransitionException.class,
+            () -> orderService.updateOrderStatus(orderId, OrderStatus.PROCESSING));
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    void searchOrders_ByCustomerAndStatus_FiltersStaleCandidates() {
+        // Arrange
+        Order matching = new Order("customer-123");
+        Order stale = new Order("customer-123");
+        stale.updateStatus(OrderStatus.PROCESSING);
+
+        when(searchIndex.search(null, "customer-123", OrderStatus.CREATED)).thenReturn(Set.of(1L, 2L));
+        when(orderRepository.findAllById(anyList())).thenReturn(List.of(matching, stale));
+
+        // Act
+        List<OrderResponse> results = orderService.searchOrders(null, "customer-123", OrderStatus.CREATED, 10);
+
+        // Assert
+        assertEquals(1, results.size());
+        assertEquals(OrderStatus.CREATED, results.get(0).getStatus());
+    }
+
+    @Test
+    void searchOrders_StaleCandidatesWithinLimit_LoadsFurtherCandidates() {
+        // Arrange
+        Order stale = new Order("customer-123");
+        stale.updateStatus(OrderStatus.PROCESSING);
+        stale.assignIdentity(3L, 1L, () -> 0L);
+        Order matching = new Order("customer-123");
+        matching.assignIdentity(2L, 0L, () -> 0L);
+
+        when(searchIndex.search(null, "customer-123", OrderStatus.CREATED)).thenReturn(Set.of(1L, 2L, 3L));
+        when(orderRepository.findAllById(List.of(3L))).thenReturn(List.of(stale));
+        when(orderRepository.findAllById(List.of(2L))).thenReturn(List.of(matching));
+
+        // Act
+        List<OrderResponse> results = orderService.searchOrders(null, "customer-123", OrderStatus.CREATED, 1);
+
+        // Assert
+        assertEquals(List.of(2L), results.stream().map(OrderResponse::getId).toList());
+        verify(orderRepository, never()).findAllById(List.of(1L));
+    }
+
+    @Test
+    void searchOrders_NoCriteria_ThrowsInvalidSearchCriteriaException() {
+        // Act & Assert
+        assertThrows(InvalidSearchCriteriaException.class,
+            () -> orderService.searchOrders(null, null, OrderStatus.CREATED, 10));
+        verifyNoInteractions(searchIndex, orderRepository);
+    }
+
+    @Test
+    void getOrders_LoadsOrdersAndItemsInTwoQueriesAndReportsMissing() {
+        // Arrange
+        AtomicLong itemIds = new AtomicLong();
+        Order first = new Order("customer-123");
+        first.addItem(new OrderItem("A1", 2, BigDecimal.valueOf(10.0)));
+        first.assignIdentity(1L, 0L, itemIds::incrementAndGet);
+        Order second = new Order("customer-456");
+        second.addItem(new OrderItem("B2", 1, BigDecimal.valueOf(20.0)));
+        second.addItem(new OrderItem("C3", 3, BigDecimal.valueOf(5.0)));
+        second.assignIdentity(2L, 0L, itemIds::incrementAndGet);
+        List<OrderItem> items = new ArrayList<>(first.getItems());
+        items.addAll(second.getItems());
+
+        when(orderRepository.findAllByIdIn(anyCollection())).thenReturn(List.of(second, first));
+        when(orderRepository.findItemsByOrderIdIn(anyCollection())).thenReturn(items);
+        when(orderArchive.find(3L)).thenReturn(Optional.empty());
+
+        // Act
+        MultiGetOrdersResponse response = orderService.getOrders(List.of(1L, 3L, 2L, 1L));
+
+        // Assert
+        assertEquals(List.of(1L, 2L), response.getOrders().stream().map(OrderResponse::getId).toList());
+        assertEquals(1, response.getOrders().get(0).getItems().size());
+        assertEquals(2, response.getOrders().get(1).getItems().size());
+        assertEquals(List.of(3L), response.getMissing());
+        verify(orderRepository, never()).findById(any());
+    }
 }
@@ -0,0 +1,119 @@
+package com.quantiphi.orderservice.shard;
+
+import com.quantiphi.orderservice.id.SnowflakeIdGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderShardsTest {
+
+    private OrderShards orderShards;
+
+    @BeforeEach
+    void setUp() {
+        ShardingProperties properties = new ShardingProperties();
+        properties.setEnabled(true);
+        for (int i = 0; i < 4; i++) {
+            properties.getShards().add(new ShardingProperties.Shard());
+        }
+        orderShards = new OrderShards(properties, new NoOpTransactionManager());
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderShards.shutdown();
+    }
+
+    @Test
+    void shardForCustomer_IsStableAndSpreadsCustomers() {
+        // Act
+        int[] customersPerShard = new int[4];
+        for (int i = 0; i < 4000; i++) {
+            customersPerShard[orderShards.shardForCustomer("customer-" + i)]++;
+        }
+
+        // Assert
+        assertEquals(orderShards.shardForCustomer("customer-7"), orderShards.shardForCustomer("customer-7"));
+        for (int count : customersPerShard) {
+            assertTrue(count > 800, "uneven spread: " + count);
+        }
+    }
+
+    @Test
+    void shardForOrder_ReadsShardEncodedInId() {
+        // Arrange
+        long id = new SnowflakeIdGenerator(OrderShards.nodeIdFor(3, 5)).nextId();
+
+        // Act & Assert
+        assertEquals(3, orderShards.shardForOrder(id));
+        assertEquals(3, OrderShards.shardOf(id));
+    }
+
+    @Test
+    void forOrderIds_GroupsIdsByShardAndRunsEachOnItsShard() {
+        // Arrange
+        List<Long> ids = IntStream.range(0, 4)
+            .mapToObj(shard -> new SnowflakeIdGenerator(OrderShards.nodeIdFor(shard, 0)).nextId())
+            .toList();
+        Map<Long, Integer> seenOnShard = new ConcurrentHashMap<>();
+
+        // Act
+        List<Long> results = orderShards.forOrderIds(ids, shardIds -> {
+            shardIds.forEach(id -> seenOnShard.put(id, ShardContext.current()));
+            return shardIds;
+        });
+
+        // Assert
+        assertEquals(ids, results);
+        ids.forEach(id -> assertEquals(OrderShards.shardOf(id), seenOnShard.get(id)));
+        assertNull(ShardContext.current());
+    }
+
+    @Test
+    void onAllShards_ConcatenatesResultsInShardOrder() {
+        // Act
+        List<Integer> shards = orderShards.onAllShards(() -> List.of(ShardContext.current()));
+
+        // Assert
+        assertEquals(List.of(0, 1, 2, 3), shards);
+    }
+
+    @Test
+    void onShard_NestedDifferentShard_Throws() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+            () -> orderShards.onShard(1, () -> orderShards.onShard(2, () -> null)));
+        assertNull(ShardContext.current());
+    }
+
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
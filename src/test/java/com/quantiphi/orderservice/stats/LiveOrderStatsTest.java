@@ -0,0 +1,107 @@
+package com.quantiphi.orderservice.stats;
+
+import com.quantiphi.orderservice.domain.Order;
+import com.quantiphi.orderservice.domain.OrderItem;
+import com.quantiphi.orderservice.domain.OrderStatus;
+import com.quantiphi.orderservice.dto.LiveOrderStatsResponse;
+import com.quantiphi.orderservice.event.OrderCreatedEvent;
+import com.quantiphi.orderservice.event.OrderStatusChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LiveOrderStatsTest {
+
+    private static final long START = 1_760_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(START);
+    private final LiveOrderStats stats = new LiveOrderStats(clock::get);
+
+    @Test
+    void snapshot_CountsCreatedOrdersRevenueAndTransitions() {
+        // Arrange
+        stats.onOrderCreated(new OrderCreatedEvent(order("19.99")));
+        clock.addAndGet(1_500);
+        stats.onOrderCreated(new OrderCreatedEvent(order("0.01")));
+        stats.onOrderStatusChanged(transition(OrderStatus.PROCESSING));
+        stats.onOrderStatusChanged(transition(OrderStatus.CANCELLED));
+        stats.onOrderStatusChanged(transition(OrderStatus.PROCESSING));
+
+        // Act
+        LiveOrderStatsResponse snapshot = stats.snapshot();
+
+        // Assert
+        for (LiveOrderStatsResponse.Window window : List.of(snapshot.getLastMinute(), snapshot.getLastHour())) {
+            assertEquals(2, window.getOrdersCreated());
+            assertEquals(new BigDecimal("20.00"), window.getRevenue());
+            assertEquals(2L, window.getTransitions().get(OrderStatus.PROCESSING));
+            assertEquals(1L, window.getTransitions().get(OrderStatus.CANCELLED));
+            assertEquals(0L, window.getTransitions().get(OrderStatus.COMPLETED));
+        }
+        assertEquals(2.0 / 60, snapshot.getLastMinute().getOrdersPerSecond(), 1e-9);
+        long[] perSecond = snapshot.getOrdersCreatedPerSecond();
+        assertEquals(60, perSecond.length);
+        assertEquals(1, perSecond[59]);
+        assertEquals(1, perSecond[58]);
+    }
+
+    @Test
+    void snapshot_OldActivity_LeavesWindows() {
+        // Arrange
+        stats.onOrderCreated(new OrderCreatedEvent(order("5.00")));
+
+        // Act & Assert
+        clock.addAndGet(61_000);
+        assertEquals(0, stats.snapshot().getLastMinute().getOrdersCreated());
+        assertEquals(1, stats.snapshot().getLastHour().getOrdersCreated());
+
+        clock.addAndGet(60 * 60_000);
+        assertEquals(0, stats.snapshot().getLastHour().getOrdersCreated());
+        assertEquals(BigDecimal.valueOf(0, 2), stats.snapshot().getLastHour().getRevenue());
+    }
+
+    @Test
+    void onOrderCreated_ConcurrentWritersAcrossBuckets_LosesNoCounts() throws Exception {
+        // Arrange
+        int threads = 4;
+        int ordersPerThread = 10_000;
+        Order order = order("1.00");
+        LiveOrderStats ticking = new LiveOrderStats(() -> clock.getAndIncrement());
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            writers.add(new Thread(() -> {
+                for (int i = 0; i < ordersPerThread; i++) {
+                    ticking.onOrderCreated(new OrderCreatedEvent(order));
+                }
+            }));
+        }
+
+        // Act
+        writers.forEach(Thread::start);
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        // Assert
+        LiveOrderStatsResponse snapshot = ticking.snapshot();
+        assertEquals(threads * ordersPerThread, snapshot.getLastMinute().getOrdersCreated());
+        assertEquals(threads * ordersPerThread, snapshot.getLastHour().getOrdersCreated());
+        assertEquals(BigDecimal.valueOf(threads * ordersPerThread * 100L, 2), snapshot.getLastHour().getRevenue());
+    }
+
+    private static Order order(String price) {
+        Order order = new Order("customer-stats");
+        order.addItem(new OrderItem("STATS-1", 1, new BigDecimal(price)));
+        return order;
+    }
+
+    private static OrderStatusChangedEvent transition(OrderStatus to) {
+        return new OrderStatusChangedEvent(1L, "customer-stats", OrderStatus.CREATED, to, LocalDateTime.now());
+    }
+}